@@ -0,0 +1,14 @@
+package com.axeldev;
+
+import java.io.IOException;
+
+/**
+ * Corps de réponse plus grand que la taille maximale configurée
+ */
+final class BodyTooLargeException extends IOException {
+    private static final long serialVersionUID = 1L;
+
+    BodyTooLargeException(long maxBytes) {
+        super("Corps de réponse supérieur à " + maxBytes + " octets");
+    }
+}
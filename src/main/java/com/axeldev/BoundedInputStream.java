@@ -0,0 +1,65 @@
+package com.axeldev;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Flux qui échoue avec BodyTooLargeException dès que plus de maxBytes octets ont été lus
+ */
+final class BoundedInputStream extends FilterInputStream {
+    private final long maxBytes;
+    private long count;
+
+    /**
+     * @param maxBytes Nombre maximal d'octets lus (0 = pas de limite)
+     */
+    BoundedInputStream(InputStream in, long maxBytes) {
+        super(in);
+        this.maxBytes = maxBytes;
+    }
+
+    @Override
+    public int read() throws IOException {
+        int b = super.read();
+        if (b >= 0) {
+            count(1);
+        }
+        return b;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        int n = super.read(b, off, len);
+        if (n > 0) {
+            count(n);
+        }
+        return n;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        long skipped = super.skip(n);
+        count(skipped);
+        return skipped;
+    }
+
+    /**
+     * Retourne le nombre d'octets lus jusqu'ici
+     */
+    long count() {
+        return count;
+    }
+
+    @Override
+    public boolean markSupported() {
+        return false;
+    }
+
+    private void count(long n) throws BodyTooLargeException {
+        count += n;
+        if (maxBytes > 0 && count > maxBytes) {
+            throw new BodyTooLargeException(maxBytes);
+        }
+    }
+}
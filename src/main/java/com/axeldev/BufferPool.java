@@ -0,0 +1,131 @@
+package com.axeldev;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Pool borné de tableaux d'octets pour lire les corps de réponse sans réallouer
+ * à chaque téléchargement. Les tableaux sont rangés par classe de taille (puissances de deux
+ * à partir de 8 Ko): un corps de taille inconnue commence dans le plus grand tableau disponible,
+ * et s'il doit grandir, le tableau suivant est lui aussi pris dans le pool.
+ * Pool plein, un tableau rendu remplace un tableau plus petit. Ceux qui dépassent la taille
+ * maximale ne sont pas conservés, la mémoire retenue est donc au plus capacity * maxBufferBytes.
+ */
+class BufferPool {
+    static final int INITIAL_BUFFER_SIZE = 8192;
+
+    // Une file par classe de taille: la classe i contient des tableaux d'au moins INITIAL_BUFFER_SIZE << i octets
+    private final List<ArrayBlockingQueue<byte[]>> classes;
+    private final AtomicInteger pooled = new AtomicInteger();
+    private final int capacity;
+    private final int maxBufferBytes;
+
+    /**
+     * @param capacity Nombre maximal de tableaux conservés (au moins 1)
+     * @param maxBufferBytes Taille au-delà de laquelle un tableau n'est pas conservé
+     */
+    BufferPool(int capacity, int maxBufferBytes) {
+        this.capacity = Math.max(1, capacity);
+        this.maxBufferBytes = maxBufferBytes;
+        int count = sizeClass(Math.max(INITIAL_BUFFER_SIZE, maxBufferBytes)) + 1;
+        List<ArrayBlockingQueue<byte[]>> queues = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            queues.add(new ArrayBlockingQueue<>(this.capacity));
+        }
+        this.classes = List.copyOf(queues);
+    }
+
+    /**
+     * Retourne le plus grand tableau du pool, ou un nouveau tableau si le pool est vide
+     */
+    byte[] acquire() {
+        for (int i = classes.size() - 1; i >= 0; i--) {
+            byte[] buffer = poll(i);
+            if (buffer != null) {
+                return buffer;
+            }
+        }
+        return new byte[INITIAL_BUFFER_SIZE];
+    }
+
+    /**
+     * Retourne le plus petit tableau du pool d'au moins minBytes octets,
+     * ou un nouveau tableau de la classe de taille correspondante
+     */
+    byte[] acquire(int minBytes) {
+        int first = ceilSizeClass(minBytes);
+        for (int i = first; i < classes.size(); i++) {
+            byte[] buffer = poll(i);
+            if (buffer != null) {
+                return buffer;
+            }
+        }
+        long size = (long) INITIAL_BUFFER_SIZE << Math.min(first, 30);
+        return new byte[(int) Math.min(Math.max(size, minBytes), Integer.MAX_VALUE - 8)];
+    }
+
+    private byte[] poll(int sizeClass) {
+        byte[] buffer = classes.get(sizeClass).poll();
+        if (buffer != null) {
+            pooled.decrementAndGet();
+        }
+        return buffer;
+    }
+
+    /**
+     * Rend un tableau au pool; il est abandonné s'il est trop grand, ou si le pool est plein
+     * et ne contient pas de tableau plus petit à remplacer
+     */
+    void release(byte[] buffer) {
+        if (buffer == null || buffer.length > maxBufferBytes || buffer.length < INITIAL_BUFFER_SIZE) {
+            return;
+        }
+        int sizeClass = sizeClass(buffer.length);
+        if (pooled.incrementAndGet() > capacity && !evictSmaller(sizeClass)) {
+            pooled.decrementAndGet();
+            return;
+        }
+        if (!classes.get(sizeClass).offer(buffer)) {
+            pooled.decrementAndGet();
+        }
+    }
+
+    /**
+     * Retire le plus petit tableau d'une classe inférieure: garder les grands tableaux
+     * évite de réallouer quand les flux lus dépassent la taille initiale
+     */
+    private boolean evictSmaller(int sizeClass) {
+        for (int i = 0; i < sizeClass; i++) {
+            if (poll(i) != null) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Retourne le nombre de tableaux disponibles
+     */
+    int available() {
+        return pooled.get();
+    }
+
+    /**
+     * Classe des tableaux de taille size: la plus grande dont la taille minimale ne dépasse pas size
+     */
+    private static int sizeClass(int size) {
+        return 31 - Integer.numberOfLeadingZeros(size / INITIAL_BUFFER_SIZE);
+    }
+
+    /**
+     * Première classe dont tous les tableaux font au moins minBytes octets
+     */
+    private static int ceilSizeClass(int minBytes) {
+        if (minBytes <= INITIAL_BUFFER_SIZE) {
+            return 0;
+        }
+        return 32 - Integer.numberOfLeadingZeros((minBytes - 1) / INITIAL_BUFFER_SIZE);
+    }
+}
@@ -0,0 +1,80 @@
+package com.axeldev;
+
+/**
+ * Flux en cache et ses métadonnées, figés au moment de la lecture
+ */
+public final class CacheEntry {
+    private final String url;
+    private final FeedResult result;
+    private final long storedAt;
+    private final long expiresAt;
+    private final long estimatedBytes;
+    private final long now;
+
+    CacheEntry(String url, FeedResult result, long storedAt, long expiresAt, long estimatedBytes, long now) {
+        this.url = url;
+        this.result = result;
+        this.storedAt = storedAt;
+        this.expiresAt = expiresAt;
+        this.estimatedBytes = estimatedBytes;
+        this.now = now;
+    }
+
+    public String getUrl() {
+        return url;
+    }
+
+    public RssFeed getFeed() {
+        return result.getFeed();
+    }
+
+    /**
+     * Retourne le résultat mis en cache (items ignorés compris)
+     */
+    public FeedResult getResult() {
+        return result;
+    }
+
+    /**
+     * Retourne la date de mise en cache, en millisecondes depuis l'epoch
+     */
+    public long getStoredAt() {
+        return storedAt;
+    }
+
+    /**
+     * Retourne la date d'expiration, en millisecondes depuis l'epoch
+     */
+    public long getExpiresAt() {
+        return expiresAt;
+    }
+
+    /**
+     * Retourne l'âge de l'entrée au moment de la lecture
+     */
+    public long getAgeMs() {
+        return now - storedAt;
+    }
+
+    public boolean isExpired() {
+        return now > expiresAt;
+    }
+
+    public int getItemCount() {
+        return result.getFeed().getItems() != null ? result.getFeed().getItems().size() : 0;
+    }
+
+    /**
+     * Retourne une estimation haute de la mémoire retenue par le flux (les chaînes partagées
+     * sont comptées à chaque utilisation)
+     */
+    public long getEstimatedBytes() {
+        return estimatedBytes;
+    }
+
+    @Override
+    public String toString() {
+        return "CacheEntry[url=" + url + ", items=" + getItemCount() + ", ageMs=" + getAgeMs()
+            + ", estimatedBytes=" + estimatedBytes + ", expired=" + isExpired() + "]";
+    }
+}
@@ -0,0 +1,23 @@
+package com.axeldev;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Événement JFR émis pour chaque consultation du cache
+ */
+@Name("com.axeldev.CacheLookup")
+@Label("Feed Cache Lookup")
+@Category("Feed4j")
+@Description("Consultation du cache des flux, chargement inclus en cas d'absence")
+final class CacheLookupEvent extends Event {
+
+    @Label("URL")
+    String url;
+
+    @Label("Hit")
+    boolean hit;
+}
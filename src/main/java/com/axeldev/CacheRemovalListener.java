@@ -0,0 +1,17 @@
+package com.axeldev;
+
+/**
+ * Notifié quand un flux quitte le cache
+ */
+@FunctionalInterface
+public interface CacheRemovalListener {
+
+    /**
+     * Appelé depuis le thread qui a modifié l'entrée, une fois la modification faite:
+     * le listener peut lire ou modifier le cache
+     * @param url URL du flux
+     * @param feed Version retirée
+     * @param cause Raison du retrait
+     */
+    void onRemoval(String url, RssFeed feed, RemovalCause cause);
+}
@@ -0,0 +1,176 @@
+package com.axeldev;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * Statistiques du cache à un instant donné: compteurs cumulés depuis sa création
+ * et état des entrées présentes
+ */
+public final class CacheStats {
+    // Bornes supérieures (exclues) des tranches d'âge, la dernière tranche n'a pas de borne
+    private static final long[] AGE_BUCKET_BOUNDS_MS = {60_000, 300_000, 900_000, 3_600_000, 21_600_000};
+
+    private final long hitCount;
+    private final long negativeHitCount;
+    private final long missCount;
+    private final long loadCount;
+    private final long totalLoadTimeNanos;
+    private final long evictionCount;
+    private final long removalCount;
+    private final int entryCount;
+    private final int expiredEntryCount;
+    private final int failureCount;
+    private final long estimatedBytes;
+    private final long oldestEntryAgeMs;
+    private final long[] ageHistogram;
+
+    CacheStats(long hitCount, long negativeHitCount, long missCount, long loadCount, long totalLoadTimeNanos, long evictionCount,
+               long removalCount, int entryCount, int expiredEntryCount, int failureCount, long estimatedBytes,
+               long oldestEntryAgeMs, long[] ageHistogram) {
+        this.hitCount = hitCount;
+        this.negativeHitCount = negativeHitCount;
+        this.missCount = missCount;
+        this.loadCount = loadCount;
+        this.totalLoadTimeNanos = totalLoadTimeNanos;
+        this.evictionCount = evictionCount;
+        this.removalCount = removalCount;
+        this.entryCount = entryCount;
+        this.expiredEntryCount = expiredEntryCount;
+        this.failureCount = failureCount;
+        this.estimatedBytes = estimatedBytes;
+        this.oldestEntryAgeMs = oldestEntryAgeMs;
+        this.ageHistogram = ageHistogram;
+    }
+
+    /**
+     * Retourne le nombre de lectures servies par un flux en cache
+     */
+    public long getHitCount() {
+        return hitCount;
+    }
+
+    /**
+     * Retourne le nombre de lectures servies par un échec conservé (sans nouvelle tentative)
+     */
+    public long getNegativeHitCount() {
+        return negativeHitCount;
+    }
+
+    /**
+     * Retourne le nombre de lectures qui ont dû charger le flux
+     */
+    public long getMissCount() {
+        return missCount;
+    }
+
+    /**
+     * Retourne la proportion de lectures servies par un flux en cache (1 si aucune lecture);
+     * les hits négatifs comptent comme des lectures non servies
+     */
+    public double getHitRate() {
+        long total = hitCount + negativeHitCount + missCount;
+        return total == 0 ? 1.0 : (double) hitCount / total;
+    }
+
+    public long getLoadCount() {
+        return loadCount;
+    }
+
+    public long getTotalLoadTimeNanos() {
+        return totalLoadTimeNanos;
+    }
+
+    /**
+     * Retourne la durée moyenne d'un chargement, en millisecondes
+     */
+    public double getAverageLoadTimeMs() {
+        return loadCount == 0 ? 0 : totalLoadTimeNanos / 1e6 / loadCount;
+    }
+
+    /**
+     * Retourne le nombre de flux retirés après leur expiration
+     */
+    public long getEvictionCount() {
+        return evictionCount;
+    }
+
+    /**
+     * Retourne le nombre de flux retirés explicitement (remove, clear)
+     */
+    public long getRemovalCount() {
+        return removalCount;
+    }
+
+    public int getEntryCount() {
+        return entryCount;
+    }
+
+    /**
+     * Retourne le nombre d'entrées expirées encore conservées (servies comme version périmée)
+     */
+    public int getExpiredEntryCount() {
+        return expiredEntryCount;
+    }
+
+    /**
+     * Retourne le nombre d'échecs conservés
+     */
+    public int getFailureCount() {
+        return failureCount;
+    }
+
+    /**
+     * Retourne l'estimation haute de la mémoire retenue par les flux en cache
+     */
+    public long getEstimatedBytes() {
+        return estimatedBytes;
+    }
+
+    /**
+     * Retourne l'âge de l'entrée la plus ancienne, 0 si le cache est vide
+     */
+    public long getOldestEntryAgeMs() {
+        return oldestEntryAgeMs;
+    }
+
+    /**
+     * Retourne le nombre d'entrées par tranche d'âge: moins d'une minute, de 5 minutes,
+     * de 15 minutes, d'une heure, de 6 heures, puis au-delà (voir getAgeBucketBoundsMs)
+     */
+    public long[] getAgeHistogram() {
+        return ageHistogram.clone();
+    }
+
+    /**
+     * Retourne les bornes supérieures (exclues) des tranches d'âge, en millisecondes
+     */
+    public static long[] getAgeBucketBoundsMs() {
+        return AGE_BUCKET_BOUNDS_MS.clone();
+    }
+
+    /**
+     * Tranche d'âge d'une entrée
+     */
+    static int ageBucket(long ageMs) {
+        int bucket = 0;
+        while (bucket < AGE_BUCKET_BOUNDS_MS.length && ageMs >= AGE_BUCKET_BOUNDS_MS[bucket]) {
+            bucket++;
+        }
+        return bucket;
+    }
+
+    static int ageBucketCount() {
+        return AGE_BUCKET_BOUNDS_MS.length + 1;
+    }
+
+    @Override
+    public String toString() {
+        return "CacheStats[hits=" + hitCount + ", negativeHits=" + negativeHitCount + ", misses=" + missCount
+            + ", hitRate=" + String.format(Locale.ROOT, "%.3f", getHitRate()) + ", loads=" + loadCount
+            + ", averageLoadTimeMs=" + String.format(Locale.ROOT, "%.1f", getAverageLoadTimeMs())
+            + ", evictions=" + evictionCount + ", removals=" + removalCount + ", entries=" + entryCount
+            + ", expired=" + expiredEntryCount + ", failures=" + failureCount + ", estimatedBytes=" + estimatedBytes
+            + ", ageHistogram=" + Arrays.toString(ageHistogram) + "]";
+    }
+}
@@ -0,0 +1,118 @@
+package com.axeldev;
+
+/**
+ * Accumule les champs d'un channel au fil d'un parcours unique de ses enfants directs,
+ * en DOM comme en flux (StAX)
+ */
+final class ChannelFields {
+    private String title;
+    private String link;
+    private String description;
+    private String ttl;
+    private String lastBuildDate;
+    private String imageUrl;
+    private String imageTitle;
+    private String imageLink;
+    private String imageWidth;
+    private String imageHeight;
+
+    /**
+     * Indique si le texte de cet enfant du channel est encore attendu
+     */
+    boolean wantsText(String name) {
+        switch (name) {
+            case "title":
+                return title == null;
+            case "link":
+                return link == null;
+            case "description":
+                return description == null;
+            case "ttl":
+                return ttl == null;
+            case "lastBuildDate":
+                return lastBuildDate == null;
+            default:
+                return false;
+        }
+    }
+
+    void text(String name, String value) {
+        switch (name) {
+            case "title":
+                title = value;
+                break;
+            case "link":
+                link = value;
+                break;
+            case "description":
+                description = value;
+                break;
+            case "ttl":
+                ttl = value;
+                break;
+            case "lastBuildDate":
+                lastBuildDate = value;
+                break;
+            default:
+                break;
+        }
+    }
+
+    /**
+     * Enregistre le texte d'un enfant de l'élément image
+     */
+    void imageText(String name, String value) {
+        switch (name) {
+            case "url":
+                imageUrl = ItemFields.trimToNull(value);
+                break;
+            case "title":
+                imageTitle = value;
+                break;
+            case "link":
+                imageLink = ItemFields.trimToNull(value);
+                break;
+            case "width":
+                imageWidth = value;
+                break;
+            case "height":
+                imageHeight = value;
+                break;
+            default:
+                break;
+        }
+    }
+
+    /**
+     * Indique si les champs obligatoires ont tous été lus
+     */
+    boolean isComplete() {
+        return title != null && link != null && description != null;
+    }
+
+    /**
+     * Construit le flux, sans ses items; titre, lien et description sont obligatoires
+     * @param pool Pool de déduplication des chaînes, ou null
+     */
+    RssFeed build(StringPool pool) throws FeedException {
+        RssFeed feed = new RssFeed();
+        feed.setTitle(Feed4j.dedup(pool, required(title, "title")));
+        feed.setLink(Feed4j.dedup(pool, required(link, "link")));
+        feed.setDescription(Feed4j.dedup(pool, required(description, "description")));
+        feed.setTtl(ItemFields.parseInt(ttl));
+        String buildDate = ItemFields.trimToNull(lastBuildDate);
+        feed.setLastBuildDate(buildDate != null ? Feed4j.parsePubDate(buildDate) : null);
+        if (imageUrl != null) {
+            feed.setImage(new RssImage(imageUrl, imageTitle, imageLink,
+                ItemFields.parseInt(imageWidth), ItemFields.parseInt(imageHeight)));
+        }
+        return feed;
+    }
+
+    private static String required(String value, String name) throws FeedException {
+        if (value == null) {
+            throw new FeedException(FeedFailure.of(FailureReason.INVALID_FEED, "Élément " + name + " absent"));
+        }
+        return value;
+    }
+}
@@ -0,0 +1,124 @@
+package com.axeldev;
+
+import java.util.function.LongSupplier;
+
+/**
+ * Disjoncteur pour un hôte, basé sur le taux d'appels en échec ou trop lents
+ * sur une fenêtre glissante des derniers appels
+ */
+class CircuitBreaker {
+    private final int windowSize;
+    private final int minimumCalls;
+    private final double failureRateThreshold;
+    private final long slowCallThresholdMs;
+    private final long openDurationMs;
+    private final LongSupplier clock;
+
+    // Fenêtre circulaire: true pour un appel en échec ou trop lent
+    private final boolean[] outcomes;
+    private int next;
+    private int recorded;
+    private int badCalls;
+
+    private CircuitState state = CircuitState.CLOSED;
+    private long openedAt;
+    private boolean trialInFlight;
+
+    CircuitBreaker(int windowSize, int minimumCalls, double failureRateThreshold,
+                   long slowCallThresholdMs, long openDurationMs) {
+        this(windowSize, minimumCalls, failureRateThreshold, slowCallThresholdMs, openDurationMs,
+            System::currentTimeMillis);
+    }
+
+    CircuitBreaker(int windowSize, int minimumCalls, double failureRateThreshold,
+                   long slowCallThresholdMs, long openDurationMs, LongSupplier clock) {
+        this.windowSize = Math.max(1, windowSize);
+        this.minimumCalls = Math.max(1, Math.min(minimumCalls, this.windowSize));
+        this.failureRateThreshold = failureRateThreshold;
+        this.slowCallThresholdMs = slowCallThresholdMs;
+        this.openDurationMs = openDurationMs;
+        this.clock = clock;
+        this.outcomes = new boolean[this.windowSize];
+    }
+
+    /**
+     * Indique si un appel peut être tenté; en période d'essai un seul appel est autorisé à la fois
+     */
+    synchronized boolean tryAcquire() {
+        if (state == CircuitState.OPEN) {
+            if (clock.getAsLong() - openedAt < openDurationMs) {
+                return false;
+            }
+            state = CircuitState.HALF_OPEN;
+            trialInFlight = false;
+        }
+        if (state == CircuitState.HALF_OPEN) {
+            if (trialInFlight) {
+                return false;
+            }
+            trialInFlight = true;
+        }
+        return true;
+    }
+
+    /**
+     * Enregistre le résultat d'un appel autorisé par tryAcquire
+     * @param failed true si l'hôte n'a pas répondu correctement
+     * @param durationMs Durée de l'appel
+     */
+    synchronized void record(boolean failed, long durationMs) {
+        boolean bad = failed || durationMs >= slowCallThresholdMs;
+        if (state == CircuitState.HALF_OPEN) {
+            trialInFlight = false;
+            if (bad) {
+                open();
+            } else {
+                close();
+            }
+            return;
+        }
+        if (state == CircuitState.OPEN) {
+            // Appel commencé avant l'ouverture
+            return;
+        }
+
+        if (recorded == windowSize) {
+            if (outcomes[next]) {
+                badCalls--;
+            }
+        } else {
+            recorded++;
+        }
+        outcomes[next] = bad;
+        if (bad) {
+            badCalls++;
+        }
+        next = (next + 1) % windowSize;
+
+        if (recorded >= minimumCalls && badCalls >= failureRateThreshold * recorded) {
+            open();
+        }
+    }
+
+    /**
+     * Retourne l'état courant, HALF_OPEN dès que la durée d'ouverture est écoulée
+     */
+    synchronized CircuitState getState() {
+        if (state == CircuitState.OPEN && clock.getAsLong() - openedAt >= openDurationMs) {
+            return CircuitState.HALF_OPEN;
+        }
+        return state;
+    }
+
+    private void open() {
+        state = CircuitState.OPEN;
+        openedAt = clock.getAsLong();
+    }
+
+    private void close() {
+        state = CircuitState.CLOSED;
+        next = 0;
+        recorded = 0;
+        badCalls = 0;
+    }
+}
@@ -0,0 +1,13 @@
+package com.axeldev;
+
+/**
+ * État du disjoncteur associé à un hôte
+ */
+public enum CircuitState {
+    /** Les requêtes passent normalement */
+    CLOSED,
+    /** L'hôte est considéré indisponible: les requêtes échouent immédiatement */
+    OPEN,
+    /** Période d'essai: une requête est autorisée pour tester l'hôte */
+    HALF_OPEN
+}
@@ -0,0 +1,13 @@
+package com.axeldev;
+
+/**
+ * Forme sous laquelle les descriptions des items sont conservées
+ */
+public enum DescriptionMode {
+    /** Description conservée telle que lue dans le flux */
+    RAW,
+    /** Texte brut: balises retirées, entités décodées, espaces regroupés */
+    TEXT,
+    /** HTML assaini: balises de formatage courantes uniquement, URL dangereuses retirées */
+    SANITIZED
+}
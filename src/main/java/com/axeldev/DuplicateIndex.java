@@ -0,0 +1,171 @@
+package com.axeldev;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Index borné des items déjà vus, pour reconnaître un même article publié par plusieurs flux.
+ * Deux items sont des doublons si leurs liens canoniques sont égaux, ou si les empreintes
+ * SimHash de leur titre et description diffèrent d'au plus maxDistance bits. Les empreintes
+ * sont découpées en 4 bandes de 16 bits: deux empreintes à distance 3 ou moins ont au moins
+ * une bande identique, seule une poignée de candidats est donc comparée.
+ * Quand l'index est plein, les entrées les plus anciennes sont oubliées.
+ *
+ * L'index est partagé par les threads de lecture sans verrou global: les liens sont réservés
+ * par putIfAbsent, les bandes sont des tableaux immuables remplacés atomiquement. Deux textes
+ * presque identiques ajoutés au même instant par deux flux peuvent tous deux être retenus.
+ *
+ * Seuls le lien et l'empreinte de chaque item sont retenus, pas l'item lui-même: un item
+ * sorti du cache n'est pas gardé en mémoire par l'index. Les bandes sont indexées par un
+ * tableau de 4 * 65536 cases (environ 1 Mo) alloué une fois, sans clé boxée par entrée.
+ */
+class DuplicateIndex {
+    private static final int BANDS = 4;
+    private static final int BAND_VALUES = 1 << 16;
+    private static final Entry[] NO_ENTRIES = new Entry[0];
+
+    private final int capacity;
+    private final int maxDistance;
+    // Ordre d'ajout: les entrées les plus anciennes sont en tête
+    private final Queue<Entry> order = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger size = new AtomicInteger();
+    private final Map<String, Entry> byUrl = new ConcurrentHashMap<>();
+    // Case bandKey(empreinte, bande): entrées dont cette bande de l'empreinte a cette valeur, ou null
+    private final AtomicReferenceArray<Entry[]> buckets = new AtomicReferenceArray<>(BANDS * BAND_VALUES);
+
+    /**
+     * @param capacity Nombre maximal d'items retenus
+     * @param maxDistance Distance de Hamming maximale entre deux empreintes proches (0 à 3)
+     */
+    DuplicateIndex(int capacity, int maxDistance) {
+        this.capacity = Math.max(1, capacity);
+        this.maxDistance = Math.max(0, Math.min(3, maxDistance));
+    }
+
+    /**
+     * Cherche un item équivalent publié par un autre flux; si aucun n'est trouvé l'item est retenu
+     * @param feedUrl URL du flux de l'item
+     * @return Le lien de l'item vu en premier dont celui-ci est un doublon, ou null
+     */
+    String findOrAdd(String feedUrl, RssItem item) {
+        String canonical = UrlCanonicalizer.canonicalize(item.getLink());
+        if (canonical != null) {
+            Entry known = byUrl.get(canonical);
+            if (known != null) {
+                return known.feedUrl.equals(feedUrl) ? null : known.link;
+            }
+        }
+
+        long fingerprint = SimHash.fingerprint(item.getTitle(), item.getDescription());
+        if (fingerprint != 0) {
+            for (int band = 0; band < BANDS; band++) {
+                Entry[] bucket = buckets.get(bandKey(fingerprint, band));
+                for (Entry candidate : bucket != null ? bucket : NO_ENTRIES) {
+                    if (!candidate.feedUrl.equals(feedUrl)
+                            && SimHash.distance(candidate.fingerprint, fingerprint) <= maxDistance) {
+                        return candidate.link;
+                    }
+                }
+            }
+        }
+
+        Entry entry = new Entry(feedUrl, item.getLink(), canonical, fingerprint);
+        if (canonical != null) {
+            // Un autre thread a pu ajouter le même lien depuis la recherche
+            Entry known = byUrl.putIfAbsent(canonical, entry);
+            if (known != null) {
+                return known.feedUrl.equals(feedUrl) ? null : known.link;
+            }
+        }
+        add(entry);
+        return null;
+    }
+
+    /**
+     * Retourne le nombre d'items retenus
+     */
+    int size() {
+        return size.get();
+    }
+
+    private void add(Entry entry) {
+        if (entry.fingerprint != 0) {
+            for (int band = 0; band < BANDS; band++) {
+                buckets.updateAndGet(bandKey(entry.fingerprint, band), bucket -> with(bucket, entry));
+            }
+        }
+        // Mise en file une fois l'entrée complète: elle ne peut être oubliée qu'après
+        order.add(entry);
+        if (size.incrementAndGet() > capacity) {
+            Entry oldest = order.poll();
+            if (oldest != null) {
+                size.decrementAndGet();
+                forget(oldest);
+            }
+        }
+    }
+
+    private void forget(Entry entry) {
+        if (entry.canonicalUrl != null) {
+            byUrl.remove(entry.canonicalUrl, entry);
+        }
+        if (entry.fingerprint != 0) {
+            for (int band = 0; band < BANDS; band++) {
+                buckets.updateAndGet(bandKey(entry.fingerprint, band), bucket -> without(bucket, entry));
+            }
+        }
+    }
+
+    /**
+     * Retourne une copie du tableau avec l'entrée en plus (sans effet de bord: rejoué en cas de conflit)
+     */
+    private static Entry[] with(Entry[] bucket, Entry entry) {
+        if (bucket == null) {
+            return new Entry[] {entry};
+        }
+        Entry[] merged = Arrays.copyOf(bucket, bucket.length + 1);
+        merged[bucket.length] = entry;
+        return merged;
+    }
+
+    /**
+     * Retourne une copie du tableau sans l'entrée, ou null s'il ne reste rien
+     */
+    private static Entry[] without(Entry[] bucket, Entry entry) {
+        if (bucket == null) {
+            return null;
+        }
+        int kept = 0;
+        Entry[] remaining = new Entry[bucket.length];
+        for (Entry candidate : bucket) {
+            if (candidate != entry) {
+                remaining[kept++] = candidate;
+            }
+        }
+        return kept == 0 ? null : Arrays.copyOf(remaining, kept);
+    }
+
+    private static int bandKey(long fingerprint, int band) {
+        return band * BAND_VALUES + (int) ((fingerprint >>> (band * 16)) & 0xFFFF);
+    }
+
+    private static final class Entry {
+        final String feedUrl;
+        // Lien tel que publié, rendu pour RssItem.getDuplicateOf
+        final String link;
+        final String canonicalUrl;
+        final long fingerprint;
+
+        Entry(String feedUrl, String link, String canonicalUrl, long fingerprint) {
+            this.feedUrl = feedUrl;
+            this.link = link;
+            this.canonicalUrl = canonicalUrl;
+            this.fingerprint = fingerprint;
+        }
+    }
+}
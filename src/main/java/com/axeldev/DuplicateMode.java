@@ -0,0 +1,13 @@
+package com.axeldev;
+
+/**
+ * Traitement des items déjà vus dans un autre flux
+ */
+public enum DuplicateMode {
+    /** Pas de détection des doublons */
+    OFF,
+    /** Les doublons sont conservés et marqués (RssItem.getDuplicateOf) */
+    FLAG,
+    /** Les doublons sont retirés des items du flux */
+    COLLAPSE
+}
@@ -0,0 +1,27 @@
+package com.axeldev;
+
+/**
+ * Raison typée de l'échec de lecture d'un flux ou d'un item
+ */
+public enum FailureReason {
+    /** Délai de connexion ou de lecture dépassé */
+    TIMEOUT,
+    /** Erreur réseau (hôte inconnu, connexion refusée, TLS...) */
+    NETWORK_ERROR,
+    /** Le serveur a répondu avec un statut HTTP d'erreur */
+    HTTP_ERROR,
+    /** URL invalide ou protocole non supporté */
+    INVALID_URL,
+    /** Document XML mal formé */
+    MALFORMED_XML,
+    /** Document XML valide mais qui n'est pas un flux RSS exploitable */
+    INVALID_FEED,
+    /** Item RSS incomplet ou illisible */
+    INVALID_ITEM,
+    /** Le disjoncteur de l'hôte est ouvert: aucune requête n'a été envoyée */
+    CIRCUIT_OPEN,
+    /** Le corps de la réponse dépasse la taille maximale configurée */
+    BODY_TOO_LARGE,
+    /** Erreur inattendue */
+    UNKNOWN
+}
@@ -1,45 +1,112 @@
 package com.axeldev;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.net.HttpURLConnection;
+import java.net.MalformedURLException;
 import java.net.URL;
+import java.net.URLConnection;
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
 import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
 import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 import javax.xml.parsers.DocumentBuilder;
 import javax.xml.parsers.DocumentBuilderFactory;
 import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.stream.XMLInputFactory;
 
+import org.xml.sax.ErrorHandler;
 import org.xml.sax.SAXException;
+import org.xml.sax.SAXParseException;
 
 import org.w3c.dom.Document;
 import org.w3c.dom.Element;
-import org.w3c.dom.NodeList;
+import org.w3c.dom.Node;
 
 public class Feed4j {
 
-    // Support pour différents formats de date RSS courants
-    private static final List<DateTimeFormatter> DATE_FORMATTERS = Arrays.asList(
+    // Support pour différents formats de date RSS courants: avec fuseau ou décalage, la date
+    // est convertie en instant
+    private static final List<DateTimeFormatter> ZONED_DATE_FORMATTERS = Arrays.asList(
         DateTimeFormatter.RFC_1123_DATE_TIME,
+        DateTimeFormatter.ISO_OFFSET_DATE_TIME,
+        DateTimeFormatter.ofPattern("EEE, dd MMM yyyy HH:mm:ss zzz", Locale.ENGLISH)
+    );
+    // Sans fuseau, la date est interprétée en UTC
+    private static final List<DateTimeFormatter> LOCAL_DATE_FORMATTERS = Arrays.asList(
         DateTimeFormatter.ISO_LOCAL_DATE_TIME,
-        DateTimeFormatter.ofPattern("EEE, dd MMM yyyy HH:mm:ss zzz", Locale.ENGLISH),
         DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss", Locale.ENGLISH),
         DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss", Locale.ENGLISH)
     );
 
+    // Erreurs XML remontées par exception seulement: les erreurs fatales interrompent la lecture
+    // et sont classées MALFORMED_XML, les avertissements et erreurs de validation sont ignorés
+    private static final ErrorHandler SILENT_ERRORS = new ErrorHandler() {
+        @Override
+        public void warning(SAXParseException e) {
+        }
+
+        @Override
+        public void error(SAXParseException e) {
+        }
+
+        @Override
+        public void fatalError(SAXParseException e) throws SAXException {
+            throw e;
+        }
+    };
+
+    // Lectures bloquantes des publishers: threads démons créés à la demande, arrêtés après
+    // une minute d'inactivité; un hôte lent n'immobilise que le thread qui le lit
+    private static final ExecutorService IO_EXECUTOR = Executors.newCachedThreadPool(runnable -> {
+        Thread thread = new Thread(runnable, "feed4j-io");
+        thread.setDaemon(true);
+        return thread;
+    });
+
     private final Feed4jConfig config;
     private final FeedCache cache;
     private final DocumentBuilderFactory factory;
+    private final XMLInputFactory inputFactory;
+    // Un DocumentBuilder par thread, réinitialisé entre deux documents
+    private final ThreadLocal<DocumentBuilder> documentBuilders = new ThreadLocal<>();
+    private final BufferPool bufferPool;
+    private final Map<String, CircuitBreaker> circuitBreakers = new ConcurrentHashMap<>();
+    private final StringPool stringPool;
+    private final HtmlFilter htmlFilter;
+    private final SearchIndex searchIndex;
+    private final DuplicateIndex duplicateIndex;
 
     public Feed4j() {
         this(new Feed4jConfig());
@@ -47,8 +114,32 @@ public class Feed4j {
 
     public Feed4j(Feed4jConfig config) {
         this.config = config;
-        this.cache = new FeedCache(config.getCacheDurationMs());
+        this.cache = new FeedCache(config.getCacheDurationMs(), config.getFailureCacheDurationMs(),
+            config.getMaxFailureBackoffMs(), config.getFailureBackoffJitter());
         this.factory = DocumentBuilderFactory.newInstance();
+        this.inputFactory = FeedStreamReader.newInputFactory();
+        this.bufferPool = config.getBufferPoolSize() > 0
+            ? new BufferPool(config.getBufferPoolSize(), config.getMaxPooledBufferBytes()) : null;
+        this.stringPool = config.isStringDeduplication() ? new StringPool(config.getStringPoolSize()) : null;
+        this.htmlFilter = config.getDescriptionMode() != DescriptionMode.RAW
+            ? new HtmlFilter(config.getDescriptionMode(), config.getDescriptionMaxLength()) : null;
+        this.searchIndex = config.isSearchIndexEnabled() ? new SearchIndex() : null;
+        this.duplicateIndex = config.getDuplicateMode() != DuplicateMode.OFF
+            ? new DuplicateIndex(config.getDuplicateIndexSize(), config.getDuplicateMaxDistance()) : null;
+        if (searchIndex != null) {
+            cache.addListener(searchIndex.asCacheListener());
+        }
+        if (config.getSharedCacheFile() != null) {
+            try {
+                cache.attachSharedStore(new SharedFeedStore(config.getSharedCacheFile(),
+                    config.getSharedCacheSlots(), config.getSharedCacheSlotBytes()));
+            } catch (SharedFeedStore.IncompatibleFormatException e) {
+                // Fichier encore utilisé par une autre version: cache local seulement
+                System.err.println("Warning: Shared cache disabled: " + e.getMessage());
+            } catch (IOException e) {
+                throw new UncheckedIOException("Impossible d'ouvrir le cache partagé " + config.getSharedCacheFile(), e);
+            }
+        }
 
         // Security: Prevent XXE (XML External Entity) attacks
         try {
@@ -61,6 +152,8 @@ public class Feed4j {
             System.err.println("Warning: Could not disable XXE features: " + e.getMessage());
         }
 
+        // Espaces de noms résolus comme en StAX: media et dc reconnus quel que soit leur préfixe
+        this.factory.setNamespaceAware(true);
         this.factory.setValidating(config.isValidateXml());
         if (config.isValidateXml()) {
             try {
@@ -74,30 +167,69 @@ public class Feed4j {
 
     /**
      * Parse une date depuis une chaîne en essayant plusieurs formats courants
+     * @return La date ramenée en UTC, ou null si aucun format ne convient
+     */
+    static LocalDateTime parsePubDate(String dateStr) {
+        long millis = parsePubDateMillis(dateStr);
+        return millis != RssItem.NO_DATE ? LocalDateTime.ofInstant(Instant.ofEpochMilli(millis), ZoneOffset.UTC) : null;
+    }
+
+    /**
+     * Parse une date en millisecondes depuis l'epoch: le décalage indiqué par le flux est appliqué,
+     * une date sans fuseau est interprétée en UTC
+     * @return L'instant, ou RssItem.NO_DATE si aucun format ne convient
      */
-    private static LocalDateTime parsePubDate(String dateStr) {
-        for (DateTimeFormatter formatter : DATE_FORMATTERS) {
+    static long parsePubDateMillis(String dateStr) {
+        for (DateTimeFormatter formatter : ZONED_DATE_FORMATTERS) {
             try {
-                return LocalDateTime.parse(dateStr, formatter);
+                return ZonedDateTime.parse(dateStr, formatter).toInstant().toEpochMilli();
             } catch (DateTimeParseException e) {
                 // Essayer le prochain format
             }
         }
-        // Si aucun format ne fonctionne, retourner null ou une valeur par défaut
-        System.err.println("Format de date non supporté: " + dateStr);
-        return null;
+        for (DateTimeFormatter formatter : LOCAL_DATE_FORMATTERS) {
+            try {
+                return LocalDateTime.parse(dateStr, formatter).toInstant(ZoneOffset.UTC).toEpochMilli();
+            } catch (DateTimeParseException e) {
+                // Essayer le prochain format
+            }
+        }
+        // Si aucun format ne fonctionne, la date est laissée vide
+        return RssItem.NO_DATE;
     }
 
     /**
      * Parse les items RSS en parallèle pour améliorer les performances
+     * @param failures Liste recevant les échecs des items ignorés
      */
-    private List<RssItem> parseItemsInParallel(NodeList itemNodes) {
-        int numThreads = Math.min(itemNodes.getLength(), config.getMaxThreads());
+    private List<RssItem> parseItemsInParallel(String url, List<Element> itemNodes, List<FeedFailure> failures) {
+        ItemsParseEvent event = new ItemsParseEvent();
+        event.begin();
+
+        int numThreads = Math.min(itemNodes.size(), config.getMaxThreads());
+        List<RssItem> rssItems;
         if (numThreads <= 1) {
             // Pour un petit nombre d'items, utiliser le parsing séquentiel pour éviter l'overhead
-            return parseItemsSequentially(itemNodes);
+            rssItems = parseItemsSequentially(itemNodes, failures);
+        } else {
+            rssItems = parseItemsWithExecutor(itemNodes, numThreads, failures);
+        }
+
+        event.end();
+        if (event.shouldCommit()) {
+            event.url = url;
+            event.itemCount = rssItems.size();
+            event.failedCount = failures.size();
+            event.parallel = numThreads > 1;
+            event.commit();
         }
+        return rssItems;
+    }
 
+    /**
+     * Parse les items sur un pool de threads dédié
+     */
+    private List<RssItem> parseItemsWithExecutor(List<Element> itemNodes, int numThreads, List<FeedFailure> failures) {
         ExecutorService executor = Executors.newFixedThreadPool(numThreads);
         List<RssItem> rssItems = new ArrayList<>();
 
@@ -105,23 +237,24 @@ public class Feed4j {
             List<Future<RssItem>> futures = new ArrayList<>();
 
             // Soumettre toutes les tâches de parsing
-            for (int i = 0; i < itemNodes.getLength(); i++) {
-                Element itemElement = (Element) itemNodes.item(i);
-                Callable<RssItem> task = new ItemParserTask(itemElement);
+            for (Element itemElement : itemNodes) {
+                Callable<RssItem> task = new ItemParserTask(itemElement, stringPool, htmlFilter);
                 futures.add(executor.submit(task));
             }
 
             // Collecter les résultats en gérant les erreurs individuelles
-            for (Future<RssItem> future : futures) {
+            for (int i = 0; i < futures.size(); i++) {
                 try {
-                    RssItem item = future.get();
+                    RssItem item = futures.get(i).get();
                     if (item != null) {
                         rssItems.add(item);
                     }
-                } catch (InterruptedException | ExecutionException e) {
-                    // Logger l'erreur mais continuer avec les autres items
-                    System.err.println("Erreur lors du parsing d'un item RSS: " + e.getMessage());
-                    // On pourrait utiliser un logger approprié ici
+                } catch (ExecutionException e) {
+                    // Enregistrer l'échec mais continuer avec les autres items
+                    failures.add(FeedFailure.item(i, e.getCause()));
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    failures.add(FeedFailure.item(i, e));
                 }
             }
 
@@ -135,109 +268,839 @@ public class Feed4j {
     /**
      * Parsing séquentiel comme fallback pour les petits nombres d'items
      */
-    private List<RssItem> parseItemsSequentially(NodeList itemNodes) {
+    private List<RssItem> parseItemsSequentially(List<Element> itemNodes, List<FeedFailure> failures) {
         List<RssItem> rssItems = new ArrayList<>();
-        for (int i = 0; i < itemNodes.getLength(); i++) {
+        for (int i = 0; i < itemNodes.size(); i++) {
             try {
-                Element itemElement = (Element) itemNodes.item(i);
-                RssItem rssItem = new RssItem();
-                rssItem.setTitle(itemElement.getElementsByTagName("title").item(0).getTextContent());
-                rssItem.setLink(itemElement.getElementsByTagName("link").item(0).getTextContent());
-                rssItem.setDescription(itemElement.getElementsByTagName("description").item(0).getTextContent());
-                rssItem.setPubDate(parsePubDate(
-                    itemElement.getElementsByTagName("pubDate").item(0).getTextContent()));
-                rssItems.add(rssItem);
+                rssItems.add(parseItem(itemNodes.get(i), stringPool, htmlFilter));
             } catch (Exception e) {
-                System.err.println("Erreur lors du parsing séquentiel d'un item RSS: " + e.getMessage());
+                failures.add(FeedFailure.item(i, e));
             }
         }
         return rssItems;
     }
 
+    /**
+     * Construit un RssItem à partir de son élément XML, en un seul parcours de ses descendants
+     * @param pool Pool de déduplication des chaînes, ou null
+     * @param filter Conversion des descriptions HTML, ou null
+     */
+    private static RssItem parseItem(Element itemElement, StringPool pool, HtmlFilter filter) throws FeedException {
+        ItemFields fields = new ItemFields(pool, filter);
+        collectItemFields(itemElement, fields);
+        return fields.build();
+    }
+
+    /**
+     * Parcourt les descendants d'un item: le texte d'un champ est lu sans descendre plus bas,
+     * les autres éléments (media:group...) sont parcourus
+     */
+    private static void collectItemFields(Element parent, ItemFields fields) {
+        for (Node child = parent.getFirstChild(); child != null; child = child.getNextSibling()) {
+            if (child.getNodeType() != Node.ELEMENT_NODE) {
+                continue;
+            }
+            Element element = (Element) child;
+            String name = qualifiedName(element);
+            if (ItemFields.isAttributeField(name)) {
+                fields.attributes(name, attribute -> element.hasAttribute(attribute) ? element.getAttribute(attribute) : null);
+                collectItemFields(element, fields);
+            } else if (fields.wantsText(name)) {
+                fields.text(name, element.getTextContent());
+            } else {
+                collectItemFields(element, fields);
+            }
+        }
+    }
+
+    /**
+     * Nom qualifié d'un élément du DOM (voir ItemFields.qualifiedName)
+     */
+    private static String qualifiedName(Element element) {
+        return ItemFields.qualifiedName(element.getNamespaceURI(), element.getPrefix(), element.getLocalName());
+    }
+
+    static String dedup(StringPool pool, String value) {
+        return pool != null ? pool.intern(value) : value;
+    }
+
     /**
      * Tâche Callable pour parser un item RSS individuellement
      */
     private static class ItemParserTask implements Callable<RssItem> {
         private final Element itemElement;
+        private final StringPool pool;
+        private final HtmlFilter filter;
 
-        public ItemParserTask(Element itemElement) {
+        public ItemParserTask(Element itemElement, StringPool pool, HtmlFilter filter) {
             this.itemElement = itemElement;
+            this.pool = pool;
+            this.filter = filter;
         }
 
         @Override
         public RssItem call() throws Exception {
-            RssItem rssItem = new RssItem();
-            rssItem.setTitle(itemElement.getElementsByTagName("title").item(0).getTextContent());
-            rssItem.setLink(itemElement.getElementsByTagName("link").item(0).getTextContent());
-            rssItem.setDescription(itemElement.getElementsByTagName("description").item(0).getTextContent());
-            rssItem.setPubDate(parsePubDate(
-                itemElement.getElementsByTagName("pubDate").item(0).getTextContent()));
-            return rssItem;
+            return parseItem(itemElement, pool, filter);
+        }
+    }
+
+    /**
+     * Remplace les items inchangés par leur instance de la version précédente du flux en cache,
+     * pour ne pas retenir deux copies identiques
+     */
+    private List<RssItem> reuseUnchangedItems(String url, List<RssItem> items) {
+        RssFeed previous = cache.getStale(url);
+        if (previous == null || previous.getItems() == null || previous.getItems().isEmpty()) {
+            return items;
+        }
+        Map<String, RssItem> previousByKey = new HashMap<>();
+        for (RssItem item : previous.getItems()) {
+            if (item.key() != null) {
+                previousByKey.put(item.key(), item);
+            }
+        }
+        List<RssItem> result = new ArrayList<>(items.size());
+        for (RssItem item : items) {
+            RssItem old = item.key() != null ? previousByKey.get(item.key()) : null;
+            result.add(old != null && old.equals(item) ? old : item);
+        }
+        return result;
+    }
+
+    /**
+     * Télécharge le corps d'un flux avec les paramètres de configuration
+     */
+    private ResponseBody downloadBody(String url) throws IOException, FeedException {
+        HttpURLConnection connection = openConnection(url);
+
+        FetchEvent event = new FetchEvent();
+        event.begin();
+        ResponseBody body = null;
+        int status = 0;
+        try {
+            status = connection.getResponseCode();
+            if (status >= 400) {
+                throw new FeedException(FeedFailure.http(status, connection.getResponseMessage()));
+            }
+            try (InputStream in = openBody(connection)) {
+                body = ResponseBody.read(in, bufferPool);
+            }
+            return body;
+        } finally {
+            connection.disconnect();
+            event.end();
+            if (event.shouldCommit()) {
+                event.url = url;
+                event.bytes = body != null ? body.length() : 0;
+                event.status = status;
+                event.commit();
+            }
         }
     }
 
     /**
-     * Télécharge et parse un document XML avec les paramètres de configuration
+     * Ouvre le corps de la réponse, limité à maxBodyBytes; une taille annoncée trop grande échoue
+     * avant toute lecture
      */
-    private Document downloadXmlDocument(String url) throws IOException, ParserConfigurationException, SAXException {
+    private BoundedInputStream openBody(HttpURLConnection connection) throws IOException {
+        int maxBodyBytes = config.getMaxBodyBytes();
+        if (maxBodyBytes > 0 && connection.getContentLengthLong() > maxBodyBytes) {
+            throw new BodyTooLargeException(maxBodyBytes);
+        }
+        return new BoundedInputStream(connection.getInputStream(), maxBodyBytes);
+    }
+
+    /**
+     * Ouvre une connexion HTTP configurée selon les paramètres
+     */
+    private HttpURLConnection openConnection(String url) throws IOException {
         URL urlObj = new URL(url);
-        HttpURLConnection connection = (HttpURLConnection) urlObj.openConnection();
+        URLConnection opened = urlObj.openConnection();
+        if (!(opened instanceof HttpURLConnection)) {
+            throw new MalformedURLException("Protocole non supporté: " + urlObj.getProtocol());
+        }
+        HttpURLConnection connection = (HttpURLConnection) opened;
 
         // Configurer la connexion selon les paramètres
         connection.setConnectTimeout(config.getConnectTimeout());
         connection.setReadTimeout(config.getReadTimeout());
         connection.setRequestProperty("User-Agent", config.getUserAgent());
+        return connection;
+    }
 
-        try {
-            DocumentBuilder builder = factory.newDocumentBuilder();
-            Document doc = builder.parse(connection.getInputStream());
-            doc.getDocumentElement().normalize();
-            return doc;
-        } finally {
-            connection.disconnect();
+    /**
+     * Retourne le DocumentBuilder du thread courant, créé à la première utilisation
+     */
+    private DocumentBuilder documentBuilder() throws ParserConfigurationException {
+        DocumentBuilder builder = documentBuilders.get();
+        if (builder == null) {
+            builder = factory.newDocumentBuilder();
+            documentBuilders.set(builder);
+        } else {
+            builder.reset();
         }
+        // reset rétablit le gestionnaire par défaut, qui écrit chaque erreur sur stderr
+        builder.setErrorHandler(SILENT_ERRORS);
+        return builder;
+    }
+
+    /**
+     * Parse le corps téléchargé en document DOM
+     */
+    private Document parseDocument(ResponseBody body) throws IOException, ParserConfigurationException, SAXException {
+        DocumentBuilder builder = documentBuilder();
+        Document doc = builder.parse(body.openStream());
+        doc.getDocumentElement().normalize();
+        return doc;
     }
 
     public RssFeed ReadFeed(String url) throws ParserConfigurationException {
+        return ReadFeedResult(url).getFeed();
+    }
+
+    /**
+     * Lit un flux et retourne un résultat détaillé: flux éventuellement partiel,
+     * raison typée de l'échec et items ignorés. Les échecs sont mis en cache
+     * temporairement pour ne pas solliciter en boucle un flux défaillant.
+     * @param url URL du flux
+     * @return Le résultat de la lecture, jamais null
+     */
+    public FeedResult ReadFeedResult(String url) {
         // Utiliser le cache pour éviter les téléchargements répétés
-        return cache.get(url, () -> {
+        return cache.getResult(url, () -> parseFeed(url));
+    }
+
+    private FeedResult parseFeed(String url) {
+        // Échouer immédiatement si l'hôte est considéré indisponible
+        CircuitBreaker breaker = circuitBreakerFor(url);
+        if (breaker != null && !breaker.tryAcquire()) {
+            return circuitOpenResult(url);
+        }
+
+        FeedResult result;
+        ParseEvent event = new ParseEvent();
+        event.begin();
+        long start = System.nanoTime();
+        long fetchNanos = -1;
+        boolean unchanged = false;
+
+        try {
+            if (isLimited()) {
+                // Nombre ou âge des items limité: lecture en flux interrompue dès la limite atteinte.
+                // Le parsing se fait pendant le téléchargement: seule l'attente des en-têtes compte
+                // pour le disjoncteur
+                long[] headersNanos = {-1};
+                try {
+                    result = streamFeed(url, start, headersNanos);
+                } finally {
+                    fetchNanos = headersNanos[0];
+                }
+            } else {
+                // 1. Télécharger le flux XML
+                ResponseBody body = downloadBody(url);
+                fetchNanos = System.nanoTime() - start;
+
+                try {
+                    // Contenu identique à la version en cache: inutile de le parser à nouveau
+                    FeedResult previous = cache.peek(url);
+                    if (previous != null && previous.contentHash() == body.hash()) {
+                        unchanged = true;
+                        result = previous;
+                    } else {
+                        result = parseBody(url, body);
+                    }
+                } finally {
+                    // Le DOM ne référence plus le tableau du corps une fois construit
+                    body.release();
+                }
+            }
+        } catch (Exception e) {
+            result = FeedResult.failure(FeedFailure.from(e));
+        } finally {
+            event.end();
+        }
+
+        if (breaker != null) {
+            if (fetchNanos < 0) {
+                fetchNanos = System.nanoTime() - start;
+            }
+            breaker.record(isHostFailure(result.getFailure()), TimeUnit.NANOSECONDS.toMillis(fetchNanos));
+        }
+
+        if (event.shouldCommit()) {
+            event.url = url;
+            event.success = result.hasFeed();
+            event.unchanged = unchanged;
+            event.itemCount = result.hasFeed() ? result.getFeed().getItems().size() : 0;
+            event.commit();
+        }
+        return result;
+    }
+
+    /**
+     * Marque ou retire les items déjà publiés par un autre flux.
+     * Les items repris de la version précédente ont déjà été vérifiés.
+     */
+    private List<RssItem> deduplicate(String url, List<RssItem> items) {
+        if (duplicateIndex == null) {
+            return items;
+        }
+        RssFeed previous = cache.getStale(url);
+        Set<RssItem> known = Collections.newSetFromMap(new IdentityHashMap<>());
+        if (previous != null) {
+            known.addAll(previous.getItems());
+        }
+        List<RssItem> result = new ArrayList<>(items.size());
+        for (RssItem item : items) {
+            String original = known.contains(item) ? null : duplicateIndex.findOrAdd(url, item);
+            if (original == null) {
+                result.add(item);
+            } else if (config.getDuplicateMode() == DuplicateMode.FLAG) {
+                result.add(item.toBuilder().duplicateOf(original).build());
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Parse le corps d'un flux en RssFeed
+     */
+    private FeedResult parseBody(String url, ResponseBody body)
+            throws IOException, ParserConfigurationException, SAXException, FeedException {
+        // 2. Parser avec DOM et getElementsByTagName
+        Document doc = parseDocument(body);
+        Element channelElement = (Element) doc.getElementsByTagName("channel").item(0);
+        if (channelElement == null) {
+            throw new FeedException(FeedFailure.of(FailureReason.INVALID_FEED, "Élément channel absent"));
+        }
+
+        // 3. Créer RssFeed et liste d'RssItem à partir du XML, en un seul parcours du channel
+        ChannelFields channel = new ChannelFields();
+        List<Element> itemNodes = new ArrayList<>();
+        for (Node child = channelElement.getFirstChild(); child != null; child = child.getNextSibling()) {
+            if (child.getNodeType() != Node.ELEMENT_NODE) {
+                continue;
+            }
+            Element element = (Element) child;
+            String name = qualifiedName(element);
+            if (name.equals("item")) {
+                itemNodes.add(element);
+            } else if (name.equals("image")) {
+                collectImageFields(element, channel);
+            } else if (channel.wantsText(name)) {
+                channel.text(name, element.getTextContent());
+            }
+        }
+        RssFeed rssFeed = channel.build(stringPool);
+
+        // Parser les items en parallèle pour de meilleures performances
+        List<FeedFailure> itemFailures = new ArrayList<>();
+        List<RssItem> rssItems = parseItemsInParallel(url, itemNodes, itemFailures);
+        rssFeed.setItems(deduplicate(url, reuseUnchangedItems(url, rssItems)));
+        return FeedResult.partial(rssFeed, itemFailures).withContentHash(body.hash());
+    }
+
+    private boolean isLimited() {
+        return config.getMaxItems() > 0 || config.getMaxItemAgeMs() > 0;
+    }
+
+    /**
+     * Lit un flux en flux (StAX) en s'arrêtant à maxItems items ou au premier item plus ancien
+     * que maxItemAgeMs, puis ferme la connexion sans lire le reste du document.
+     * Les flux sont supposés classés du plus récent au plus ancien; les items sans date sont gardés.
+     * @param start Début de la lecture (System.nanoTime)
+     * @param headersNanos Reçoit la durée jusqu'à la réception des en-têtes, -1 si elle n'a pas eu lieu
+     */
+    private FeedResult streamFeed(String url, long start, long[] headersNanos) throws Exception {
+        HttpURLConnection connection = openConnection(url);
+
+        // Téléchargement et parsing se recouvrent: l'événement couvre la lecture jusqu'à la coupure
+        FetchEvent fetch = new FetchEvent();
+        fetch.begin();
+        BoundedInputStream body = null;
+        int status = 0;
+        try {
+            status = connection.getResponseCode();
+            headersNanos[0] = System.nanoTime() - start;
+            if (status >= 400) {
+                throw new FeedException(FeedFailure.http(status, connection.getResponseMessage()));
+            }
+            body = openBody(connection);
+            FeedStreamReader reader = new FeedStreamReader(inputFactory, body, stringPool, htmlFilter);
             try {
-                return parseFeed(url);
-            } catch (Exception e) {
-                e.printStackTrace();
+                int maxItems = config.getMaxItems();
+                long cutoff = config.getMaxItemAgeMs() > 0
+                    ? System.currentTimeMillis() - config.getMaxItemAgeMs() : Long.MIN_VALUE;
+                List<RssItem> rssItems = new ArrayList<>();
+                ItemsParseEvent parse = new ItemsParseEvent();
+                parse.begin();
+                RssItem item;
+                while ((maxItems == 0 || rssItems.size() < maxItems) && (item = reader.nextItem()) != null) {
+                    if (item.hasPubDate() && item.getPubDateMillis() < cutoff) {
+                        break;
+                    }
+                    rssItems.add(item);
+                }
+                parse.end();
+                if (parse.shouldCommit()) {
+                    parse.url = url;
+                    parse.itemCount = rssItems.size();
+                    parse.failedCount = reader.getItemFailures().size();
+                    parse.commit();
+                }
+                // Le titre du channel peut suivre les items lus
+                reader.readRemainingHeader();
+                if (!reader.hasChannel()) {
+                    throw new FeedException(FeedFailure.of(FailureReason.INVALID_FEED, "Élément channel absent"));
+                }
+
+                RssFeed rssFeed = reader.getChannel().build(stringPool);
+                rssFeed.setItems(deduplicate(url, reuseUnchangedItems(url, rssItems)));
+                return FeedResult.partial(rssFeed, reader.getItemFailures());
+            } finally {
+                // Couper la connexion avant de fermer le flux pour ne pas lire la fin du document
+                connection.disconnect();
+                reader.close();
+            }
+        } finally {
+            connection.disconnect();
+            fetch.end();
+            if (fetch.shouldCommit()) {
+                fetch.url = url;
+                fetch.bytes = body != null ? body.count() : 0;
+                fetch.status = status;
+                fetch.commit();
+            }
+        }
+    }
+
+    private static void collectImageFields(Element image, ChannelFields channel) {
+        for (Node child = image.getFirstChild(); child != null; child = child.getNextSibling()) {
+            if (child.getNodeType() == Node.ELEMENT_NODE) {
+                channel.imageText(qualifiedName((Element) child), child.getTextContent());
+            }
+        }
+    }
+
+    /**
+     * Retourne le disjoncteur de l'hôte de l'URL, ou null s'il est désactivé ou l'URL invalide
+     */
+    private CircuitBreaker circuitBreakerFor(String url) {
+        if (!config.isCircuitBreakerEnabled()) {
+            return null;
+        }
+        String host = hostKey(url);
+        if (host == null) {
+            return null;
+        }
+        return circuitBreakers.computeIfAbsent(host, key -> new CircuitBreaker(
+            config.getCircuitWindowSize(),
+            config.getCircuitMinimumCalls(),
+            config.getCircuitFailureRateThreshold(),
+            config.getCircuitSlowCallThresholdMs(),
+            config.getCircuitOpenDurationMs()));
+    }
+
+    /**
+     * Résultat d'un appel refusé par le disjoncteur: ancienne version du flux si disponible
+     */
+    private FeedResult circuitOpenResult(String url) {
+        FeedFailure failure = FeedFailure.of(FailureReason.CIRCUIT_OPEN,
+            "Disjoncteur ouvert pour " + hostKey(url));
+        RssFeed stale = config.isServeStaleOnOpenCircuit() ? cache.getStale(url) : null;
+        return stale != null ? FeedResult.stale(stale, failure) : FeedResult.failure(failure);
+    }
+
+    /**
+     * Indique si l'échec traduit une indisponibilité de l'hôte plutôt qu'un flux invalide
+     */
+    private static boolean isHostFailure(FeedFailure failure) {
+        if (failure == null) {
+            return false;
+        }
+        switch (failure.getReason()) {
+            case TIMEOUT:
+            case NETWORK_ERROR:
+                return true;
+            case HTTP_ERROR:
+                return failure.getHttpStatus() >= 500;
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Clé d'hôte (hôte et port explicite) d'une URL, ou null si l'URL est invalide
+     */
+    private static String hostKey(String url) {
+        try {
+            URL urlObj = new URL(url);
+            String host = urlObj.getHost();
+            if (host == null || host.isEmpty()) {
                 return null;
             }
-        });
+            host = host.toLowerCase(Locale.ROOT);
+            return urlObj.getPort() != -1 ? host + ":" + urlObj.getPort() : host;
+        } catch (MalformedURLException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Retourne l'état du disjoncteur de l'hôte d'une URL (CLOSED si l'hôte n'a jamais été contacté)
+     * @param url URL d'un flux ou de l'hôte
+     */
+    public CircuitState getCircuitState(String url) {
+        String host = hostKey(url);
+        CircuitBreaker breaker = host != null ? circuitBreakers.get(host) : null;
+        return breaker != null ? breaker.getState() : CircuitState.CLOSED;
+    }
+
+    /**
+     * Retourne l'état des disjoncteurs de tous les hôtes contactés
+     * @return Map hôte vers état
+     */
+    public Map<String, CircuitState> getCircuitStates() {
+        Map<String, CircuitState> states = new TreeMap<>();
+        circuitBreakers.forEach((host, breaker) -> states.put(host, breaker.getState()));
+        return states;
+    }
+
+    /**
+     * Retourne les N items les plus récents d'un ensemble de flux, lus via le cache.
+     * Les flux absents du cache sont téléchargés en parallèle (au plus maxThreads à la fois).
+     * Les flux en échec sont ignorés.
+     * @param urls URLs des flux
+     * @param limit Nombre maximal d'items
+     */
+    public List<RssItem> getLatestItems(Collection<String> urls, int limit) {
+        return FeedTimeline.latest(readFeeds(urls), limit);
+    }
+
+    /**
+     * Retourne la chronologie fusionnée d'un ensemble de flux, du plus récent au plus ancien.
+     * Le stream est paresseux: skip/limit permettent de paginer sans trier tous les items.
+     * Les flux absents du cache sont téléchargés en parallèle avant la fusion.
+     * @param urls URLs des flux
+     */
+    public Stream<RssItem> getTimeline(Collection<String> urls) {
+        return FeedTimeline.merge(readFeeds(urls));
+    }
+
+    /**
+     * Lit les flux dans l'ordre donné: ceux en cache sur le thread appelant, les autres
+     * téléchargés en parallèle sur un pool borné par maxThreads
+     */
+    private List<RssFeed> readFeeds(Collection<String> urls) {
+        Map<String, FeedResult> results = new ConcurrentHashMap<>();
+        Set<String> missing = new LinkedHashSet<>();
+        for (String url : urls) {
+            if (results.containsKey(url) || missing.contains(url)) {
+                continue;
+            }
+            if (cache.contains(url)) {
+                results.put(url, ReadFeedResult(url));
+            } else {
+                missing.add(url);
+            }
+        }
+        readInParallel(missing, results);
+
+        List<RssFeed> feeds = new ArrayList<>(urls.size());
+        for (String url : urls) {
+            FeedResult result = results.get(url);
+            if (result != null && result.getFeed() != null) {
+                feeds.add(result.getFeed());
+            }
+        }
+        return feeds;
+    }
+
+    /**
+     * Lit les flux sur un pool de maxThreads threads au plus, créé pour l'appel
+     */
+    private void readInParallel(Collection<String> urls, Map<String, FeedResult> results) {
+        if (urls.size() <= 1) {
+            for (String url : urls) {
+                results.put(url, ReadFeedResult(url));
+            }
+            return;
+        }
+        List<Callable<Void>> reads = new ArrayList<>(urls.size());
+        for (String url : urls) {
+            reads.add(() -> {
+                results.put(url, ReadFeedResult(url));
+                return null;
+            });
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(urls.size(), config.getMaxThreads()),
+            runnable -> {
+                Thread thread = new Thread(runnable, "feed4j-read");
+                thread.setDaemon(true);
+                return thread;
+            });
+        try {
+            executor.invokeAll(reads);
+        } catch (InterruptedException e) {
+            // Les flux non lus sont ignorés comme des flux en échec
+            Thread.currentThread().interrupt();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Publie les items d'un flux au rythme de la demande de l'abonné.
+     * Les items sont lus et délivrés sur les threads d'entrées-sorties de Feed4j,
+     * jamais sur le pool ForkJoin commun qu'une lecture bloquante affamerait.
+     * @see #publishItems(String, Executor)
+     */
+    public Flow.Publisher<RssItem> publishItems(String url) {
+        return publishItems(url, IO_EXECUTOR);
+    }
+
+    /**
+     * Publie les items d'un flux au rythme de la demande de l'abonné.
+     * Si le flux est en cache, ses items sont publiés sans accès réseau; sinon le document
+     * est lu en flux et un item n'est parsé que lorsque l'abonné en a demandé un, ce qui
+     * borne la mémoire quand l'abonné est plus lent que le réseau. Ce mode ne met pas
+     * le flux en cache, les items invalides sont ignorés, et les échecs sont signalés
+     * par onError avec une FeedException.
+     * @param url URL du flux
+     * @param executor Executor sur lequel les items sont lus et délivrés
+     */
+    public Flow.Publisher<RssItem> publishItems(String url, Executor executor) {
+        return new ItemPublisher(() -> openItemSource(url), executor);
+    }
+
+    /**
+     * Publie les nouvelles versions d'un ensemble de flux relus périodiquement via le cache.
+     * Une mise à jour est publiée à la première lecture de chaque flux puis à chaque changement;
+     * les flux ne sont relus que lorsque l'abonné a de la demande. L'abonné doit annuler
+     * son abonnement pour arrêter la surveillance.
+     * Les flux sont lus et les mises à jour délivrées sur les threads d'entrées-sorties de Feed4j.
+     * @param urls URLs des flux
+     * @param intervalMs Délai minimal entre deux lectures d'un même flux
+     * @throws IllegalArgumentException Si intervalMs n'est pas strictement positif
+     */
+    public Flow.Publisher<FeedUpdate> pollFeeds(Collection<String> urls, long intervalMs) {
+        return new FeedPollPublisher(this::ReadFeedResult, new ArrayList<>(urls), intervalMs, IO_EXECUTOR);
     }
 
-    private RssFeed parseFeed(String url) throws ParserConfigurationException, SAXException, IOException {
-        RssFeed rssFeed = null;
+    /**
+     * Ouvre la source d'items d'un abonné: version en cache, ou lecture en flux du réseau
+     */
+    private ItemPublisher.Source openItemSource(String url) throws Exception {
+        FeedResult cached = cache.getIfPresent(url);
+        if (cached == null) {
+            CircuitBreaker breaker = circuitBreakerFor(url);
+            if (breaker == null || breaker.tryAcquire()) {
+                return streamItems(url, breaker);
+            }
+            cached = circuitOpenResult(url);
+        }
+        if (!cached.hasFeed()) {
+            throw new FeedException(cached.getFailure());
+        }
+        return ItemPublisher.of(cached.getFeed().getItems());
+    }
 
+    /**
+     * Ouvre la connexion et retourne une source lisant les items au fur et à mesure
+     */
+    private ItemPublisher.Source streamItems(String url, CircuitBreaker breaker) throws Exception {
+        long start = System.nanoTime();
+        long headersNanos = -1;
+        HttpURLConnection connection = null;
+        FetchEvent fetch = new FetchEvent();
+        fetch.begin();
+        int status;
+        BoundedInputStream body;
+        FeedStreamReader reader;
         try {
-            // 1. Télécharger le flux XML
-            Document doc = downloadXmlDocument(url);
-
-            // 2. Parser avec DOM et getElementsByTagName
-            Element channelElement = (Element) doc.getElementsByTagName("channel").item(0);
-            String feedTitle = channelElement.getElementsByTagName("title").item(0).getTextContent();
-            String feedLink = channelElement.getElementsByTagName("link").item(0).getTextContent();
-            String feedDescription = channelElement.getElementsByTagName("description").item(0).getTextContent();
-            NodeList itemNodes = channelElement.getElementsByTagName("item");
-
-            // 3. Créer RssFeed et liste d'RssItem à partir du XML
-            rssFeed = new RssFeed();
-            rssFeed.setTitle(feedTitle);
-            rssFeed.setLink(feedLink);
-            rssFeed.setDescription(feedDescription);
-
-            // Parser les items en parallèle pour de meilleures performances
-            List<RssItem> rssItems = parseItemsInParallel(itemNodes);
-            rssFeed.setItems(rssItems);
+            connection = openConnection(url);
+            status = connection.getResponseCode();
+            headersNanos = System.nanoTime() - start;
+            if (status >= 400) {
+                throw new FeedException(FeedFailure.http(status, connection.getResponseMessage()));
+            }
+            body = openBody(connection);
+            reader = new FeedStreamReader(inputFactory, body, stringPool, htmlFilter);
         } catch (Exception e) {
-            e.printStackTrace();
-            return null;
+            if (connection != null) {
+                connection.disconnect();
+            }
+            if (breaker != null) {
+                breaker.record(isHostFailure(FeedFailure.from(e)), TimeUnit.NANOSECONDS.toMillis(
+                    headersNanos >= 0 ? headersNanos : System.nanoTime() - start));
+            }
+            throw e;
+        }
+        if (breaker != null) {
+            // Comme pour le DOM: la lecture du XML ne compte pas dans la latence de l'hôte
+            breaker.record(false, TimeUnit.NANOSECONDS.toMillis(headersNanos));
+        }
+
+        HttpURLConnection opened = connection;
+        ItemsParseEvent parse = new ItemsParseEvent();
+        parse.begin();
+        return new ItemPublisher.Source() {
+            private int itemCount;
+
+            @Override
+            public RssItem next() throws Exception {
+                RssItem item = reader.nextItem();
+                if (item != null) {
+                    itemCount++;
+                }
+                return item;
+            }
+
+            /**
+             * Les événements couvrent toute la lecture, rythmée par la demande de l'abonné
+             */
+            @Override
+            public void close() throws IOException {
+                try {
+                    reader.close();
+                } finally {
+                    opened.disconnect();
+                    parse.end();
+                    fetch.end();
+                    if (parse.shouldCommit()) {
+                        parse.url = url;
+                        parse.itemCount = itemCount;
+                        parse.failedCount = reader.getItemFailures().size();
+                        parse.commit();
+                    }
+                    if (fetch.shouldCommit()) {
+                        fetch.url = url;
+                        fetch.bytes = body.count();
+                        fetch.status = status;
+                        fetch.commit();
+                    }
+                }
+            }
+        };
+    }
+
+    /**
+     * Remplit le cache avec les flux donnés, lus en parallèle
+     * @param urls URLs des flux; les doublons ne sont lus qu'une fois
+     * @param concurrency Nombre maximal de flux lus en même temps
+     * @param listener Suivi de la progression, ou null
+     * @return Le bilan du préchargement
+     */
+    public WarmUpSummary warmUp(Iterable<String> urls, int concurrency, WarmUpListener listener) {
+        Iterator<String> it = urls.iterator();
+        return warmUp(() -> it.hasNext() ? it.next() : null, concurrency, listener);
+    }
+
+    /**
+     * Remplit le cache avec les abonnements d'un fichier OPML, lu en flux: les flux sont lus
+     * en parallèle au fur et à mesure de la lecture du fichier, sans le charger en mémoire
+     * @param opml Contenu OPML, fermé à la fin
+     * @param concurrency Nombre maximal de flux lus en même temps
+     * @param listener Suivi de la progression, ou null
+     * @return Le bilan du préchargement
+     * @throws FeedException si le fichier OPML est invalide; les flux déjà lancés sont terminés
+     */
+    public WarmUpSummary warmUpOpml(InputStream opml, int concurrency, WarmUpListener listener) throws FeedException {
+        FeedException[] error = new FeedException[1];
+        try (OpmlReader reader = new OpmlReader(opml)) {
+            WarmUpSummary summary = warmUp(() -> {
+                try {
+                    OpmlOutline outline = reader.next();
+                    return outline != null ? outline.getXmlUrl() : null;
+                } catch (FeedException e) {
+                    // Arrêter la lecture, l'erreur est levée une fois les flux lancés terminés
+                    error[0] = e;
+                    return null;
+                }
+            }, concurrency, listener);
+            if (error[0] != null) {
+                throw error[0];
+            }
+            return summary;
+        } catch (IOException e) {
+            throw new FeedException(FeedFailure.from(e));
         }
-        return rssFeed;
+    }
+
+    /**
+     * Lit les flux de la source sur un pool borné; un sémaphore limite les flux en cours
+     * pour que la source ne soit pas lue plus vite que le réseau
+     * @param source Fournit la prochaine URL, ou null à la fin
+     */
+    private WarmUpSummary warmUp(Supplier<String> source, int concurrency, WarmUpListener listener) {
+        int threads = Math.max(1, concurrency);
+        long start = System.nanoTime();
+        WarmUpSummary summary = new WarmUpSummary();
+        AtomicInteger completed = new AtomicInteger();
+        Semaphore slots = new Semaphore(threads);
+        Set<String> seen = new HashSet<>();
+        ExecutorService executor = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "feed4j-warmup");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        try {
+            String url;
+            while ((url = source.get()) != null) {
+                if (!seen.add(url)) {
+                    continue;
+                }
+                slots.acquire();
+                String feedUrl = url;
+                executor.execute(() -> {
+                    try {
+                        FeedResult result = ReadFeedResult(feedUrl);
+                        summary.record(feedUrl, result);
+                        int done = completed.incrementAndGet();
+                        if (listener != null) {
+                            listener.onFeedLoaded(feedUrl, result, done);
+                        }
+                    } finally {
+                        slots.release();
+                    }
+                });
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            // Attendre les flux déjà lancés
+            executor.shutdown();
+            try {
+                executor.awaitTermination(Long.MAX_VALUE, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                executor.shutdownNow();
+                Thread.currentThread().interrupt();
+            }
+            summary.finish(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        }
+        return summary;
+    }
+
+    /**
+     * Recherche dans les items en cache: termes combinés en ET, phrases entre guillemets
+     * @param query Requête, par exemple {@code java "virtual threads"}
+     * @return Les items trouvés, les plus récemment indexés en premier
+     * @throws IllegalStateException si l'index de recherche n'est pas activé
+     */
+    public List<RssItem> search(String query) {
+        return getSearchIndex().search(query);
+    }
+
+    /**
+     * Retourne l'index de recherche plein texte
+     * @throws IllegalStateException si l'index de recherche n'est pas activé
+     */
+    public SearchIndex getSearchIndex() {
+        if (searchIndex == null) {
+            throw new IllegalStateException("Index de recherche désactivé, voir Feed4jConfig.setSearchIndexEnabled");
+        }
+        return searchIndex;
     }
 
     /**
@@ -261,6 +1124,35 @@ public class Feed4j {
         return cache.size();
     }
 
+    /**
+     * Retourne les statistiques du cache: succès, chargements, évictions, mémoire estimée et âge des entrées
+     */
+    public CacheStats getCacheStats() {
+        return cache.stats();
+    }
+
+    /**
+     * Retourne les flux en cache avec leurs métadonnées
+     */
+    public List<CacheEntry> getCacheEntries() {
+        return cache.entries();
+    }
+
+    /**
+     * Retire du cache les flux et les échecs expirés
+     * @return Le nombre de flux retirés
+     */
+    public int cleanUpCache() {
+        return cache.cleanUp();
+    }
+
+    /**
+     * Ajoute un listener notifié de chaque flux qui quitte le cache
+     */
+    public void addCacheRemovalListener(CacheRemovalListener listener) {
+        cache.addRemovalListener(listener);
+    }
+
     /**
      * Retourne la configuration actuelle
      */
@@ -1,5 +1,7 @@
 package com.axeldev;
 
+import java.nio.file.Path;
+
 /**
  * Configuration pour Feed4j
  */
@@ -10,6 +12,32 @@ public class Feed4jConfig {
     private String userAgent = "Feed4j/1.0";
     private boolean validateXml = false;
     private long cacheDurationMs = 300000; // 5 minutes par défaut
+    private long failureCacheDurationMs = 5000; // 5 secondes pour le premier échec
+    private long maxFailureBackoffMs = 300000; // 5 minutes au maximum
+    private double failureBackoffJitter = 0.2; // +/- 20%
+    private boolean circuitBreakerEnabled = false;
+    private double circuitFailureRateThreshold = 0.5; // 50% d'appels en échec ou lents
+    private long circuitSlowCallThresholdMs = 10000; // 10 secondes
+    private int circuitWindowSize = 20;
+    private int circuitMinimumCalls = 5;
+    private long circuitOpenDurationMs = 60000; // 1 minute
+    private boolean serveStaleOnOpenCircuit = true;
+    private boolean stringDeduplication = false;
+    private int stringPoolSize = 4096;
+    private boolean searchIndexEnabled = false;
+    private DuplicateMode duplicateMode = DuplicateMode.OFF;
+    private int duplicateIndexSize = 100000;
+    private int duplicateMaxDistance = 3;
+    private int maxItems = 0;
+    private long maxItemAgeMs = 0;
+    private int bufferPoolSize = 16;
+    private int maxPooledBufferBytes = 2 * 1024 * 1024;
+    private int maxBodyBytes = 32 * 1024 * 1024;
+    private DescriptionMode descriptionMode = DescriptionMode.RAW;
+    private int descriptionMaxLength = 0;
+    private Path sharedCacheFile = null;
+    private int sharedCacheSlots = 1024;
+    private int sharedCacheSlotBytes = 64 * 1024;
 
     public Feed4jConfig() {}
 
@@ -67,4 +95,320 @@ public class Feed4jConfig {
         this.cacheDurationMs = Math.max(0, cacheDurationMs);
         return this;
     }
+
+    public long getFailureCacheDurationMs() {
+        return failureCacheDurationMs;
+    }
+
+    /**
+     * Durée de mise en cache d'un premier échec, doublée à chaque échec consécutif (0 = désactivé)
+     */
+    public Feed4jConfig setFailureCacheDurationMs(long failureCacheDurationMs) {
+        this.failureCacheDurationMs = Math.max(0, failureCacheDurationMs);
+        return this;
+    }
+
+    public long getMaxFailureBackoffMs() {
+        return maxFailureBackoffMs;
+    }
+
+    /**
+     * Durée maximale de mise en cache d'un échec après plusieurs échecs consécutifs
+     */
+    public Feed4jConfig setMaxFailureBackoffMs(long maxFailureBackoffMs) {
+        this.maxFailureBackoffMs = Math.max(0, maxFailureBackoffMs);
+        return this;
+    }
+
+    public double getFailureBackoffJitter() {
+        return failureBackoffJitter;
+    }
+
+    /**
+     * Variation aléatoire appliquée au délai d'un échec, entre 0 (aucune) et 1 (+/- 100%)
+     */
+    public Feed4jConfig setFailureBackoffJitter(double failureBackoffJitter) {
+        this.failureBackoffJitter = Math.min(1.0, Math.max(0.0, failureBackoffJitter));
+        return this;
+    }
+
+    public boolean isCircuitBreakerEnabled() {
+        return circuitBreakerEnabled;
+    }
+
+    /**
+     * Active le disjoncteur par hôte sur les téléchargements (désactivé par défaut)
+     */
+    public Feed4jConfig setCircuitBreakerEnabled(boolean circuitBreakerEnabled) {
+        this.circuitBreakerEnabled = circuitBreakerEnabled;
+        return this;
+    }
+
+    public double getCircuitFailureRateThreshold() {
+        return circuitFailureRateThreshold;
+    }
+
+    /**
+     * Taux d'appels en échec ou lents (0 à 1) à partir duquel le disjoncteur s'ouvre
+     */
+    public Feed4jConfig setCircuitFailureRateThreshold(double circuitFailureRateThreshold) {
+        this.circuitFailureRateThreshold = Math.min(1.0, Math.max(0.01, circuitFailureRateThreshold));
+        return this;
+    }
+
+    public long getCircuitSlowCallThresholdMs() {
+        return circuitSlowCallThresholdMs;
+    }
+
+    /**
+     * Durée au-delà de laquelle un téléchargement réussi compte comme un échec
+     */
+    public Feed4jConfig setCircuitSlowCallThresholdMs(long circuitSlowCallThresholdMs) {
+        this.circuitSlowCallThresholdMs = Math.max(1, circuitSlowCallThresholdMs);
+        return this;
+    }
+
+    public int getCircuitWindowSize() {
+        return circuitWindowSize;
+    }
+
+    /**
+     * Nombre de derniers appels pris en compte pour le taux d'échec
+     */
+    public Feed4jConfig setCircuitWindowSize(int circuitWindowSize) {
+        this.circuitWindowSize = Math.max(1, circuitWindowSize);
+        return this;
+    }
+
+    public int getCircuitMinimumCalls() {
+        return circuitMinimumCalls;
+    }
+
+    /**
+     * Nombre minimal d'appels avant que le disjoncteur puisse s'ouvrir
+     */
+    public Feed4jConfig setCircuitMinimumCalls(int circuitMinimumCalls) {
+        this.circuitMinimumCalls = Math.max(1, circuitMinimumCalls);
+        return this;
+    }
+
+    public long getCircuitOpenDurationMs() {
+        return circuitOpenDurationMs;
+    }
+
+    /**
+     * Durée pendant laquelle le disjoncteur reste ouvert avant un appel d'essai
+     */
+    public Feed4jConfig setCircuitOpenDurationMs(long circuitOpenDurationMs) {
+        this.circuitOpenDurationMs = Math.max(0, circuitOpenDurationMs);
+        return this;
+    }
+
+    public boolean isServeStaleOnOpenCircuit() {
+        return serveStaleOnOpenCircuit;
+    }
+
+    /**
+     * Sert la dernière version en cache, même expirée, quand le disjoncteur de l'hôte est ouvert
+     */
+    public Feed4jConfig setServeStaleOnOpenCircuit(boolean serveStaleOnOpenCircuit) {
+        this.serveStaleOnOpenCircuit = serveStaleOnOpenCircuit;
+        return this;
+    }
+
+    public boolean isStringDeduplication() {
+        return stringDeduplication;
+    }
+
+    /**
+     * Active la déduplication des chaînes répétées des flux et items en cache
+     */
+    public Feed4jConfig setStringDeduplication(boolean stringDeduplication) {
+        this.stringDeduplication = stringDeduplication;
+        return this;
+    }
+
+    public int getStringPoolSize() {
+        return stringPoolSize;
+    }
+
+    /**
+     * Nombre maximal de chaînes retenues par le pool de déduplication
+     */
+    public Feed4jConfig setStringPoolSize(int stringPoolSize) {
+        this.stringPoolSize = Math.max(16, stringPoolSize);
+        return this;
+    }
+
+    public boolean isSearchIndexEnabled() {
+        return searchIndexEnabled;
+    }
+
+    /**
+     * Active l'index de recherche plein texte sur les items en cache
+     */
+    public Feed4jConfig setSearchIndexEnabled(boolean searchIndexEnabled) {
+        this.searchIndexEnabled = searchIndexEnabled;
+        return this;
+    }
+
+    public DuplicateMode getDuplicateMode() {
+        return duplicateMode;
+    }
+
+    /**
+     * Traitement des items déjà publiés par un autre flux: OFF, FLAG ou COLLAPSE
+     */
+    public Feed4jConfig setDuplicateMode(DuplicateMode duplicateMode) {
+        this.duplicateMode = duplicateMode != null ? duplicateMode : DuplicateMode.OFF;
+        return this;
+    }
+
+    public int getDuplicateIndexSize() {
+        return duplicateIndexSize;
+    }
+
+    /**
+     * Nombre maximal d'items retenus pour la détection des doublons
+     */
+    public Feed4jConfig setDuplicateIndexSize(int duplicateIndexSize) {
+        this.duplicateIndexSize = Math.max(1, duplicateIndexSize);
+        return this;
+    }
+
+    public int getDuplicateMaxDistance() {
+        return duplicateMaxDistance;
+    }
+
+    /**
+     * Nombre maximal de bits différents entre les empreintes de deux doublons (0 à 3)
+     */
+    public Feed4jConfig setDuplicateMaxDistance(int duplicateMaxDistance) {
+        this.duplicateMaxDistance = Math.max(0, Math.min(3, duplicateMaxDistance));
+        return this;
+    }
+
+    public int getMaxItems() {
+        return maxItems;
+    }
+
+    /**
+     * Nombre maximal d'items lus par flux (0 = illimité); la lecture s'arrête dès qu'il est atteint
+     */
+    public Feed4jConfig setMaxItems(int maxItems) {
+        this.maxItems = Math.max(0, maxItems);
+        return this;
+    }
+
+    public long getMaxItemAgeMs() {
+        return maxItemAgeMs;
+    }
+
+    /**
+     * Âge maximal des items lus (0 = illimité); la lecture s'arrête au premier item plus ancien
+     */
+    public Feed4jConfig setMaxItemAgeMs(long maxItemAgeMs) {
+        this.maxItemAgeMs = Math.max(0, maxItemAgeMs);
+        return this;
+    }
+
+    public int getBufferPoolSize() {
+        return bufferPoolSize;
+    }
+
+    /**
+     * Nombre de tampons de lecture conservés entre deux téléchargements (0 = pas de pool)
+     */
+    public Feed4jConfig setBufferPoolSize(int bufferPoolSize) {
+        this.bufferPoolSize = Math.max(0, bufferPoolSize);
+        return this;
+    }
+
+    public int getMaxPooledBufferBytes() {
+        return maxPooledBufferBytes;
+    }
+
+    /**
+     * Taille au-delà de laquelle un tampon de lecture n'est pas conservé
+     */
+    public Feed4jConfig setMaxPooledBufferBytes(int maxPooledBufferBytes) {
+        this.maxPooledBufferBytes = Math.max(BufferPool.INITIAL_BUFFER_SIZE, maxPooledBufferBytes);
+        return this;
+    }
+
+    public int getMaxBodyBytes() {
+        return maxBodyBytes;
+    }
+
+    /**
+     * Taille maximale d'un corps de réponse: au-delà, la lecture échoue avec BODY_TOO_LARGE (0 = pas de limite)
+     */
+    public Feed4jConfig setMaxBodyBytes(int maxBodyBytes) {
+        this.maxBodyBytes = Math.max(0, maxBodyBytes);
+        return this;
+    }
+
+    public DescriptionMode getDescriptionMode() {
+        return descriptionMode;
+    }
+
+    /**
+     * Forme des descriptions conservées: brute, texte brut ou HTML assaini, convertie une
+     * seule fois au parsing (null = RAW)
+     */
+    public Feed4jConfig setDescriptionMode(DescriptionMode descriptionMode) {
+        this.descriptionMode = descriptionMode != null ? descriptionMode : DescriptionMode.RAW;
+        return this;
+    }
+
+    public int getDescriptionMaxLength() {
+        return descriptionMaxLength;
+    }
+
+    /**
+     * Longueur maximale du texte visible des descriptions converties (0 = pas de limite);
+     * sans effet en mode RAW
+     */
+    public Feed4jConfig setDescriptionMaxLength(int descriptionMaxLength) {
+        this.descriptionMaxLength = Math.max(0, descriptionMaxLength);
+        return this;
+    }
+
+    public Path getSharedCacheFile() {
+        return sharedCacheFile;
+    }
+
+    /**
+     * Fichier mappé en mémoire partagé par les processus de la machine: un flux téléchargé
+     * par l'un est servi aux autres jusqu'à son expiration (null = cache local uniquement)
+     */
+    public Feed4jConfig setSharedCacheFile(Path sharedCacheFile) {
+        this.sharedCacheFile = sharedCacheFile;
+        return this;
+    }
+
+    public int getSharedCacheSlots() {
+        return sharedCacheSlots;
+    }
+
+    /**
+     * Nombre d'emplacements du fichier partagé, utilisé à sa création
+     */
+    public Feed4jConfig setSharedCacheSlots(int sharedCacheSlots) {
+        this.sharedCacheSlots = Math.max(1, sharedCacheSlots);
+        return this;
+    }
+
+    public int getSharedCacheSlotBytes() {
+        return sharedCacheSlotBytes;
+    }
+
+    /**
+     * Taille d'un emplacement du fichier partagé, utilisée à sa création: les flux encodés
+     * plus grands ne sont pas partagés
+     */
+    public Feed4jConfig setSharedCacheSlotBytes(int sharedCacheSlotBytes) {
+        this.sharedCacheSlotBytes = Math.max(1024, sharedCacheSlotBytes);
+        return this;
+    }
 }
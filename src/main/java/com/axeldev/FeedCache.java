@@ -1,18 +1,62 @@
 package com.axeldev;
 
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Supplier;
 
 /**
  * Cache pour les flux RSS afin d'éviter les téléchargements répétés
  */
 public class FeedCache {
+    // Délai initial par défaut pendant lequel un échec est conservé
+    static final long DEFAULT_FAILURE_BACKOFF_MS = 5000;
+    static final double DEFAULT_FAILURE_JITTER = 0.2;
+
     private final Map<String, CachedFeed> cache = new ConcurrentHashMap<>();
+    private final Map<String, CachedFailure> failures = new ConcurrentHashMap<>();
+    private final List<FeedCacheListener> listeners = new CopyOnWriteArrayList<>();
+    private final List<CacheRemovalListener> removalListeners = new CopyOnWriteArrayList<>();
+    // Compteurs répartis (LongAdder): pas de contention entre les threads qui lisent le cache
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder negativeHits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder loads = new LongAdder();
+    private final LongAdder loadNanos = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder removals = new LongAdder();
+    private final LongAdder estimatedBytes = new LongAdder();
+    // Numéro de chaque modification, attribué dans compute: ordonne les notifications d'une même URL
+    private final AtomicLong versions = new AtomicLong();
     private final long cacheDurationMs;
+    private final long failureBackoffMs;
+    private final long maxFailureBackoffMs;
+    private final double failureJitter;
+    // Fichier partagé entre processus, null si désactivé
+    private volatile SharedFeedStore sharedStore;
 
     public FeedCache(long cacheDurationMs) {
+        this(cacheDurationMs, cacheDurationMs > 0 ? DEFAULT_FAILURE_BACKOFF_MS : 0,
+            cacheDurationMs, DEFAULT_FAILURE_JITTER);
+    }
+
+    /**
+     * @param cacheDurationMs Durée de validité d'un flux en cache
+     * @param failureBackoffMs Durée de rétention d'un premier échec (0 = échecs non mis en cache)
+     * @param maxFailureBackoffMs Plafond de la durée de rétention après des échecs consécutifs
+     * @param failureJitter Variation aléatoire relative appliquée à chaque rétention (0 à 1)
+     */
+    public FeedCache(long cacheDurationMs, long failureBackoffMs, long maxFailureBackoffMs, double failureJitter) {
         this.cacheDurationMs = cacheDurationMs;
+        this.failureBackoffMs = Math.max(0, failureBackoffMs);
+        this.maxFailureBackoffMs = Math.max(this.failureBackoffMs, maxFailureBackoffMs);
+        this.failureJitter = Math.min(1.0, Math.max(0.0, failureJitter));
     }
 
     /**
@@ -22,23 +66,269 @@ public class FeedCache {
      * @return Le flux RSS
      */
     public RssFeed get(String url, Supplier<RssFeed> loader) {
+        FeedResult result = getResult(url, () -> {
+            RssFeed feed = loader.get();
+            return feed != null ? FeedResult.success(feed) : null;
+        });
+        return result != null ? result.getFeed() : null;
+    }
+
+    /**
+     * Récupère un résultat depuis le cache ou le charge si nécessaire.
+     * Les échecs sont conservés avec un délai croissant (backoff exponentiel)
+     * tant que le flux continue d'échouer.
+     * @param url URL du flux
+     * @param loader Fonction pour charger le flux si pas en cache; un résultat null n'est pas mis en cache
+     * @return Le résultat, issu du cache ou du loader
+     */
+    public FeedResult getResult(String url, Supplier<FeedResult> loader) {
+        CacheLookupEvent event = new CacheLookupEvent();
+        event.begin();
+
+        FeedResult result = countedLookup(url);
+        boolean hit = result != null;
+        if (!hit) {
+            long start = System.nanoTime();
+            result = loader.get();
+            loadNanos.add(System.nanoTime() - start);
+            loads.increment();
+            store(url, result);
+        }
+
+        event.end();
+        if (event.shouldCommit()) {
+            event.url = url;
+            event.hit = hit;
+            event.commit();
+        }
+        return result;
+    }
+
+    /**
+     * Retourne le résultat en cache encore valide (flux ou échec), sans le charger
+     * @return Le résultat, ou null s'il est absent ou expiré
+     */
+    FeedResult getIfPresent(String url) {
+        return countedLookup(url);
+    }
+
+    /**
+     * Indique si un résultat encore valide (flux ou échec) est dans le cache local, sans compter
+     * de lecture ni reprendre d'entrée du fichier partagé: l'appel ne modifie pas le cache
+     */
+    boolean contains(String url) {
+        CachedFeed cached = cache.get(url);
+        if (cached != null && !cached.isExpired()) {
+            return true;
+        }
+        CachedFailure failure = failures.get(url);
+        return failure != null && !failure.isExpired();
+    }
+
+    /**
+     * Recherche en comptant la lecture: succès, échec conservé (hit négatif) ou absence
+     */
+    private FeedResult countedLookup(String url) {
+        FeedResult result = lookup(url);
+        if (result == null) {
+            misses.increment();
+        } else if (result.hasFeed()) {
+            hits.increment();
+        } else {
+            negativeHits.increment();
+        }
+        return result;
+    }
+
+    private FeedResult lookup(String url) {
         CachedFeed cached = cache.get(url);
         if (cached != null && !cached.isExpired()) {
-            return cached.feed;
+            return cached.result;
+        }
+        // Un flux lu par un autre processus est préférable à un échec conservé localement
+        FeedResult shared = loadShared(url, cached);
+        if (shared != null) {
+            return shared;
+        }
+        CachedFailure failure = failures.get(url);
+        if (failure != null && !failure.isExpired()) {
+            return failure.result;
+        }
+        return null;
+    }
+
+    /**
+     * Reprend dans le cache local un flux encore valide du fichier partagé,
+     * avec la date de stockage et l'expiration de l'écrivain
+     */
+    private FeedResult loadShared(String url, CachedFeed local) {
+        SharedFeedStore store = sharedStore;
+        if (store == null) {
+            return null;
+        }
+        SharedFeedStore.Entry entry = store.get(url);
+        if (entry == null || (local != null && entry.storedAt <= local.timestamp)) {
+            return null;
         }
+        RssFeed feed;
+        try {
+            feed = FeedCodec.decode(ByteBuffer.wrap(entry.payload));
+        } catch (RuntimeException e) {
+            // Entrée écrite par une autre version de la bibliothèque, ou illisible
+            return null;
+        }
+        FeedResult result = FeedResult.success(feed).withContentHash(entry.contentHash);
+        putLocal(url, result, entry.storedAt, entry.expiresAt - entry.storedAt);
+        failures.remove(url);
+        return result;
+    }
 
-        RssFeed feed = loader.get();
-        if (feed != null) {
-            cache.put(url, new CachedFeed(feed, System.currentTimeMillis(), cacheDurationMs));
+    /**
+     * Range un résultat dans le cache local et notifie les listeners
+     * @return false si le même résultat était déjà en cache: seule sa date a été renouvelée
+     */
+    private boolean putLocal(String url, FeedResult result, long timestamp, long durationMs) {
+        CachedFeed current = cache.get(url);
+        long bytes = current != null && current.result == result ? current.estimatedBytes : estimateBytes(result.getFeed());
+        Change change = new Change();
+        // compute ne fait que remplacer l'entrée et tenir les compteurs: les listeners sont
+        // notifiés après, hors du verrou de la map, et peuvent donc modifier le cache
+        cache.compute(url, (key, previous) -> {
+            if (previous != null && previous.result == result) {
+                // Contenu inchangé (même empreinte): rien ne quitte le cache, rien à notifier
+                return new CachedFeed(result, timestamp, durationMs, previous.estimatedBytes);
+            }
+            if (previous != null) {
+                removed(change, previous, previous.isExpired() ? RemovalCause.EXPIRED : RemovalCause.REPLACED);
+            }
+            change.version = versions.incrementAndGet();
+            estimatedBytes.add(bytes);
+            return new CachedFeed(result, timestamp, durationMs, bytes);
+        });
+        if (change.version == 0) {
+            return false;
+        }
+        RssFeed previous = change.removed != null ? change.removed.result.getFeed() : null;
+        for (FeedCacheListener listener : listeners) {
+            listener.onStore(url, result.getFeed(), previous, change.version);
+        }
+        notifyRemoval(url, change);
+        return true;
+    }
+
+    /**
+     * Comptabilise une entrée qui quitte le cache; appelé dans compute, sans notifier
+     */
+    private void removed(Change change, CachedFeed entry, RemovalCause cause) {
+        estimatedBytes.add(-entry.estimatedBytes);
+        if (cause == RemovalCause.EXPIRED) {
+            evictions.increment();
+        } else if (cause == RemovalCause.EXPLICIT) {
+            removals.increment();
+        }
+        change.removed = entry;
+        change.cause = cause;
+    }
+
+    /**
+     * Notifie les listeners publics de retrait
+     */
+    private void notifyRemoval(String url, Change change) {
+        if (change.removed == null) {
+            return;
+        }
+        for (CacheRemovalListener listener : removalListeners) {
+            listener.onRemoval(url, change.removed.result.getFeed(), change.cause);
         }
-        return feed;
     }
 
     /**
-     * Vide complètement le cache
+     * Notifie tous les listeners du retrait d'une entrée, une fois compute terminé
+     */
+    private void notifyRemove(String url, Change change) {
+        if (change.removed == null) {
+            return;
+        }
+        for (FeedCacheListener listener : listeners) {
+            listener.onRemove(url, change.removed.result.getFeed(), change.version);
+        }
+        notifyRemoval(url, change);
+    }
+
+    private void store(String url, FeedResult result) {
+        if (result == null) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        if (result.hasFeed() && !result.isStale()) {
+            boolean changed = putLocal(url, result, now, cacheDurationMs);
+            failures.remove(url);
+            SharedFeedStore store = sharedStore;
+            // Flux inchangé: prolonger l'entrée partagée sans la réencoder, si elle est encore là
+            if (store != null && (changed || !store.touch(url, result.contentHash(), now, now + cacheDurationMs))) {
+                // Ignoré si le flux encodé ne tient pas dans un emplacement
+                store.put(url, FeedCodec.encode(result.getFeed()), now, now + cacheDurationMs, result.contentHash());
+            }
+        } else if (failureBackoffMs > 0 && !isCircuitOpen(result)) {
+            // Un refus du disjoncteur n'a pas contacté le flux: il ne prolonge pas son backoff
+            failures.compute(url, (key, previous) -> {
+                int consecutive = previous != null ? previous.consecutiveFailures + 1 : 1;
+                return new CachedFailure(result, now, jitter(failureBackoffMs(consecutive)), consecutive);
+            });
+        }
+    }
+
+    private static boolean isCircuitOpen(FeedResult result) {
+        FeedFailure failure = result.getFailure();
+        return failure != null && failure.getReason() == FailureReason.CIRCUIT_OPEN;
+    }
+
+    /**
+     * Calcule la durée de rétention d'un échec: doublée à chaque échec consécutif,
+     * plafonnée à la durée maximale configurée
+     */
+    long failureBackoffMs(int consecutiveFailures) {
+        int shift = Math.min(consecutiveFailures - 1, 30);
+        long backoff = failureBackoffMs << shift;
+        return backoff < 0 ? maxFailureBackoffMs : Math.min(backoff, maxFailureBackoffMs);
+    }
+
+    /**
+     * Applique une variation aléatoire pour éviter que les flux en échec soient retentés en même temps
+     */
+    private long jitter(long backoffMs) {
+        if (failureJitter == 0 || backoffMs == 0) {
+            return backoffMs;
+        }
+        double factor = 1 + failureJitter * (ThreadLocalRandom.current().nextDouble() * 2 - 1);
+        return (long) (backoffMs * factor);
+    }
+
+    /**
+     * Retourne la dernière version en cache d'un flux, même expirée
+     * @return Le flux, ou null s'il n'a jamais été chargé ou a été supprimé
+     */
+    public RssFeed getStale(String url) {
+        FeedResult result = peek(url);
+        return result != null ? result.getFeed() : null;
+    }
+
+    /**
+     * Retourne le dernier résultat lu avec succès pour un flux, même expiré
+     */
+    FeedResult peek(String url) {
+        CachedFeed cached = cache.get(url);
+        return cached != null ? cached.result : null;
+    }
+
+    /**
+     * Vide complètement le cache, y compris les entrées de ces flux dans le fichier partagé
      */
     public void clear() {
-        cache.clear();
+        for (String url : cache.keySet()) {
+            removeEntry(url);
+        }
+        failures.clear();
     }
 
     /**
@@ -46,10 +336,153 @@ public class FeedCache {
      */
     public void remove(String url) {
         if (url != null) {
-            cache.remove(url);
+            removeEntry(url);
+            failures.remove(url);
         }
     }
 
+    private void removeEntry(String url) {
+        SharedFeedStore store = sharedStore;
+        if (store != null) {
+            store.remove(url);
+        }
+        Change change = new Change();
+        cache.computeIfPresent(url, (key, entry) -> {
+            removed(change, entry, RemovalCause.EXPLICIT);
+            change.version = versions.incrementAndGet();
+            return null;
+        });
+        notifyRemove(url, change);
+    }
+
+    /**
+     * Retire les flux et les échecs expirés. Sans cet appel, un flux expiré reste en mémoire
+     * (servi comme version périmée) jusqu'à son prochain chargement.
+     * @return Le nombre de flux retirés
+     */
+    public int cleanUp() {
+        int count = 0;
+        for (String url : cache.keySet()) {
+            Change change = new Change();
+            cache.computeIfPresent(url, (key, entry) -> {
+                if (!entry.isExpired()) {
+                    return entry;
+                }
+                removed(change, entry, RemovalCause.EXPIRED);
+                change.version = versions.incrementAndGet();
+                return null;
+            });
+            if (change.removed != null) {
+                notifyRemove(url, change);
+                count++;
+            }
+        }
+        failures.values().removeIf(CachedFailure::isExpired);
+        return count;
+    }
+
+    /**
+     * Retourne les statistiques du cache. Les compteurs sont lus sans verrou; l'état des entrées
+     * est calculé en un parcours, à une même date de référence.
+     */
+    public CacheStats stats() {
+        long now = System.currentTimeMillis();
+        long[] histogram = new long[CacheStats.ageBucketCount()];
+        int entries = 0;
+        int expired = 0;
+        long oldest = 0;
+        for (CachedFeed entry : cache.values()) {
+            long age = Math.max(0, now - entry.timestamp);
+            histogram[CacheStats.ageBucket(age)]++;
+            oldest = Math.max(oldest, age);
+            if (age > entry.cacheDurationMs) {
+                expired++;
+            }
+            entries++;
+        }
+        return new CacheStats(hits.sum(), negativeHits.sum(), misses.sum(), loads.sum(), loadNanos.sum(), evictions.sum(),
+            removals.sum(), entries, expired, failures.size(), Math.max(0, estimatedBytes.sum()), oldest, histogram);
+    }
+
+    /**
+     * Retourne les flux en cache (expirés compris) avec leurs métadonnées.
+     * Le parcours ne bloque pas le cache: une entrée modifiée pendant l'appel peut apparaître
+     * dans l'une ou l'autre de ses versions.
+     */
+    public List<CacheEntry> entries() {
+        long now = System.currentTimeMillis();
+        List<CacheEntry> entries = new ArrayList<>(cache.size());
+        cache.forEach((url, entry) -> entries.add(new CacheEntry(url, entry.result, entry.timestamp,
+            entry.timestamp + entry.cacheDurationMs, entry.estimatedBytes, now)));
+        return entries;
+    }
+
+    /**
+     * Ajoute un listener notifié de chaque flux qui quitte le cache, avec la raison
+     */
+    public void addRemovalListener(CacheRemovalListener listener) {
+        removalListeners.add(listener);
+    }
+
+    public void removeRemovalListener(CacheRemovalListener listener) {
+        removalListeners.remove(listener);
+    }
+
+    /**
+     * Estimation haute de la mémoire retenue par un flux: en-têtes d'objets et chaînes
+     * (un octet par caractère latin-1, deux au-delà), sans tenir compte du partage des chaînes
+     */
+    static long estimateBytes(RssFeed feed) {
+        long bytes = 64 + estimate(feed.getTitle()) + estimate(feed.getLink()) + estimate(feed.getDescription());
+        if (feed.getItems() == null) {
+            return bytes;
+        }
+        bytes += 16 + 4L * feed.getItems().size();
+        for (RssItem item : feed.getItems()) {
+            bytes += 72 + estimate(item.getTitle()) + estimate(item.getLink()) + estimate(item.getDescription())
+                + estimate(item.getGuid()) + estimate(item.getAuthor()) + estimate(item.getThumbnailUrl());
+            for (String category : item.getCategories()) {
+                bytes += 4 + estimate(category);
+            }
+            for (RssEnclosure enclosure : item.getEnclosures()) {
+                bytes += 32 + estimate(enclosure.getUrl()) + estimate(enclosure.getType());
+            }
+            for (MediaContent media : item.getMediaContents()) {
+                bytes += 48 + estimate(media.getUrl()) + estimate(media.getType()) + estimate(media.getMedium());
+            }
+        }
+        return bytes;
+    }
+
+    private static long estimate(String value) {
+        if (value == null) {
+            return 0;
+        }
+        long length = value.length();
+        for (int i = 0; i < value.length(); i++) {
+            if (value.charAt(i) > 0xFF) {
+                length = 2L * value.length();
+                break;
+            }
+        }
+        // En-tête du String et du tableau, aligné sur 8 octets
+        return 40 + ((length + 7) & ~7L);
+    }
+
+    /**
+     * Ajoute un listener notifié des mises en cache et des suppressions
+     */
+    void addListener(FeedCacheListener listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Partage les flux mis en cache avec les autres processus qui utilisent le même fichier
+     */
+    void attachSharedStore(SharedFeedStore store) {
+        this.sharedStore = store;
+    }
+
     /**
      * Retourne le nombre d'entrées en cache
      */
@@ -57,22 +490,61 @@ public class FeedCache {
         return cache.size();
     }
 
+    /**
+     * Retourne le nombre d'échecs actuellement mis en cache
+     */
+    public int failureCount() {
+        return failures.size();
+    }
+
     /**
      * Classe interne pour stocker un flux en cache avec son timestamp
      */
     private static class CachedFeed {
-        final RssFeed feed;
+        final FeedResult result;
         final long timestamp;
         final long cacheDurationMs;
+        final long estimatedBytes;
 
-        CachedFeed(RssFeed feed, long timestamp, long cacheDurationMs) {
-            this.feed = feed;
+        CachedFeed(FeedResult result, long timestamp, long cacheDurationMs, long estimatedBytes) {
+            this.result = result;
             this.timestamp = timestamp;
             this.cacheDurationMs = cacheDurationMs;
+            this.estimatedBytes = estimatedBytes;
         }
 
         boolean isExpired() {
             return System.currentTimeMillis() - timestamp > cacheDurationMs;
         }
     }
+
+    /**
+     * Modification faite dans compute, à notifier une fois le verrou de l'entrée relâché
+     */
+    private static final class Change {
+        CachedFeed removed;
+        RemovalCause cause;
+        long version;
+    }
+
+    /**
+     * Classe interne pour stocker un échec avec sa durée de rétention
+     */
+    private static class CachedFailure {
+        final FeedResult result;
+        final long timestamp;
+        final long backoffMs;
+        final int consecutiveFailures;
+
+        CachedFailure(FeedResult result, long timestamp, long backoffMs, int consecutiveFailures) {
+            this.result = result;
+            this.timestamp = timestamp;
+            this.backoffMs = backoffMs;
+            this.consecutiveFailures = consecutiveFailures;
+        }
+
+        boolean isExpired() {
+            return System.currentTimeMillis() - timestamp > backoffMs;
+        }
+    }
 }
@@ -0,0 +1,22 @@
+package com.axeldev;
+
+/**
+ * Notifié des changements du contenu de FeedCache, après la modification et hors de tout verrou
+ * du cache. Deux modifications concurrentes d'une même URL peuvent être notifiées dans le désordre:
+ * la version, croissante dans l'ordre des modifications, permet d'ignorer une notification dépassée.
+ */
+interface FeedCacheListener {
+
+    /**
+     * Un flux a été mis en cache, remplaçant éventuellement une version précédente
+     * @param previous Version remplacée, ou null
+     * @param version Numéro de la modification
+     */
+    void onStore(String url, RssFeed feed, RssFeed previous, long version);
+
+    /**
+     * Un flux a été retiré du cache
+     * @param version Numéro de la modification
+     */
+    void onRemove(String url, RssFeed feed, long version);
+}
@@ -0,0 +1,202 @@
+package com.axeldev;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Encodage binaire compact d'un RssFeed et de ses items, pour le cache partagé entre processus.
+ * Chaînes: longueur (int, -1 pour null) suivie des octets UTF-8; dates en millisecondes.
+ */
+final class FeedCodec {
+    private static final byte VERSION = 2;
+
+    private FeedCodec() {}
+
+    static byte[] encode(RssFeed feed) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(1024);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(VERSION);
+            writeString(out, feed.getTitle());
+            writeString(out, feed.getLink());
+            writeString(out, feed.getDescription());
+            out.writeInt(feed.getTtl());
+            out.writeLong(toMillis(feed.getLastBuildDate()));
+            RssImage image = feed.getImage();
+            out.writeBoolean(image != null);
+            if (image != null) {
+                writeString(out, image.getUrl());
+                writeString(out, image.getTitle());
+                writeString(out, image.getLink());
+                out.writeInt(image.getWidth());
+                out.writeInt(image.getHeight());
+            }
+            out.writeInt(feed.getItems().size());
+            for (RssItem item : feed.getItems()) {
+                writeItem(out, item);
+            }
+        } catch (IOException e) {
+            // Impossible avec un ByteArrayOutputStream
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static void writeItem(DataOutputStream out, RssItem item) throws IOException {
+        writeString(out, item.getTitle());
+        writeString(out, item.getLink());
+        writeString(out, item.getDescription());
+        out.writeByte(item.getDescriptionMode().ordinal());
+        out.writeLong(item.getPubDateMillis());
+        writeString(out, item.getGuid());
+        writeString(out, item.getAuthor());
+        out.writeInt(item.getCategories().size());
+        for (String category : item.getCategories()) {
+            writeString(out, category);
+        }
+        out.writeInt(item.getEnclosures().size());
+        for (RssEnclosure enclosure : item.getEnclosures()) {
+            writeString(out, enclosure.getUrl());
+            out.writeLong(enclosure.getLength());
+            writeString(out, enclosure.getType());
+        }
+        out.writeInt(item.getMediaContents().size());
+        for (MediaContent media : item.getMediaContents()) {
+            writeString(out, media.getUrl());
+            writeString(out, media.getType());
+            writeString(out, media.getMedium());
+            out.writeLong(media.getFileSize());
+            out.writeInt(media.getWidth());
+            out.writeInt(media.getHeight());
+            out.writeInt(media.getDuration());
+        }
+        writeString(out, item.getThumbnailUrl());
+        writeString(out, item.getDuplicateOf());
+    }
+
+    /**
+     * Décode un flux encodé par encode
+     * @throws IllegalArgumentException si les données sont tronquées, invalides ou d'une autre version
+     */
+    static RssFeed decode(ByteBuffer in) {
+        try {
+            if (in.get() != VERSION) {
+                throw new IllegalArgumentException("Version d'encodage inconnue");
+            }
+            RssFeed feed = new RssFeed();
+            feed.setTitle(readString(in));
+            feed.setLink(readString(in));
+            feed.setDescription(readString(in));
+            feed.setTtl(in.getInt());
+            feed.setLastBuildDate(fromMillis(in.getLong()));
+            if (in.get() != 0) {
+                feed.setImage(new RssImage(readString(in), readString(in), readString(in), in.getInt(), in.getInt()));
+            }
+            int count = readCount(in);
+            List<RssItem> items = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                items.add(readItem(in));
+            }
+            feed.setItems(items);
+            return feed;
+        } catch (BufferUnderflowException e) {
+            throw new IllegalArgumentException("Données tronquées", e);
+        } catch (DateTimeException e) {
+            throw new IllegalArgumentException("Date invalide", e);
+        }
+    }
+
+    private static RssItem readItem(ByteBuffer in) {
+        RssItem.Builder builder = RssItem.builder()
+            .title(readString(in))
+            .link(readString(in))
+            .description(readString(in))
+            .descriptionMode(descriptionMode(in.get()))
+            .pubDateMillis(in.getLong())
+            .guid(readString(in))
+            .author(readString(in));
+        int count = readCount(in);
+        List<String> categories = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            categories.add(readString(in));
+        }
+        count = readCount(in);
+        List<RssEnclosure> enclosures = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            enclosures.add(new RssEnclosure(readString(in), in.getLong(), readString(in)));
+        }
+        count = readCount(in);
+        List<MediaContent> mediaContents = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            mediaContents.add(new MediaContent(readString(in), readString(in), readString(in),
+                in.getLong(), in.getInt(), in.getInt(), in.getInt()));
+        }
+        return builder
+            .categories(categories)
+            .enclosures(enclosures)
+            .mediaContents(mediaContents)
+            .thumbnailUrl(readString(in))
+            .duplicateOf(readString(in))
+            .build();
+    }
+
+    private static DescriptionMode descriptionMode(byte ordinal) {
+        DescriptionMode[] modes = DescriptionMode.values();
+        if (ordinal < 0 || ordinal >= modes.length) {
+            throw new IllegalArgumentException("Forme de description inconnue: " + ordinal);
+        }
+        return modes[ordinal];
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(ByteBuffer in) {
+        int length = in.getInt();
+        if (length < 0) {
+            return null;
+        }
+        if (length > in.remaining()) {
+            throw new IllegalArgumentException("Données tronquées");
+        }
+        String value = new String(in.array(), in.arrayOffset() + in.position(), length, StandardCharsets.UTF_8);
+        in.position(in.position() + length);
+        return value;
+    }
+
+    private static int readCount(ByteBuffer in) {
+        int count = in.getInt();
+        if (count < 0 || count > in.remaining()) {
+            throw new IllegalArgumentException("Données tronquées");
+        }
+        return count;
+    }
+
+    private static long toMillis(LocalDateTime date) {
+        return date != null ? date.toInstant(ZoneOffset.UTC).toEpochMilli() : RssItem.NO_DATE;
+    }
+
+    private static LocalDateTime fromMillis(long millis) {
+        if (millis == RssItem.NO_DATE) {
+            return null;
+        }
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(millis, 1000L),
+            (int) Math.floorMod(millis, 1000L) * 1_000_000, ZoneOffset.UTC);
+    }
+}
@@ -0,0 +1,23 @@
+package com.axeldev;
+
+/**
+ * Exception portant un échec typé lors de la lecture d'un flux
+ */
+public class FeedException extends Exception {
+    private static final long serialVersionUID = 1L;
+
+    private final FeedFailure failure;
+
+    public FeedException(FeedFailure failure) {
+        super(failure.toString(), failure.getCause());
+        this.failure = failure;
+    }
+
+    public FeedFailure getFailure() {
+        return failure;
+    }
+
+    public FailureReason getReason() {
+        return failure.getReason();
+    }
+}
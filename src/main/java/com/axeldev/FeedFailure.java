@@ -0,0 +1,136 @@
+package com.axeldev;
+
+import java.io.IOException;
+import java.io.Serializable;
+import java.net.MalformedURLException;
+import java.net.SocketTimeoutException;
+import java.net.URISyntaxException;
+
+import javax.xml.stream.XMLStreamException;
+
+import org.xml.sax.SAXException;
+
+/**
+ * Description d'un échec de lecture d'un flux ou d'un item, sans trace de pile imprimée
+ */
+public final class FeedFailure implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private final FailureReason reason;
+    private final String message;
+    private final int httpStatus;
+    private final int itemIndex;
+    private final Throwable cause;
+
+    FeedFailure(FailureReason reason, String message, int httpStatus, int itemIndex, Throwable cause) {
+        this.reason = reason;
+        this.message = message;
+        this.httpStatus = httpStatus;
+        this.itemIndex = itemIndex;
+        this.cause = cause;
+    }
+
+    /**
+     * Crée un échec au niveau du flux
+     */
+    static FeedFailure of(FailureReason reason, String message) {
+        return new FeedFailure(reason, message, 0, -1, null);
+    }
+
+    /**
+     * Crée un échec pour une réponse HTTP en erreur
+     */
+    static FeedFailure http(int status, String message) {
+        return new FeedFailure(FailureReason.HTTP_ERROR, message, status, -1, null);
+    }
+
+    /**
+     * Crée un échec pour l'item à l'index donné
+     */
+    static FeedFailure item(int itemIndex, Throwable cause) {
+        return new FeedFailure(FailureReason.INVALID_ITEM, describe(cause), 0, itemIndex, cause);
+    }
+
+    /**
+     * Classe une exception levée pendant la lecture d'un flux
+     */
+    static FeedFailure from(Throwable e) {
+        if (e instanceof FeedException) {
+            return ((FeedException) e).getFailure();
+        }
+        return new FeedFailure(classify(e), describe(e), 0, -1, e);
+    }
+
+    private static FailureReason classify(Throwable e) {
+        if (e instanceof SocketTimeoutException) {
+            return FailureReason.TIMEOUT;
+        }
+        if (e instanceof MalformedURLException || e instanceof URISyntaxException) {
+            return FailureReason.INVALID_URL;
+        }
+        if (e instanceof SAXException) {
+            return FailureReason.MALFORMED_XML;
+        }
+        if (e instanceof XMLStreamException) {
+            // Lecture en flux: une erreur réseau peut remonter enveloppée par le parseur
+            Throwable nested = ((XMLStreamException) e).getNestedException();
+            return nested instanceof IOException ? classify(nested) : FailureReason.MALFORMED_XML;
+        }
+        if (e instanceof BodyTooLargeException) {
+            return FailureReason.BODY_TOO_LARGE;
+        }
+        if (e instanceof IOException) {
+            return FailureReason.NETWORK_ERROR;
+        }
+        return FailureReason.UNKNOWN;
+    }
+
+    private static String describe(Throwable e) {
+        String message = e.getMessage();
+        return message != null ? e.getClass().getSimpleName() + ": " + message : e.getClass().getSimpleName();
+    }
+
+    public FailureReason getReason() {
+        return reason;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    /**
+     * Retourne le statut HTTP de la réponse, ou 0 s'il n'est pas connu
+     */
+    public int getHttpStatus() {
+        return httpStatus;
+    }
+
+    /**
+     * Retourne l'index de l'item en échec, ou -1 pour un échec au niveau du flux
+     */
+    public int getItemIndex() {
+        return itemIndex;
+    }
+
+    /**
+     * Retourne l'exception d'origine, si elle existe
+     */
+    public Throwable getCause() {
+        return cause;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder(reason.name());
+        if (httpStatus != 0) {
+            sb.append(" (HTTP ").append(httpStatus).append(')');
+        }
+        if (itemIndex >= 0) {
+            sb.append(" [item ").append(itemIndex).append(']');
+        }
+        if (message != null) {
+            sb.append(": ").append(message);
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,238 @@
+package com.axeldev;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Publisher des mises à jour d'un ensemble de flux relus périodiquement.
+ * Les flux ne sont relus que lorsque l'abonné a de la demande: un abonné lent
+ * ralentit la surveillance au lieu d'accumuler des mises à jour en mémoire.
+ * Un seul thread démon, partagé par tous les abonnements, ne fait que planifier les relectures:
+ * les lectures bloquantes s'exécutent sur l'executor d'entrées-sorties. Un abonnement n'a jamais
+ * plus d'une tâche planifiée ou en cours à la fois, ses signaux sont donc délivrés en série.
+ */
+final class FeedPollPublisher implements Flow.Publisher<FeedUpdate> {
+    private static final ScheduledExecutorService SCHEDULER = newScheduler();
+
+    private final Function<String, FeedResult> reader;
+    private final List<String> urls;
+    private final long intervalMs;
+    private final Executor executor;
+
+    /**
+     * @param reader Lecture d'un flux, en général via le cache
+     * @param urls URLs des flux surveillés
+     * @param intervalMs Délai minimal entre deux lectures d'un même flux (strictement positif)
+     * @param executor Executor sur lequel les flux sont lus et les mises à jour délivrées
+     */
+    FeedPollPublisher(Function<String, FeedResult> reader, List<String> urls, long intervalMs, Executor executor) {
+        if (intervalMs <= 0) {
+            throw new IllegalArgumentException("L'intervalle doit être positif: " + intervalMs);
+        }
+        this.reader = reader;
+        this.urls = List.copyOf(urls);
+        this.intervalMs = intervalMs;
+        this.executor = Objects.requireNonNull(executor, "executor");
+    }
+
+    /**
+     * Planificateur partagé: ses tâches sont brèves, un thread suffit.
+     * Le thread inactif est arrêté et ne retient pas la JVM.
+     */
+    private static ScheduledExecutorService newScheduler() {
+        ScheduledThreadPoolExecutor scheduler = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, "feed4j-poll");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.setKeepAliveTime(30, TimeUnit.SECONDS);
+        scheduler.allowCoreThreadTimeOut(true);
+        // Les relectures annulées par cancel ne restent pas dans la file jusqu'à leur échéance
+        scheduler.setRemoveOnCancelPolicy(true);
+        return scheduler;
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super FeedUpdate> subscriber) {
+        Objects.requireNonNull(subscriber, "subscriber");
+        PollSubscription subscription = new PollSubscription(subscriber);
+        if (urls.isEmpty()) {
+            subscription.completed = true;
+        }
+        subscriber.onSubscribe(subscription);
+        subscription.signal();
+    }
+
+    private final class PollSubscription implements Flow.Subscription {
+        private final Flow.Subscriber<? super FeedUpdate> subscriber;
+        private final AtomicLong demand = new AtomicLong();
+        // Vrai tant qu'une tâche poll ou fetch est planifiée ou en cours: celui qui le passe à vrai la planifie
+        private final AtomicBoolean polling = new AtomicBoolean();
+        private volatile boolean cancelled;
+        private volatile boolean completed;
+        private volatile Throwable invalidRequest;
+        private volatile Future<?> scheduled;
+        // Accédés uniquement par les tâches poll et fetch, qui s'exécutent en série
+        private final long[] nextPollAt = new long[urls.size()];
+        private final RssFeed[] lastFeeds = new RssFeed[urls.size()];
+        private final boolean[] lastFailed = new boolean[urls.size()];
+        private final boolean[] published = new boolean[urls.size()];
+        private int next;
+
+        PollSubscription(Flow.Subscriber<? super FeedUpdate> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                invalidRequest = new IllegalArgumentException("La demande doit être positive: " + n);
+            } else {
+                ItemPublisher.addDemand(demand, n);
+            }
+            signal();
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+            Future<?> task = scheduled;
+            if (task != null) {
+                task.cancel(false);
+            }
+        }
+
+        /**
+         * Planifie la tâche poll si aucune n'est en attente
+         */
+        void signal() {
+            if (!cancelled && polling.compareAndSet(false, true)) {
+                submit(0);
+            }
+        }
+
+        private boolean hasWork() {
+            return demand.get() > 0 || completed || invalidRequest != null;
+        }
+
+        /**
+         * Relit le prochain flux de la rotation quand il est dû, puis se replanifie.
+         * La fin et les demandes invalides sont aussi délivrées ici, jamais en parallèle d'un onNext.
+         */
+        private void poll() {
+            if (cancelled) {
+                return;
+            }
+            Throwable invalid = invalidRequest;
+            if (invalid != null || completed) {
+                // Signal terminal: polling reste à vrai, plus rien n'est planifié
+                cancelled = true;
+                if (invalid != null) {
+                    subscriber.onError(invalid);
+                } else {
+                    subscriber.onComplete();
+                }
+                return;
+            }
+            if (demand.get() == 0) {
+                polling.set(false);
+                // Une demande a pu arriver entre le test et la remise à false
+                if (!hasWork() || !polling.compareAndSet(false, true)) {
+                    return;
+                }
+                if (demand.get() == 0) {
+                    submit(0);
+                    return;
+                }
+            }
+
+            int index = next;
+            long delay = nextPollAt[index] - System.currentTimeMillis();
+            if (delay > 0) {
+                submit(delay);
+                return;
+            }
+            next = (index + 1) % urls.size();
+            try {
+                executor.execute(() -> fetch(index));
+            } catch (RejectedExecutionException e) {
+                cancelled = true;
+                subscriber.onError(e);
+            }
+        }
+
+        /**
+         * Relit un flux hors du planificateur, publie la mise à jour éventuelle puis replanifie poll
+         */
+        private void fetch(int index) {
+            if (cancelled) {
+                return;
+            }
+            String url = urls.get(index);
+            FeedResult result;
+            try {
+                result = reader.apply(url);
+            } catch (RuntimeException e) {
+                result = FeedResult.failure(FeedFailure.from(e));
+            }
+            nextPollAt[index] = System.currentTimeMillis() + intervalMs;
+
+            FeedUpdate update = cancelled ? null : toUpdate(index, url, result);
+            if (update != null) {
+                ItemPublisher.consumeDemand(demand);
+                try {
+                    subscriber.onNext(update);
+                } catch (RuntimeException e) {
+                    // Un abonné qui lève une exception est considéré comme désabonné
+                    cancel();
+                    return;
+                }
+            }
+            submit(0);
+        }
+
+        /**
+         * Construit la mise à jour si le flux a changé depuis la dernière publication
+         * @return La mise à jour, ou null si rien n'a changé
+         */
+        private FeedUpdate toUpdate(int index, String url, FeedResult result) {
+            RssFeed feed = result.getFeed();
+            boolean failed = result.getFailure() != null;
+            if (published[index] && feed == lastFeeds[index] && failed == lastFailed[index]) {
+                return null;
+            }
+            // Les items inchangés sont réutilisés d'une version à l'autre: l'identité suffit
+            Set<RssItem> known = Collections.newSetFromMap(new IdentityHashMap<>());
+            if (lastFeeds[index] != null) {
+                known.addAll(lastFeeds[index].getItems());
+            }
+            List<RssItem> newItems = feed == null || feed == lastFeeds[index] ? List.of()
+                : feed.getItems().stream().filter(item -> !known.contains(item)).toList();
+            published[index] = true;
+            lastFeeds[index] = feed;
+            lastFailed[index] = failed;
+            return new FeedUpdate(url, result, newItems);
+        }
+
+        private void submit(long delayMs) {
+            scheduled = SCHEDULER.schedule(this::poll, delayMs, TimeUnit.MILLISECONDS);
+            // Un cancel concurrent a pu lire l'ancienne tâche
+            if (cancelled) {
+                scheduled.cancel(false);
+            }
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package com.axeldev;
+
+import java.util.List;
+
+/**
+ * Résultat de la lecture d'un flux: le flux (éventuellement partiel) et les échecs rencontrés
+ */
+public final class FeedResult {
+    // Hash du corps de la réponse quand il n'est pas connu
+    static final long NO_HASH = -1;
+
+    private final RssFeed feed;
+    private final FeedFailure failure;
+    private final List<FeedFailure> itemFailures;
+    private final long contentHash;
+
+    private FeedResult(RssFeed feed, FeedFailure failure, List<FeedFailure> itemFailures) {
+        this(feed, failure, itemFailures, NO_HASH);
+    }
+
+    private FeedResult(RssFeed feed, FeedFailure failure, List<FeedFailure> itemFailures, long contentHash) {
+        this.feed = feed;
+        this.failure = failure;
+        this.itemFailures = List.copyOf(itemFailures);
+        this.contentHash = contentHash;
+    }
+
+    /**
+     * Flux lu sans aucune erreur
+     */
+    public static FeedResult success(RssFeed feed) {
+        return new FeedResult(feed, null, List.of());
+    }
+
+    /**
+     * Flux lu dont certains items n'ont pas pu être parsés
+     */
+    public static FeedResult partial(RssFeed feed, List<FeedFailure> itemFailures) {
+        return new FeedResult(feed, null, itemFailures);
+    }
+
+    /**
+     * Échec de lecture du flux
+     */
+    public static FeedResult failure(FeedFailure failure) {
+        return new FeedResult(null, failure, List.of());
+    }
+
+    /**
+     * Ancienne version d'un flux servie à la place d'une lecture en échec
+     */
+    public static FeedResult stale(RssFeed feed, FeedFailure failure) {
+        return new FeedResult(feed, failure, List.of());
+    }
+
+    /**
+     * Retourne une copie de ce résultat associée au hash du corps dont il est issu
+     */
+    FeedResult withContentHash(long contentHash) {
+        return new FeedResult(feed, failure, itemFailures, contentHash);
+    }
+
+    /**
+     * Retourne le hash du corps de la réponse dont est issu le flux, ou NO_HASH
+     */
+    long contentHash() {
+        return contentHash;
+    }
+
+    /**
+     * Retourne le flux lu, ou null en cas d'échec
+     */
+    public RssFeed getFeed() {
+        return feed;
+    }
+
+    /**
+     * Retourne l'échec au niveau du flux, ou null si le flux a été lu.
+     * Un résultat périmé porte à la fois un flux et un échec.
+     */
+    public FeedFailure getFailure() {
+        return failure;
+    }
+
+    /**
+     * Retourne les échecs des items ignorés lors du parsing
+     */
+    public List<FeedFailure> getItemFailures() {
+        return itemFailures;
+    }
+
+    /**
+     * Indique si le flux a été lu, même partiellement
+     */
+    public boolean hasFeed() {
+        return feed != null;
+    }
+
+    /**
+     * Indique si le flux a été lu sans aucune erreur
+     */
+    public boolean isSuccess() {
+        return feed != null && failure == null && itemFailures.isEmpty();
+    }
+
+    /**
+     * Indique si le flux a été lu mais que des items ont été ignorés
+     */
+    public boolean isPartial() {
+        return feed != null && failure == null && !itemFailures.isEmpty();
+    }
+
+    /**
+     * Indique si le flux servi est une ancienne version, la lecture ayant échoué
+     */
+    public boolean isStale() {
+        return feed != null && failure != null;
+    }
+
+    @Override
+    public String toString() {
+        if (feed == null) {
+            return "FeedResult[failure=" + failure + "]";
+        }
+        if (failure != null) {
+            return "FeedResult[stale, failure=" + failure + "]";
+        }
+        return "FeedResult[items=" + (feed.getItems() != null ? feed.getItems().size() : 0)
+            + ", itemFailures=" + itemFailures.size() + "]";
+    }
+}
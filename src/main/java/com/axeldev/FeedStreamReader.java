@@ -0,0 +1,267 @@
+package com.axeldev;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+/**
+ * Lecture en flux (StAX) des items d'un flux RSS, un item à la fois.
+ * Le document n'est jamais chargé en entier: seul l'item courant est en mémoire
+ * et le flux d'entrée n'est lu qu'au rythme des appels à nextItem.
+ * Les champs du channel sont relevés au passage.
+ */
+final class FeedStreamReader implements Closeable {
+
+    private final XMLStreamReader reader;
+    private final InputStream in;
+    private final StringPool pool;
+    private final HtmlFilter filter;
+    private final List<FeedFailure> itemFailures = new ArrayList<>();
+    private int itemIndex;
+    private boolean finished;
+    // Profondeur de l'élément courant, et de l'élément channel (-1 tant qu'il n'est pas ouvert)
+    private int depth;
+    private int channelDepth = -1;
+    private final ChannelFields channel = new ChannelFields();
+
+    /**
+     * @param factory Fabrique créée par newInputFactory
+     * @param in Flux d'entrée, fermé avec ce lecteur
+     * @param pool Pool de déduplication des chaînes, ou null
+     * @param filter Conversion des descriptions HTML, ou null
+     */
+    FeedStreamReader(XMLInputFactory factory, InputStream in, StringPool pool, HtmlFilter filter) throws XMLStreamException {
+        this.in = in;
+        this.pool = pool;
+        this.filter = filter;
+        this.reader = factory.createXMLStreamReader(in);
+    }
+
+    /**
+     * Crée une fabrique StAX protégée contre les entités externes (XXE)
+     */
+    static XMLInputFactory newInputFactory() {
+        XMLInputFactory factory = XMLInputFactory.newInstance();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        factory.setProperty(XMLInputFactory.IS_COALESCING, true);
+        return factory;
+    }
+
+    /**
+     * Lit le prochain item valide. Les items invalides sont ignorés et enregistrés
+     * dans getItemFailures.
+     * @return L'item, ou null à la fin du document
+     */
+    RssItem nextItem() throws XMLStreamException {
+        while (!finished && reader.hasNext()) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.END_ELEMENT) {
+                depth--;
+            } else if (event == XMLStreamConstants.START_ELEMENT) {
+                if (isElement("item")) {
+                    int index = itemIndex++;
+                    try {
+                        return readItem();
+                    } catch (FeedException e) {
+                        itemFailures.add(FeedFailure.item(index, e));
+                    }
+                } else if (!readChannelField()) {
+                    depth++;
+                }
+            }
+        }
+        finished = true;
+        return null;
+    }
+
+    /**
+     * Poursuit la lecture sans parser les items jusqu'à connaître le titre, le lien
+     * et la description du channel (ou jusqu'à la fin du document)
+     */
+    void readRemainingHeader() throws XMLStreamException {
+        while (!channel.isComplete() && !finished && reader.hasNext()) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.END_ELEMENT) {
+                depth--;
+            } else if (event == XMLStreamConstants.START_ELEMENT) {
+                if (isElement("item")) {
+                    skipElement();
+                } else if (!readChannelField()) {
+                    depth++;
+                }
+            }
+        }
+    }
+
+    /**
+     * Lit l'élément courant s'il s'agit d'un champ du channel (enfant direct)
+     * @return true si l'élément a été consommé
+     */
+    private boolean readChannelField() throws XMLStreamException {
+        if (channelDepth < 0) {
+            if (isElement("channel")) {
+                channelDepth = depth;
+            }
+            return false;
+        }
+        if (depth != channelDepth + 1) {
+            return false;
+        }
+        String name = qualifiedName();
+        if (name.equals("image")) {
+            readImage();
+        } else if (channel.wantsText(name)) {
+            channel.text(name, readText());
+        } else {
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Lit les enfants de l'élément image du channel
+     */
+    private void readImage() throws XMLStreamException {
+        int level = 0;
+        while (true) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                if (level == 0) {
+                    channel.imageText(qualifiedName(), readText());
+                } else {
+                    level++;
+                }
+            } else if (event == XMLStreamConstants.END_ELEMENT && level-- == 0) {
+                return;
+            }
+        }
+    }
+
+    boolean hasChannel() {
+        return channelDepth >= 0;
+    }
+
+    /**
+     * Retourne les champs du channel lus jusqu'ici
+     */
+    ChannelFields getChannel() {
+        return channel;
+    }
+
+    /**
+     * Retourne les échecs des items ignorés jusqu'ici
+     */
+    List<FeedFailure> getItemFailures() {
+        return itemFailures;
+    }
+
+    /**
+     * Lit les champs de l'item courant jusqu'à sa balise fermante, en un seul parcours.
+     * Comme avec DOM, le premier élément de chaque nom est retenu, quelle que soit sa profondeur.
+     */
+    private RssItem readItem() throws XMLStreamException, FeedException {
+        ItemFields fields = new ItemFields(pool, filter);
+        int level = 0;
+        while (true) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.END_ELEMENT) {
+                if (level-- == 0) {
+                    break;
+                }
+            } else if (event == XMLStreamConstants.START_ELEMENT) {
+                String name = qualifiedName();
+                if (ItemFields.isAttributeField(name)) {
+                    fields.attributes(name, attribute -> reader.getAttributeValue(null, attribute));
+                    level++;
+                } else if (fields.wantsText(name)) {
+                    fields.text(name, readText());
+                } else {
+                    level++;
+                }
+            }
+        }
+        return fields.build();
+    }
+
+    /**
+     * Concatène le texte de l'élément courant et de ses descendants, comme getTextContent
+     */
+    private String readText() throws XMLStreamException {
+        StringBuilder text = new StringBuilder();
+        int level = 0;
+        while (true) {
+            int event = reader.next();
+            switch (event) {
+                case XMLStreamConstants.CHARACTERS:
+                case XMLStreamConstants.CDATA:
+                case XMLStreamConstants.SPACE:
+                case XMLStreamConstants.ENTITY_REFERENCE:
+                    text.append(reader.getText());
+                    break;
+                case XMLStreamConstants.START_ELEMENT:
+                    level++;
+                    break;
+                case XMLStreamConstants.END_ELEMENT:
+                    if (level-- == 0) {
+                        return text.toString();
+                    }
+                    break;
+                default:
+                    break;
+            }
+        }
+    }
+
+    /**
+     * Passe l'élément courant et ses descendants
+     */
+    private void skipElement() throws XMLStreamException {
+        int level = 0;
+        while (true) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                level++;
+            } else if (event == XMLStreamConstants.END_ELEMENT && level-- == 0) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Nom qualifié de l'élément courant (voir ItemFields.qualifiedName)
+     */
+    private String qualifiedName() {
+        return ItemFields.qualifiedName(reader.getNamespaceURI(), reader.getPrefix(), reader.getLocalName());
+    }
+
+    /**
+     * Élément sans préfixe portant ce nom (media:title n'est pas un titre)
+     */
+    private boolean isElement(String name) {
+        String prefix = reader.getPrefix();
+        return (prefix == null || prefix.isEmpty()) && name.equals(reader.getLocalName());
+    }
+
+    /**
+     * Ferme le lecteur et le flux d'entrée, même si le document n'a pas été lu en entier
+     */
+    @Override
+    public void close() throws IOException {
+        finished = true;
+        try {
+            reader.close();
+        } catch (XMLStreamException e) {
+            // Le flux d'entrée est fermé dans tous les cas
+        } finally {
+            in.close();
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.axeldev;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Fusion de plusieurs flux en une chronologie unique, du plus récent au plus ancien.
+ * Chaque flux garde ses items triés par date (voir RssFeed.getItemsByDate), la fusion
+ * est un k-way merge paresseux sur un tas: obtenir les N premiers items coûte O(N log k).
+ */
+public final class FeedTimeline {
+
+    /**
+     * Ordre du plus récent au plus ancien, les items sans date en dernier
+     */
+    public static final Comparator<RssItem> NEWEST_FIRST =
+        (a, b) -> Long.compare(b.getPubDateMillis(), a.getPubDateMillis());
+
+    private FeedTimeline() {}
+
+    /**
+     * Fusionne paresseusement les items de plusieurs flux.
+     * À date égale, l'ordre des flux puis l'ordre dans chaque flux sont conservés,
+     * ce qui donne le même résultat qu'un tri stable de tous les items.
+     * @param feeds Flux à fusionner (les null sont ignorés)
+     * @return Un stream séquentiel et paresseux des items
+     */
+    public static Stream<RssItem> merge(List<RssFeed> feeds) {
+        List<List<RssItem>> sortedLists = new ArrayList<>(feeds.size());
+        for (RssFeed feed : feeds) {
+            if (feed != null && !feed.getItems().isEmpty()) {
+                sortedLists.add(feed.getItemsByDate());
+            }
+        }
+        Iterator<RssItem> iterator = new MergeIterator(sortedLists);
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator,
+            Spliterator.ORDERED | Spliterator.NONNULL), false);
+    }
+
+    /**
+     * Retourne les N items les plus récents de plusieurs flux
+     */
+    public static List<RssItem> latest(List<RssFeed> feeds, int limit) {
+        List<RssItem> result = new ArrayList<>(Math.max(0, Math.min(limit, 1024)));
+        Iterator<RssItem> iterator = merge(feeds).iterator();
+        while (result.size() < limit && iterator.hasNext()) {
+            result.add(iterator.next());
+        }
+        return result;
+    }
+
+    /**
+     * Itérateur de fusion: le tas contient un curseur par liste non épuisée
+     */
+    private static final class MergeIterator implements Iterator<RssItem> {
+        private final List<List<RssItem>> lists;
+        private final PriorityQueue<Cursor> heap;
+
+        MergeIterator(List<List<RssItem>> lists) {
+            this.lists = lists;
+            this.heap = new PriorityQueue<>(Math.max(1, lists.size()));
+            for (int i = 0; i < lists.size(); i++) {
+                heap.add(new Cursor(i, 0, lists.get(i).get(0).getPubDateMillis()));
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !heap.isEmpty();
+        }
+
+        @Override
+        public RssItem next() {
+            Cursor cursor = heap.poll();
+            if (cursor == null) {
+                throw new NoSuchElementException();
+            }
+            List<RssItem> list = lists.get(cursor.list);
+            RssItem item = list.get(cursor.position);
+            int nextPosition = cursor.position + 1;
+            if (nextPosition < list.size()) {
+                // Réutiliser le curseur pour éviter une allocation par item
+                cursor.position = nextPosition;
+                cursor.pubDate = list.get(nextPosition).getPubDateMillis();
+                heap.add(cursor);
+            }
+            return item;
+        }
+    }
+
+    private static final class Cursor implements Comparable<Cursor> {
+        final int list;
+        int position;
+        long pubDate;
+
+        Cursor(int list, int position, long pubDate) {
+            this.list = list;
+            this.position = position;
+            this.pubDate = pubDate;
+        }
+
+        @Override
+        public int compareTo(Cursor other) {
+            int byDate = Long.compare(other.pubDate, pubDate);
+            return byDate != 0 ? byDate : Integer.compare(list, other.list);
+        }
+    }
+}
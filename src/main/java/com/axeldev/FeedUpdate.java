@@ -0,0 +1,48 @@
+package com.axeldev;
+
+import java.util.List;
+
+/**
+ * Nouvelle version d'un flux surveillé, publiée par Feed4j.pollFeeds
+ */
+public final class FeedUpdate {
+    private final String url;
+    private final FeedResult result;
+    private final List<RssItem> newItems;
+
+    FeedUpdate(String url, FeedResult result, List<RssItem> newItems) {
+        this.url = url;
+        this.result = result;
+        this.newItems = List.copyOf(newItems);
+    }
+
+    public String getUrl() {
+        return url;
+    }
+
+    /**
+     * Retourne le résultat de la lecture, qui peut être un échec
+     */
+    public FeedResult getResult() {
+        return result;
+    }
+
+    /**
+     * Retourne le flux, ou null si la lecture a échoué sans version en cache
+     */
+    public RssFeed getFeed() {
+        return result.getFeed();
+    }
+
+    /**
+     * Retourne les items absents de la version précédemment publiée (tous les items à la première lecture)
+     */
+    public List<RssItem> getNewItems() {
+        return newItems;
+    }
+
+    @Override
+    public String toString() {
+        return "FeedUpdate[url=" + url + ", newItems=" + newItems.size() + ", result=" + result + "]";
+    }
+}
@@ -0,0 +1,28 @@
+package com.axeldev;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Événement JFR émis pour chaque téléchargement d'un flux
+ */
+@Name("com.axeldev.Fetch")
+@Label("Feed Fetch")
+@Category("Feed4j")
+@Description("Téléchargement et lecture du document XML d'un flux")
+final class FetchEvent extends Event {
+
+    @Label("URL")
+    String url;
+
+    @Label("Bytes Read")
+    @DataAmount
+    long bytes;
+
+    @Label("HTTP Status")
+    int status;
+}
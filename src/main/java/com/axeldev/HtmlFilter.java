@@ -0,0 +1,306 @@
+package com.axeldev;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Conversion des descriptions HTML en texte brut ou en HTML assaini, en un seul passage
+ * sur les jetons de HtmlTokenizer. La longueur maximale porte sur le texte visible;
+ * au-delà, le résultat est coupé et terminé par "…".
+ */
+final class HtmlFilter {
+    private static final char ELLIPSIS = '…';
+
+    // Balises qui séparent des blocs de texte
+    private static final Set<String> BLOCK_TAGS = Set.of(
+        "p", "br", "div", "li", "ul", "ol", "tr", "table", "blockquote", "pre", "hr",
+        "h1", "h2", "h3", "h4", "h5", "h6", "section", "article", "header", "footer", "figure", "figcaption", "dd", "dt");
+    // Balises conservées par l'assainissement
+    private static final Set<String> ALLOWED_TAGS = Set.of(
+        "a", "abbr", "b", "blockquote", "br", "code", "em", "figcaption", "figure", "h1", "h2", "h3", "h4", "h5", "h6",
+        "hr", "i", "img", "li", "ol", "p", "pre", "q", "s", "strong", "sub", "sup", "u", "ul");
+    private static final Set<String> VOID_TAGS = Set.of("br", "hr", "img");
+
+    private final DescriptionMode mode;
+    private final int maxLength;
+
+    /**
+     * @param mode Forme des descriptions conservées
+     * @param maxLength Longueur maximale du texte visible (0 = pas de limite)
+     */
+    HtmlFilter(DescriptionMode mode, int maxLength) {
+        this.mode = mode;
+        this.maxLength = maxLength;
+    }
+
+    DescriptionMode mode() {
+        return mode;
+    }
+
+    /**
+     * Transforme une description selon le mode configuré
+     */
+    String apply(String html) {
+        switch (mode) {
+            case TEXT:
+                return toText(html, maxLength);
+            case SANITIZED:
+                return sanitize(html, maxLength);
+            default:
+                return html;
+        }
+    }
+
+    /**
+     * Extrait le texte visible: entités décodées, espaces regroupés, un saut de ligne entre deux blocs
+     * @param maxLength Longueur maximale (0 = pas de limite)
+     */
+    static String toText(String html, int maxLength) {
+        if (html == null) {
+            return null;
+        }
+        TextBuffer out = new TextBuffer(html.length(), maxLength);
+        HtmlTokenizer tokenizer = new HtmlTokenizer(html);
+        int token;
+        while (!out.full && (token = tokenizer.next()) != HtmlTokenizer.EOF) {
+            if (token == HtmlTokenizer.TEXT) {
+                out.text(html, tokenizer.textStart(), tokenizer.textEnd(), !tokenizer.isCdata());
+            } else if (BLOCK_TAGS.contains(tokenizer.tagName())) {
+                out.newline();
+            }
+        }
+        return out.toString();
+    }
+
+    /**
+     * Produit un HTML sûr: seules les balises et attributs de formatage courants sont conservés,
+     * les URL autres que http, https et mailto sont retirées, les balises ouvertes sont refermées
+     * @param maxLength Longueur maximale du texte visible (0 = pas de limite)
+     */
+    static String sanitize(String html, int maxLength) {
+        if (html == null) {
+            return null;
+        }
+        StringBuilder out = new StringBuilder(html.length());
+        Deque<String> open = new ArrayDeque<>();
+        HtmlTokenizer tokenizer = new HtmlTokenizer(html);
+        int visible = 0;
+        int token;
+        while ((token = tokenizer.next()) != HtmlTokenizer.EOF) {
+            if (token == HtmlTokenizer.TEXT) {
+                int start = tokenizer.textStart();
+                int end = tokenizer.textEnd();
+                StringBuilder text = new StringBuilder(end - start);
+                if (tokenizer.isCdata()) {
+                    text.append(html, start, end);
+                } else {
+                    HtmlTokenizer.appendDecoded(html, start, end, text);
+                }
+                if (maxLength > 0 && visible + text.length() > maxLength) {
+                    int keep = Math.max(0, maxLength - 1 - visible);
+                    if (keep > 0 && Character.isHighSurrogate(text.charAt(keep - 1))) {
+                        keep--;
+                    }
+                    escape(text, 0, keep, out);
+                    out.append(ELLIPSIS);
+                    break;
+                }
+                visible += text.length();
+                escape(text, 0, text.length(), out);
+            } else if (token == HtmlTokenizer.START_TAG) {
+                startTag(tokenizer, open, out);
+            } else {
+                endTag(tokenizer.tagName(), open, out);
+            }
+        }
+        while (!open.isEmpty()) {
+            out.append("</").append(open.pop()).append('>');
+        }
+        return out.toString();
+    }
+
+    private static void startTag(HtmlTokenizer tokenizer, Deque<String> open, StringBuilder out) {
+        String name = tokenizer.tagName();
+        if (!ALLOWED_TAGS.contains(name)) {
+            return;
+        }
+        if (name.equals("img")) {
+            String src = safeUrl(tokenizer.attribute("src"));
+            if (src == null) {
+                return;
+            }
+            out.append("<img");
+            attribute(out, "src", src);
+            attribute(out, "alt", tokenizer.attribute("alt"));
+            attribute(out, "title", tokenizer.attribute("title"));
+            out.append('>');
+            return;
+        }
+        out.append('<').append(name);
+        if (name.equals("a")) {
+            attribute(out, "href", safeUrl(tokenizer.attribute("href")));
+            attribute(out, "title", tokenizer.attribute("title"));
+        }
+        out.append('>');
+        if (!VOID_TAGS.contains(name) && !tokenizer.isSelfClosing()) {
+            open.push(name);
+        }
+    }
+
+    /**
+     * Ferme la balise si elle est ouverte, avec celles ouvertes depuis; sinon l'ignore
+     */
+    private static void endTag(String name, Deque<String> open, StringBuilder out) {
+        if (!open.contains(name)) {
+            return;
+        }
+        Iterator<String> it = open.iterator();
+        while (it.hasNext()) {
+            String closed = it.next();
+            it.remove();
+            out.append("</").append(closed).append('>');
+            if (closed.equals(name)) {
+                break;
+            }
+        }
+    }
+
+    private static void attribute(StringBuilder out, String name, String value) {
+        if (value == null) {
+            return;
+        }
+        out.append(' ').append(name).append("=\"");
+        escape(value, 0, value.length(), out);
+        out.append('"');
+    }
+
+    /**
+     * Retourne l'URL si elle est relative ou en http, https ou mailto, null sinon
+     */
+    private static String safeUrl(String url) {
+        if (url == null) {
+            return null;
+        }
+        String trimmed = url.trim();
+        // Ignorer les caractères de contrôle insérés pour masquer le schéma ("java\tscript:")
+        StringBuilder scheme = new StringBuilder();
+        for (int i = 0; i < trimmed.length(); i++) {
+            char c = trimmed.charAt(i);
+            if (c == ':') {
+                String value = scheme.toString().toLowerCase(Locale.ROOT);
+                return value.equals("http") || value.equals("https") || value.equals("mailto") ? trimmed : null;
+            }
+            if (c == '/' || c == '?' || c == '#') {
+                break;
+            }
+            if (c > ' ') {
+                scheme.append(c);
+            }
+        }
+        return trimmed;
+    }
+
+    /**
+     * Échappe les caractères spéciaux HTML d'un texte brut
+     */
+    static String escape(String text) {
+        StringBuilder out = new StringBuilder(text.length() + 16);
+        escape(text, 0, text.length(), out);
+        return out.toString();
+    }
+
+    private static void escape(CharSequence text, int start, int end, StringBuilder out) {
+        for (int i = start; i < end; i++) {
+            char c = text.charAt(i);
+            switch (c) {
+                case '&':
+                    out.append("&amp;");
+                    break;
+                case '<':
+                    out.append("&lt;");
+                    break;
+                case '>':
+                    out.append("&gt;");
+                    break;
+                case '"':
+                    out.append("&quot;");
+                    break;
+                default:
+                    out.append(c);
+            }
+        }
+    }
+
+    /**
+     * Texte en construction: espaces regroupés, blancs de début et de fin retirés, coupure à la longueur maximale
+     */
+    private static final class TextBuffer {
+        private final StringBuilder out;
+        private final int maxLength;
+        // Blanc en attente: 0 aucun, 1 espace, 2 saut de ligne
+        private int pending;
+        boolean full;
+
+        TextBuffer(int capacity, int maxLength) {
+            this.out = new StringBuilder(maxLength > 0 ? Math.min(capacity, maxLength + 1) : capacity);
+            this.maxLength = maxLength;
+        }
+
+        void text(String html, int start, int end, boolean decode) {
+            int i = start;
+            while (i < end && !full) {
+                int c = html.charAt(i);
+                int consumed = 1;
+                if (decode && c == '&') {
+                    long entity = HtmlTokenizer.decodeEntity(html, i, end);
+                    if (entity >= 0) {
+                        c = (int) (entity >>> 32);
+                        consumed = (int) entity;
+                    }
+                }
+                i += consumed;
+                if (Character.isWhitespace(c) || c == 0xA0) {
+                    pending = Math.max(pending, 1);
+                } else {
+                    append(c);
+                }
+            }
+        }
+
+        void newline() {
+            pending = 2;
+        }
+
+        private void append(int codePoint) {
+            int whitespace = out.length() > 0 ? pending : 0;
+            int needed = (whitespace > 0 ? 1 : 0) + Character.charCount(codePoint);
+            if (maxLength > 0 && out.length() + needed > maxLength) {
+                // Trop long: garder maxLength - 1 caractères suivis de "…"
+                int cut = Math.min(out.length(), maxLength - 1);
+                if (cut > 0 && Character.isHighSurrogate(out.charAt(cut - 1))) {
+                    cut--;
+                }
+                out.setLength(cut);
+                while (out.length() > 0 && Character.isWhitespace(out.charAt(out.length() - 1))) {
+                    out.setLength(out.length() - 1);
+                }
+                out.append(ELLIPSIS);
+                full = true;
+                return;
+            }
+            if (whitespace > 0) {
+                out.append(whitespace == 2 ? '\n' : ' ');
+            }
+            out.appendCodePoint(codePoint);
+            pending = 0;
+        }
+
+        @Override
+        public String toString() {
+            return out.toString();
+        }
+    }
+}
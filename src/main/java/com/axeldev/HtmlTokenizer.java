@@ -0,0 +1,302 @@
+package com.axeldev;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Découpe du HTML en texte, balises ouvrantes et balises fermantes, en un seul passage
+ * et sans construire d'arbre. Commentaires, doctype et instructions sont ignorés;
+ * le contenu des éléments de texte brut (script, style...) est sauté avec eux.
+ * Tolère le HTML mal formé: un '<' qui n'ouvre pas de balise est du texte.
+ */
+final class HtmlTokenizer {
+    static final int EOF = 0;
+    static final int TEXT = 1;
+    static final int START_TAG = 2;
+    static final int END_TAG = 3;
+
+    // Éléments dont le contenu n'est pas du HTML: il est sauté jusqu'à la balise fermante
+    private static final Set<String> RAW_TEXT_ELEMENTS = Set.of(
+        "script", "style", "textarea", "title", "xmp", "iframe", "noembed", "noframes", "noscript", "template");
+
+    private static final Map<String, Integer> ENTITIES = Map.ofEntries(
+        Map.entry("amp", (int) '&'), Map.entry("lt", (int) '<'), Map.entry("gt", (int) '>'),
+        Map.entry("quot", (int) '"'), Map.entry("apos", (int) '\''), Map.entry("nbsp", 0xA0),
+        Map.entry("hellip", 0x2026), Map.entry("mdash", 0x2014), Map.entry("ndash", 0x2013),
+        Map.entry("lsquo", 0x2018), Map.entry("rsquo", 0x2019), Map.entry("ldquo", 0x201C),
+        Map.entry("rdquo", 0x201D), Map.entry("laquo", 0xAB), Map.entry("raquo", 0xBB),
+        Map.entry("bull", 0x2022), Map.entry("middot", 0xB7), Map.entry("copy", 0xA9),
+        Map.entry("reg", 0xAE), Map.entry("trade", 0x2122), Map.entry("euro", 0x20AC),
+        Map.entry("deg", 0xB0), Map.entry("times", 0xD7), Map.entry("agrave", 0xE0),
+        Map.entry("acirc", 0xE2), Map.entry("ccedil", 0xE7), Map.entry("eacute", 0xE9),
+        Map.entry("egrave", 0xE8), Map.entry("ecirc", 0xEA), Map.entry("euml", 0xEB),
+        Map.entry("icirc", 0xEE), Map.entry("iuml", 0xEF), Map.entry("ocirc", 0xF4),
+        Map.entry("ugrave", 0xF9), Map.entry("ucirc", 0xFB), Map.entry("uuml", 0xFC),
+        Map.entry("Agrave", 0xC0), Map.entry("Eacute", 0xC9), Map.entry("Egrave", 0xC8),
+        Map.entry("Ccedil", 0xC7), Map.entry("auml", 0xE4), Map.entry("ouml", 0xF6),
+        Map.entry("szlig", 0xDF), Map.entry("ntilde", 0xF1), Map.entry("aacute", 0xE1),
+        Map.entry("iacute", 0xED), Map.entry("oacute", 0xF3), Map.entry("uacute", 0xFA));
+
+    private final String html;
+    private final int length;
+    private int pos;
+    // Jeton courant
+    private String tagName;
+    private int attributesStart;
+    private int attributesEnd;
+    private boolean selfClosing;
+    private int textStart;
+    private int textEnd;
+    private boolean cdata;
+    // Balise fermante attendue après un élément de texte brut
+    private String rawTextEnd;
+
+    HtmlTokenizer(String html) {
+        this.html = html;
+        this.length = html.length();
+    }
+
+    /**
+     * Avance au jeton suivant
+     * @return TEXT, START_TAG, END_TAG ou EOF
+     */
+    int next() {
+        if (rawTextEnd != null) {
+            skipRawText();
+        }
+        while (pos < length) {
+            if (html.charAt(pos) != '<') {
+                return text(pos);
+            }
+            if (html.startsWith("<!--", pos)) {
+                pos = skipPast("-->", pos + 4);
+            } else if (html.startsWith("<![CDATA[", pos)) {
+                int end = html.indexOf("]]>", pos + 9);
+                textStart = pos + 9;
+                textEnd = end >= 0 ? end : length;
+                cdata = true;
+                pos = end >= 0 ? end + 3 : length;
+                return TEXT;
+            } else if (pos + 1 < length && (html.charAt(pos + 1) == '!' || html.charAt(pos + 1) == '?')) {
+                pos = skipPast(">", pos + 2);
+            } else if (pos + 1 < length && html.charAt(pos + 1) == '/' && isNameStart(pos + 2)) {
+                readTag(pos + 2);
+                return END_TAG;
+            } else if (isNameStart(pos + 1)) {
+                readTag(pos + 1);
+                if (!selfClosing && RAW_TEXT_ELEMENTS.contains(tagName)) {
+                    rawTextEnd = "</" + tagName;
+                }
+                return START_TAG;
+            } else {
+                // '<' isolé: du texte jusqu'au prochain '<'
+                return text(pos + 1);
+            }
+        }
+        return EOF;
+    }
+
+    private int text(int from) {
+        int end = html.indexOf('<', from);
+        textStart = pos;
+        textEnd = end >= 0 ? end : length;
+        cdata = false;
+        pos = textEnd;
+        return TEXT;
+    }
+
+    private void readTag(int nameStart) {
+        int i = nameStart;
+        while (i < length && !isTagNameEnd(html.charAt(i))) {
+            i++;
+        }
+        tagName = html.substring(nameStart, i).toLowerCase(Locale.ROOT);
+        attributesStart = i;
+        // Chercher le '>' de fin en ignorant ceux des valeurs entre guillemets
+        char quote = 0;
+        while (i < length) {
+            char c = html.charAt(i);
+            if (quote != 0) {
+                if (c == quote) {
+                    quote = 0;
+                }
+            } else if (c == '"' || c == '\'') {
+                quote = c;
+            } else if (c == '>') {
+                break;
+            }
+            i++;
+        }
+        attributesEnd = i;
+        selfClosing = i > attributesStart && html.charAt(i - 1) == '/';
+        pos = Math.min(length, i + 1);
+    }
+
+    /**
+     * Saute le contenu jusqu'à la balise fermante attendue, quelle que soit sa casse ("</SCRIPT>")
+     */
+    private void skipRawText() {
+        int end = html.indexOf("</", pos);
+        while (end >= 0) {
+            int after = end + rawTextEnd.length();
+            if (html.regionMatches(true, end, rawTextEnd, 0, rawTextEnd.length())
+                    && (after >= length || isTagNameEnd(html.charAt(after)))) {
+                break;
+            }
+            end = html.indexOf("</", end + 2);
+        }
+        pos = end >= 0 ? end : length;
+        rawTextEnd = null;
+    }
+
+    private int skipPast(String terminator, int from) {
+        int end = html.indexOf(terminator, from);
+        return end >= 0 ? end + terminator.length() : length;
+    }
+
+    private boolean isNameStart(int i) {
+        return i < length && Character.isLetter(html.charAt(i));
+    }
+
+    private static boolean isTagNameEnd(char c) {
+        return c == '>' || c == '/' || Character.isWhitespace(c);
+    }
+
+    /**
+     * Nom de la balise courante, en minuscules
+     */
+    String tagName() {
+        return tagName;
+    }
+
+    boolean isSelfClosing() {
+        return selfClosing;
+    }
+
+    int textStart() {
+        return textStart;
+    }
+
+    int textEnd() {
+        return textEnd;
+    }
+
+    /**
+     * Indique si le texte courant est une section CDATA (entités non décodées)
+     */
+    boolean isCdata() {
+        return cdata;
+    }
+
+    String html() {
+        return html;
+    }
+
+    /**
+     * Retourne la valeur décodée d'un attribut de la balise courante
+     * @return La valeur, "" pour un attribut sans valeur, null s'il est absent
+     */
+    String attribute(String name) {
+        int i = attributesStart;
+        while (i < attributesEnd) {
+            char c = html.charAt(i);
+            if (Character.isWhitespace(c) || c == '/') {
+                i++;
+                continue;
+            }
+            int nameStart = i;
+            while (i < attributesEnd && html.charAt(i) != '=' && !isTagNameEnd(html.charAt(i))) {
+                i++;
+            }
+            boolean matches = html.regionMatches(true, nameStart, name, 0, name.length())
+                && i - nameStart == name.length();
+            while (i < attributesEnd && Character.isWhitespace(html.charAt(i))) {
+                i++;
+            }
+            if (i >= attributesEnd || html.charAt(i) != '=') {
+                if (matches) {
+                    return "";
+                }
+                continue;
+            }
+            i++;
+            while (i < attributesEnd && Character.isWhitespace(html.charAt(i))) {
+                i++;
+            }
+            int valueStart;
+            int valueEnd;
+            if (i < attributesEnd && (html.charAt(i) == '"' || html.charAt(i) == '\'')) {
+                char quote = html.charAt(i);
+                valueStart = i + 1;
+                int end = html.indexOf(quote, valueStart);
+                valueEnd = end >= 0 && end < attributesEnd ? end : attributesEnd;
+                i = valueEnd + 1;
+            } else {
+                valueStart = i;
+                while (i < attributesEnd && !Character.isWhitespace(html.charAt(i))) {
+                    i++;
+                }
+                valueEnd = i;
+            }
+            if (matches) {
+                StringBuilder value = new StringBuilder(valueEnd - valueStart);
+                appendDecoded(html, valueStart, valueEnd, value);
+                return value.toString();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Ajoute le texte en décodant les entités; une entité inconnue est conservée telle quelle
+     */
+    static void appendDecoded(String s, int start, int end, StringBuilder out) {
+        int i = start;
+        while (i < end) {
+            char c = s.charAt(i);
+            if (c == '&') {
+                long entity = decodeEntity(s, i, end);
+                if (entity >= 0) {
+                    out.appendCodePoint((int) (entity >>> 32));
+                    i += (int) entity;
+                    continue;
+                }
+            }
+            out.append(c);
+            i++;
+        }
+    }
+
+    /**
+     * Décode l'entité qui commence au '&' donné
+     * @return Le code point dans les 32 bits de poids fort et la longueur lue dans ceux de poids faible,
+     *         ou -1 si ce n'est pas une entité reconnue
+     */
+    static long decodeEntity(String s, int amp, int end) {
+        int semicolon = s.indexOf(';', amp + 1);
+        if (semicolon < 0 || semicolon >= end || semicolon - amp > 10) {
+            return -1;
+        }
+        int codePoint;
+        if (semicolon > amp + 2 && s.charAt(amp + 1) == '#') {
+            boolean hex = s.charAt(amp + 2) == 'x' || s.charAt(amp + 2) == 'X';
+            try {
+                codePoint = Integer.parseInt(s, hex ? amp + 3 : amp + 2, semicolon, hex ? 16 : 10);
+            } catch (NumberFormatException e) {
+                return -1;
+            }
+            if (codePoint <= 0 || codePoint > Character.MAX_CODE_POINT
+                    || (codePoint >= Character.MIN_SURROGATE && codePoint <= Character.MAX_SURROGATE)) {
+                codePoint = 0xFFFD;
+            }
+        } else {
+            Integer named = ENTITIES.get(s.substring(amp + 1, semicolon));
+            if (named == null) {
+                return -1;
+            }
+            codePoint = named;
+        }
+        return ((long) codePoint << 32) | (semicolon + 1 - amp);
+    }
+}
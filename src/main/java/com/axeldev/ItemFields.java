@@ -0,0 +1,228 @@
+package com.axeldev;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.function.UnaryOperator;
+
+/**
+ * Accumule les champs d'un item au fil d'un parcours unique de ses éléments,
+ * que le document soit lu en DOM ou en flux (StAX). Pour chaque champ simple
+ * le premier élément rencontré est retenu; catégories et médias sont cumulés.
+ */
+final class ItemFields {
+    static final String MEDIA_NAMESPACE = "http://search.yahoo.com/mrss/";
+    static final String DC_NAMESPACE = "http://purl.org/dc/elements/1.1/";
+
+    // Champs lus depuis le texte de l'élément
+    private static final Set<String> TEXT_FIELDS = Set.of(
+        "title", "link", "description", "pubDate", "guid", "author", "dc:creator", "category");
+    // Champs lus depuis les attributs de l'élément
+    private static final Set<String> ATTRIBUTE_FIELDS = Set.of(
+        "enclosure", "media:content", "media:thumbnail");
+
+    private final StringPool pool;
+    private final HtmlFilter filter;
+    private String title;
+    private String link;
+    private String description;
+    private String pubDate;
+    private String guid;
+    private String author;
+    private String creator;
+    private String thumbnailUrl;
+    private List<String> categories;
+    private List<RssEnclosure> enclosures;
+    private List<MediaContent> mediaContents;
+
+    /**
+     * Nom d'un élément tel qu'écrit dans les flux courants, pour le DOM comme pour StAX:
+     * sans préfixe pour RSS, media: et dc: pour Media RSS et Dublin Core quel que soit
+     * le préfixe déclaré, préfixe d'origine pour les autres espaces de noms
+     */
+    static String qualifiedName(String namespace, String prefix, String localName) {
+        if (MEDIA_NAMESPACE.equals(namespace)) {
+            return "media:" + localName;
+        }
+        if (DC_NAMESPACE.equals(namespace)) {
+            return "dc:" + localName;
+        }
+        return prefix == null || prefix.isEmpty() ? localName : prefix + ":" + localName;
+    }
+
+    /**
+     * @param pool Pool de déduplication des chaînes, ou null
+     * @param filter Conversion des descriptions HTML, ou null pour les garder telles quelles
+     */
+    ItemFields(StringPool pool, HtmlFilter filter) {
+        this.pool = pool;
+        this.filter = filter;
+    }
+
+    static boolean isTextField(String name) {
+        return TEXT_FIELDS.contains(name);
+    }
+
+    static boolean isAttributeField(String name) {
+        return ATTRIBUTE_FIELDS.contains(name);
+    }
+
+    /**
+     * Indique si le texte de cet élément est encore attendu
+     */
+    boolean wantsText(String name) {
+        switch (name) {
+            case "title":
+                return title == null;
+            case "link":
+                return link == null;
+            case "description":
+                return description == null;
+            case "pubDate":
+                return pubDate == null;
+            case "guid":
+                return guid == null;
+            case "author":
+                return author == null;
+            case "dc:creator":
+                return creator == null;
+            case "category":
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Enregistre le texte d'un élément (nom qualifié, par exemple dc:creator)
+     */
+    void text(String name, String value) {
+        switch (name) {
+            case "title":
+                title = value;
+                break;
+            case "link":
+                link = value;
+                break;
+            case "description":
+                description = value;
+                break;
+            case "pubDate":
+                pubDate = value;
+                break;
+            case "guid":
+                guid = trimToNull(value);
+                break;
+            case "author":
+                author = trimToNull(value);
+                break;
+            case "dc:creator":
+                creator = trimToNull(value);
+                break;
+            case "category":
+                String category = trimToNull(value);
+                if (category != null) {
+                    if (categories == null) {
+                        categories = new ArrayList<>(4);
+                    }
+                    categories.add(Feed4j.dedup(pool, category));
+                }
+                break;
+            default:
+                break;
+        }
+    }
+
+    /**
+     * Enregistre un élément décrit par ses attributs
+     * @param attributes Valeur d'un attribut par son nom, null si absent
+     */
+    void attributes(String name, UnaryOperator<String> attributes) {
+        String url = trimToNull(attributes.apply("url"));
+        if (url == null) {
+            return;
+        }
+        switch (name) {
+            case "enclosure":
+                if (enclosures == null) {
+                    enclosures = new ArrayList<>(1);
+                }
+                enclosures.add(new RssEnclosure(url, parseLong(attributes.apply("length")),
+                    Feed4j.dedup(pool, trimToNull(attributes.apply("type")))));
+                break;
+            case "media:content":
+                if (mediaContents == null) {
+                    mediaContents = new ArrayList<>(1);
+                }
+                mediaContents.add(new MediaContent(url,
+                    Feed4j.dedup(pool, trimToNull(attributes.apply("type"))),
+                    Feed4j.dedup(pool, trimToNull(attributes.apply("medium"))),
+                    parseLong(attributes.apply("fileSize")),
+                    parseInt(attributes.apply("width")),
+                    parseInt(attributes.apply("height")),
+                    parseInt(attributes.apply("duration"))));
+                break;
+            case "media:thumbnail":
+                if (thumbnailUrl == null) {
+                    thumbnailUrl = url;
+                }
+                break;
+            default:
+                break;
+        }
+    }
+
+    /**
+     * Construit l'item; titre, lien, description et date sont obligatoires
+     */
+    RssItem build() throws FeedException {
+        return RssItem.builder()
+            .title(Feed4j.dedup(pool, required(title, "title")))
+            .link(Feed4j.dedup(pool, required(link, "link")))
+            .description(Feed4j.dedup(pool, filter != null
+                ? filter.apply(required(description, "description")) : required(description, "description")))
+            .descriptionMode(filter != null ? filter.mode() : DescriptionMode.RAW)
+            .pubDateMillis(Feed4j.parsePubDateMillis(required(pubDate, "pubDate")))
+            .guid(guid)
+            .author(Feed4j.dedup(pool, author != null ? author : creator))
+            .categories(categories)
+            .enclosures(enclosures)
+            .mediaContents(mediaContents)
+            .thumbnailUrl(thumbnailUrl)
+            .build();
+    }
+
+    private static String required(String value, String name) throws FeedException {
+        if (value == null) {
+            throw new FeedException(FeedFailure.of(FailureReason.INVALID_ITEM, "Élément " + name + " absent"));
+        }
+        return value;
+    }
+
+    static String trimToNull(String value) {
+        if (value == null) {
+            return null;
+        }
+        String trimmed = value.trim();
+        return trimmed.isEmpty() ? null : trimmed;
+    }
+
+    static int parseInt(String value) {
+        return (int) Math.min(Integer.MAX_VALUE, parseLong(value));
+    }
+
+    /**
+     * Lit un nombre entier positif, ou retourne -1 s'il est absent ou invalide
+     */
+    static long parseLong(String value) {
+        String trimmed = trimToNull(value);
+        if (trimmed == null) {
+            return -1;
+        }
+        try {
+            return Math.max(-1, Long.parseLong(trimmed));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+}
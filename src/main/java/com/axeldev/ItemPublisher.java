@@ -0,0 +1,190 @@
+package com.axeldev;
+
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Publisher des items d'un flux, piloté par la demande: chaque abonné ouvre sa propre source
+ * à la première demande et n'en lit un item que lorsqu'il en a demandé un.
+ * Les échecs sont signalés par onError avec une FeedException.
+ */
+final class ItemPublisher implements Flow.Publisher<RssItem> {
+
+    /**
+     * Source d'items lue à la demande
+     */
+    interface Source extends AutoCloseable {
+        /**
+         * @return Le prochain item, ou null à la fin
+         */
+        RssItem next() throws Exception;
+
+        @Override
+        default void close() throws IOException {}
+    }
+
+    private final Callable<Source> opener;
+    private final Executor executor;
+
+    /**
+     * @param opener Ouvre la source d'un abonné, appelé sur l'executor
+     * @param executor Executor sur lequel les items sont lus et délivrés
+     */
+    ItemPublisher(Callable<Source> opener, Executor executor) {
+        this.opener = opener;
+        this.executor = executor;
+    }
+
+    /**
+     * Source parcourant une liste d'items déjà en mémoire
+     */
+    static Source of(List<RssItem> items) {
+        Iterator<RssItem> iterator = items.iterator();
+        return () -> iterator.hasNext() ? iterator.next() : null;
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super RssItem> subscriber) {
+        Objects.requireNonNull(subscriber, "subscriber");
+        subscriber.onSubscribe(new ItemSubscription(subscriber));
+    }
+
+    /**
+     * Ajoute une demande en plafonnant à Long.MAX_VALUE (demande illimitée)
+     */
+    static void addDemand(AtomicLong demand, long n) {
+        demand.accumulateAndGet(n, (current, added) -> {
+            long sum = current + added;
+            return sum < 0 ? Long.MAX_VALUE : sum;
+        });
+    }
+
+    /**
+     * Consomme une unité de demande, sauf si elle est illimitée
+     */
+    static void consumeDemand(AtomicLong demand) {
+        if (demand.get() != Long.MAX_VALUE) {
+            demand.decrementAndGet();
+        }
+    }
+
+    private final class ItemSubscription implements Flow.Subscription {
+        private final Flow.Subscriber<? super RssItem> subscriber;
+        private final AtomicLong demand = new AtomicLong();
+        // Nombre de signaux en attente; un seul thread exécute drain à la fois
+        private final AtomicInteger pending = new AtomicInteger();
+        private volatile boolean cancelled;
+        private volatile Throwable invalidRequest;
+        private volatile Throwable rejected;
+        // Accédés uniquement dans drain
+        private Source source;
+        private boolean done;
+
+        ItemSubscription(Flow.Subscriber<? super RssItem> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                invalidRequest = new IllegalArgumentException("La demande doit être positive: " + n);
+            } else {
+                addDemand(demand, n);
+            }
+            schedule();
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+            schedule();
+        }
+
+        private void schedule() {
+            if (pending.getAndIncrement() == 0) {
+                try {
+                    executor.execute(this::drain);
+                } catch (RejectedExecutionException e) {
+                    // Ce thread détient le drain: l'erreur est délivrée par lui, dans l'ordre des signaux
+                    rejected = e;
+                    drain();
+                }
+            }
+        }
+
+        private void drain() {
+            int missed = 1;
+            do {
+                if (!done) {
+                    emit();
+                }
+                missed = pending.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        /**
+         * Délivre des items tant qu'il reste de la demande
+         */
+        private void emit() {
+            while (true) {
+                if (cancelled) {
+                    terminate();
+                    return;
+                }
+                Throwable error = rejected != null ? rejected : invalidRequest;
+                if (error != null) {
+                    terminate();
+                    subscriber.onError(error);
+                    return;
+                }
+                if (demand.get() == 0) {
+                    return;
+                }
+
+                RssItem item;
+                try {
+                    if (source == null) {
+                        source = opener.call();
+                    }
+                    item = source.next();
+                } catch (Exception e) {
+                    terminate();
+                    subscriber.onError(e instanceof FeedException ? e : new FeedException(FeedFailure.from(e)));
+                    return;
+                }
+                if (item == null) {
+                    terminate();
+                    subscriber.onComplete();
+                    return;
+                }
+                consumeDemand(demand);
+                try {
+                    subscriber.onNext(item);
+                } catch (RuntimeException e) {
+                    // Un abonné qui lève une exception est considéré comme désabonné
+                    cancelled = true;
+                }
+            }
+        }
+
+        private void terminate() {
+            done = true;
+            if (source != null) {
+                try {
+                    source.close();
+                } catch (IOException e) {
+                    // La source est abandonnée de toute façon
+                }
+                source = null;
+            }
+        }
+    }
+}
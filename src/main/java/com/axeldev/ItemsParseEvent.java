@@ -0,0 +1,29 @@
+package com.axeldev;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Événement JFR émis pour le parsing des items d'un flux
+ */
+@Name("com.axeldev.ItemsParse")
+@Label("Feed Items Parse")
+@Category("Feed4j")
+@Description("Parsing des éléments item d'un flux, en parallèle ou en séquentiel")
+final class ItemsParseEvent extends Event {
+
+    @Label("URL")
+    String url;
+
+    @Label("Item Count")
+    int itemCount;
+
+    @Label("Failed Items")
+    int failedCount;
+
+    @Label("Parallel")
+    boolean parallel;
+}
@@ -0,0 +1,93 @@
+package com.axeldev;
+
+import java.util.Objects;
+
+/**
+ * Média d'un item au format Media RSS (élément media:content)
+ */
+public final class MediaContent {
+    private final String url;
+    private final String type;
+    private final String medium;
+    private final long fileSize;
+    private final int width;
+    private final int height;
+    private final int duration;
+
+    /**
+     * @param url URL du média
+     * @param type Type MIME, ou null
+     * @param medium Nature du média (image, audio, video...), ou null
+     * @param fileSize Taille en octets, ou -1
+     * @param width Largeur en pixels, ou -1
+     * @param height Hauteur en pixels, ou -1
+     * @param duration Durée en secondes, ou -1
+     */
+    public MediaContent(String url, String type, String medium, long fileSize, int width, int height, int duration) {
+        this.url = url;
+        this.type = type;
+        this.medium = medium;
+        this.fileSize = fileSize;
+        this.width = width;
+        this.height = height;
+        this.duration = duration;
+    }
+
+    public String getUrl() {
+        return url;
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public String getMedium() {
+        return medium;
+    }
+
+    /**
+     * Retourne la taille en octets, ou -1 si elle est inconnue
+     */
+    public long getFileSize() {
+        return fileSize;
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+
+    /**
+     * Retourne la durée en secondes, ou -1 si elle est inconnue
+     */
+    public int getDuration() {
+        return duration;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof MediaContent)) {
+            return false;
+        }
+        MediaContent other = (MediaContent) o;
+        return fileSize == other.fileSize && width == other.width && height == other.height
+            && duration == other.duration && Objects.equals(url, other.url)
+            && Objects.equals(type, other.type) && Objects.equals(medium, other.medium);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(url, type, medium, fileSize, width, height, duration);
+    }
+
+    @Override
+    public String toString() {
+        return "MediaContent[url=" + url + ", type=" + type + ", medium=" + medium + "]";
+    }
+}
@@ -0,0 +1,51 @@
+package com.axeldev;
+
+/**
+ * Abonnement lu dans un fichier OPML (élément outline portant un xmlUrl)
+ */
+public final class OpmlOutline {
+    private final String title;
+    private final String xmlUrl;
+    private final String htmlUrl;
+    private final String category;
+
+    OpmlOutline(String title, String xmlUrl, String htmlUrl, String category) {
+        this.title = title;
+        this.xmlUrl = xmlUrl;
+        this.htmlUrl = htmlUrl;
+        this.category = category;
+    }
+
+    /**
+     * Retourne le titre (attribut title, ou text à défaut)
+     */
+    public String getTitle() {
+        return title;
+    }
+
+    /**
+     * Retourne l'URL du flux
+     */
+    public String getXmlUrl() {
+        return xmlUrl;
+    }
+
+    /**
+     * Retourne l'URL du site, ou null
+     */
+    public String getHtmlUrl() {
+        return htmlUrl;
+    }
+
+    /**
+     * Retourne le chemin des dossiers parents séparés par "/", ou null à la racine
+     */
+    public String getCategory() {
+        return category;
+    }
+
+    @Override
+    public String toString() {
+        return "OpmlOutline[title=" + title + ", xmlUrl=" + xmlUrl + ", category=" + category + "]";
+    }
+}
@@ -0,0 +1,115 @@
+package com.axeldev;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+/**
+ * Lecture en flux (StAX) des abonnements d'un fichier OPML, un outline à la fois,
+ * pour traiter des fichiers de plusieurs milliers d'abonnements sans les charger en mémoire.
+ * Les outlines sans xmlUrl sont des dossiers: leur titre forme la catégorie des outlines qu'ils contiennent.
+ */
+public class OpmlReader implements Closeable {
+    private static final XMLInputFactory INPUT_FACTORY = FeedStreamReader.newInputFactory();
+    // Marque un outline d'abonnement dans la pile (comparé par identité)
+    private static final String SUBSCRIPTION = new String("subscription");
+
+    private final XMLStreamReader reader;
+    private final InputStream in;
+    // Titre des outlines ouverts, SUBSCRIPTION pour ceux qui ne sont pas des dossiers
+    private final Deque<String> folders = new ArrayDeque<>();
+
+    /**
+     * @param in Contenu OPML, fermé avec ce lecteur
+     */
+    public OpmlReader(InputStream in) throws FeedException {
+        this.in = in;
+        try {
+            this.reader = INPUT_FACTORY.createXMLStreamReader(in);
+        } catch (XMLStreamException e) {
+            throw new FeedException(FeedFailure.from(e));
+        }
+    }
+
+    /**
+     * Lit le prochain abonnement
+     * @return L'abonnement, ou null à la fin du fichier
+     * @throws FeedException si le fichier n'est pas un XML valide (MALFORMED_XML)
+     */
+    public OpmlOutline next() throws FeedException {
+        try {
+            while (reader.hasNext()) {
+                int event = reader.next();
+                if (event == XMLStreamConstants.END_ELEMENT && "outline".equals(reader.getLocalName())) {
+                    folders.pop();
+                } else if (event == XMLStreamConstants.START_ELEMENT && "outline".equals(reader.getLocalName())) {
+                    OpmlOutline outline = readOutline();
+                    if (outline != null) {
+                        return outline;
+                    }
+                }
+            }
+            return null;
+        } catch (XMLStreamException e) {
+            throw new FeedException(FeedFailure.from(e));
+        }
+    }
+
+    private OpmlOutline readOutline() {
+        String title = attribute("title");
+        if (title == null) {
+            title = attribute("text");
+        }
+        String xmlUrl = attribute("xmlUrl");
+        if (xmlUrl == null || xmlUrl.isBlank()) {
+            // Dossier: ses enfants en héritent la catégorie
+            folders.push(title != null ? title : "");
+            return null;
+        }
+        String category = category();
+        folders.push(SUBSCRIPTION);
+        return new OpmlOutline(title, xmlUrl.trim(), attribute("htmlUrl"), category);
+    }
+
+    /**
+     * Chemin des dossiers ouverts, de la racine au plus proche
+     */
+    private String category() {
+        StringBuilder path = new StringBuilder();
+        Iterator<String> it = folders.descendingIterator();
+        while (it.hasNext()) {
+            String folder = it.next();
+            if (folder == SUBSCRIPTION || folder.isEmpty()) {
+                continue;
+            }
+            if (path.length() > 0) {
+                path.append('/');
+            }
+            path.append(folder);
+        }
+        return path.length() > 0 ? path.toString() : null;
+    }
+
+    private String attribute(String name) {
+        return reader.getAttributeValue(null, name);
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            reader.close();
+        } catch (XMLStreamException e) {
+            // Le flux d'entrée est fermé dans tous les cas
+        } finally {
+            in.close();
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.axeldev;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Événement JFR émis pour le parsing complet d'un flux (téléchargement inclus)
+ */
+@Name("com.axeldev.Parse")
+@Label("Feed Parse")
+@Category("Feed4j")
+@Description("Parsing complet d'un flux RSS, téléchargement inclus")
+final class ParseEvent extends Event {
+
+    @Label("URL")
+    String url;
+
+    @Label("Item Count")
+    int itemCount;
+
+    @Label("Success")
+    boolean success;
+
+    @Label("Body Unchanged")
+    @Description("Corps identique à la version en cache, parsing évité")
+    boolean unchanged;
+}
@@ -0,0 +1,13 @@
+package com.axeldev;
+
+/**
+ * Raison du retrait d'un flux du cache
+ */
+public enum RemovalCause {
+    /** Retiré par remove ou clear */
+    EXPLICIT,
+    /** Remplacé par une nouvelle version avant son expiration */
+    REPLACED,
+    /** Expiré, puis remplacé par une nouvelle version ou purgé par cleanUp */
+    EXPIRED
+}
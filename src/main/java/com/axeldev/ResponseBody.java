@@ -0,0 +1,110 @@
+package com.axeldev;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.zip.CRC32C;
+
+/**
+ * Corps d'une réponse HTTP lu en mémoire, avec son empreinte (longueur et CRC32C) calculée pendant la lecture.
+ * Le tableau peut provenir d'un BufferPool: il y est rendu par release une fois le corps parsé.
+ */
+final class ResponseBody {
+    private static final int CHUNK_SIZE = BufferPool.INITIAL_BUFFER_SIZE;
+
+    private byte[] data;
+    private final int length;
+    private final long hash;
+    private final BufferPool pool;
+
+    private ResponseBody(byte[] data, int length, long hash, BufferPool pool) {
+        this.data = data;
+        this.length = length;
+        this.hash = hash;
+        this.pool = pool;
+    }
+
+    /**
+     * Lit entièrement le flux en mettant à jour le hash au fil des blocs reçus
+     */
+    static ResponseBody read(InputStream in) throws IOException {
+        return read(in, null);
+    }
+
+    /**
+     * Lit entièrement le flux dans un tableau emprunté au pool
+     * @param pool Pool de tableaux, ou null pour allouer
+     */
+    static ResponseBody read(InputStream in, BufferPool pool) throws IOException {
+        CRC32C crc = new CRC32C();
+        byte[] data = pool != null ? pool.acquire() : new byte[CHUNK_SIZE];
+        int length = 0;
+        int n;
+        boolean complete = false;
+        try {
+            while ((n = in.read(data, length, data.length - length)) != -1) {
+                crc.update(data, length, n);
+                length += n;
+                if (length == data.length) {
+                    data = grow(data, length, pool);
+                }
+            }
+            complete = true;
+        } finally {
+            // Quelle que soit l'exception (IOException ou erreur d'exécution du flux), le tableau revient au pool
+            if (!complete && pool != null) {
+                pool.release(data);
+            }
+        }
+        // La longueur complète le CRC32C: deux corps de tailles différentes ne sont jamais confondus
+        return new ResponseBody(data, length, ((long) length << 32) | crc.getValue(), pool);
+    }
+
+    /**
+     * Passe à un tableau plus grand, pris dans le pool s'il y en a un
+     */
+    private static byte[] grow(byte[] data, int length, BufferPool pool) {
+        if (pool == null) {
+            return Arrays.copyOf(data, data.length * 2);
+        }
+        byte[] grown = pool.acquire(data.length + 1);
+        System.arraycopy(data, 0, grown, 0, length);
+        // L'ancien tableau reste utile pour des flux plus petits
+        pool.release(data);
+        return grown;
+    }
+
+    /**
+     * Retourne un flux de lecture sur le contenu, sans copie
+     * @throws IllegalStateException si le corps a été rendu au pool
+     */
+    InputStream openStream() {
+        if (data == null) {
+            throw new IllegalStateException("Corps déjà libéré");
+        }
+        return new ByteArrayInputStream(data, 0, length);
+    }
+
+    /**
+     * Rend le tableau au pool; le contenu ne doit plus être lu ensuite
+     */
+    void release() {
+        if (pool != null && data != null) {
+            pool.release(data);
+        }
+        data = null;
+    }
+
+    int length() {
+        return length;
+    }
+
+    /**
+     * Retourne l'empreinte du contenu: longueur dans les 32 bits de poids fort,
+     * CRC32C dans les 32 bits de poids faible
+     */
+    long hash() {
+        return hash;
+    }
+}
@@ -0,0 +1,60 @@
+package com.axeldev;
+
+import java.util.Objects;
+
+/**
+ * Fichier joint à un item (élément enclosure), par exemple l'épisode d'un podcast
+ */
+public final class RssEnclosure {
+    private final String url;
+    private final long length;
+    private final String type;
+
+    /**
+     * @param url URL du fichier
+     * @param length Taille en octets, ou -1 si inconnue
+     * @param type Type MIME, ou null
+     */
+    public RssEnclosure(String url, long length, String type) {
+        this.url = url;
+        this.length = length;
+        this.type = type;
+    }
+
+    public String getUrl() {
+        return url;
+    }
+
+    /**
+     * Retourne la taille en octets, ou -1 si elle est inconnue
+     */
+    public long getLength() {
+        return length;
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof RssEnclosure)) {
+            return false;
+        }
+        RssEnclosure other = (RssEnclosure) o;
+        return length == other.length && Objects.equals(url, other.url) && Objects.equals(type, other.type);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(url, length, type);
+    }
+
+    @Override
+    public String toString() {
+        return "RssEnclosure[url=" + url + ", length=" + length + ", type=" + type + "]";
+    }
+}
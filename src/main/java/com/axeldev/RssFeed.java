@@ -1,12 +1,19 @@
 package com.axeldev;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 
 public class RssFeed {
     private String title;
     private String link;
     private String description;
-    private List<RssItem> items;
+    private int ttl = -1;
+    private LocalDateTime lastBuildDate;
+    private RssImage image;
+    private List<RssItem> items = List.of();
+    // Items triés par date, calculés à la première demande
+    private volatile List<RssItem> itemsByDate;
 
     public String getTitle() {
         return title;
@@ -17,6 +24,31 @@ public class RssFeed {
     public String getDescription() {
         return description;
     }
+
+    /**
+     * Retourne la durée de mise en cache conseillée en minutes (élément ttl), ou -1
+     */
+    public int getTtl() {
+        return ttl;
+    }
+
+    /**
+     * Retourne la date de dernière modification du contenu, ou null
+     */
+    public LocalDateTime getLastBuildDate() {
+        return lastBuildDate;
+    }
+
+    /**
+     * Retourne l'image du channel, ou null
+     */
+    public RssImage getImage() {
+        return image;
+    }
+
+    /**
+     * Retourne les items du flux dans une liste non modifiable
+     */
     public List<RssItem> getItems() {
         return items;
     }
@@ -29,7 +61,37 @@ public class RssFeed {
     public void setDescription(String description) {
         this.description = description;
     }
+    public void setTtl(int ttl) {
+        this.ttl = ttl;
+    }
+    public void setLastBuildDate(LocalDateTime lastBuildDate) {
+        this.lastBuildDate = lastBuildDate;
+    }
+    public void setImage(RssImage image) {
+        this.image = image;
+    }
+
+    /**
+     * Définit les items du flux; la liste est copiée dans une liste non modifiable
+     * adossée à un tableau, les items étant immuables le flux peut être partagé
+     */
     public void setItems(List<RssItem> items) {
-        this.items = items;
+        this.items = items != null ? List.copyOf(items) : List.of();
+        this.itemsByDate = null;
+    }
+
+    /**
+     * Retourne les items triés du plus récent au plus ancien (tri stable, items sans date en dernier).
+     * Le tri est calculé une seule fois par version du flux.
+     */
+    public List<RssItem> getItemsByDate() {
+        List<RssItem> sorted = itemsByDate;
+        if (sorted == null) {
+            List<RssItem> copy = new ArrayList<>(items);
+            copy.sort(FeedTimeline.NEWEST_FIRST);
+            sorted = List.copyOf(copy);
+            itemsByDate = sorted;
+        }
+        return sorted;
     }
 }
@@ -0,0 +1,49 @@
+package com.axeldev;
+
+/**
+ * Image d'un channel (élément image)
+ */
+public final class RssImage {
+    private final String url;
+    private final String title;
+    private final String link;
+    private final int width;
+    private final int height;
+
+    /**
+     * @param width Largeur en pixels, ou -1
+     * @param height Hauteur en pixels, ou -1
+     */
+    public RssImage(String url, String title, String link, int width, int height) {
+        this.url = url;
+        this.title = title;
+        this.link = link;
+        this.width = width;
+        this.height = height;
+    }
+
+    public String getUrl() {
+        return url;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public String getLink() {
+        return link;
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+
+    @Override
+    public String toString() {
+        return "RssImage[url=" + url + ", title=" + title + "]";
+    }
+}
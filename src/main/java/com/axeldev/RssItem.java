@@ -1,12 +1,75 @@
 package com.axeldev;
 
 import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Objects;
 
-public class RssItem {
-    private String title;
-    private String link;
-    private String description;
-    private LocalDateTime pubDate;
+/**
+ * Item RSS immuable. La date de publication est stockée en millisecondes
+ * (date lue dans le flux interprétée en UTC) pour limiter la mémoire par item,
+ * et l'instance peut être partagée entre threads sans synchronisation.
+ * Le constructeur public et les setters (setTitle, setLink, setDescription, setPubDate)
+ * des versions précédentes n'existent plus: utiliser builder() ou toBuilder().
+ */
+public final class RssItem {
+    // Valeur de pubDate quand la date est absente ou illisible
+    static final long NO_DATE = Long.MIN_VALUE;
+
+    private final String title;
+    private final String link;
+    private final String description;
+    private final long pubDate;
+    private final String guid;
+    private final String author;
+    private final List<String> categories;
+    private final List<RssEnclosure> enclosures;
+    private final List<MediaContent> mediaContents;
+    private final String thumbnailUrl;
+    private final String duplicateOf;
+    // Forme de la description (brute, texte ou HTML assaini)
+    private final DescriptionMode descriptionMode;
+    // Formes dérivées de la description, calculées au premier appel
+    private String descriptionText;
+    private String sanitizedDescription;
+
+    private RssItem(Builder builder) {
+        this.title = builder.title;
+        this.link = builder.link;
+        this.description = builder.description;
+        this.pubDate = builder.pubDate;
+        this.guid = builder.guid;
+        this.author = builder.author;
+        this.categories = builder.categories;
+        this.enclosures = builder.enclosures;
+        this.mediaContents = builder.mediaContents;
+        this.thumbnailUrl = builder.thumbnailUrl;
+        this.duplicateOf = builder.duplicateOf;
+        this.descriptionMode = builder.descriptionMode;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Retourne un builder initialisé avec les valeurs de cet item
+     */
+    public Builder toBuilder() {
+        return new Builder()
+            .title(title)
+            .link(link)
+            .description(description)
+            .pubDateMillis(pubDate)
+            .guid(guid)
+            .author(author)
+            .categories(categories)
+            .enclosures(enclosures)
+            .mediaContents(mediaContents)
+            .thumbnailUrl(thumbnailUrl)
+            .duplicateOf(duplicateOf)
+            .descriptionMode(descriptionMode);
+    }
 
     public String getTitle() {
         return title;
@@ -17,20 +80,265 @@ public class RssItem {
     public String getDescription() {
         return description;
     }
+
+    /**
+     * Retourne la description en texte brut (balises retirées, entités décodées),
+     * calculée une seule fois par item
+     */
+    public String getDescriptionText() {
+        if (descriptionMode == DescriptionMode.TEXT) {
+            return description;
+        }
+        // Calcul idempotent: une course entre threads ne fait que répéter le calcul
+        String text = descriptionText;
+        if (text == null && description != null) {
+            text = HtmlFilter.toText(description, 0);
+            descriptionText = text;
+        }
+        return text;
+    }
+
+    /**
+     * Retourne la description en HTML assaini (formatage courant uniquement, sans script
+     * ni URL dangereuse), calculée une seule fois par item
+     */
+    public String getSanitizedDescription() {
+        if (descriptionMode == DescriptionMode.SANITIZED) {
+            return description;
+        }
+        String sanitized = sanitizedDescription;
+        if (sanitized == null && description != null) {
+            // Un texte brut est assaini en échappant ses caractères spéciaux
+            sanitized = descriptionMode == DescriptionMode.TEXT
+                ? HtmlFilter.escape(description) : HtmlFilter.sanitize(description, 0);
+            sanitizedDescription = sanitized;
+        }
+        return sanitized;
+    }
+
+    /**
+     * Forme sous laquelle la description a été conservée lors du parsing
+     */
+    DescriptionMode getDescriptionMode() {
+        return descriptionMode;
+    }
+
+    /**
+     * Retourne la date de publication ramenée en UTC, ou null si elle est absente
+     */
     public LocalDateTime getPubDate() {
+        if (pubDate == NO_DATE) {
+            return null;
+        }
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(pubDate, 1000L),
+            (int) Math.floorMod(pubDate, 1000L) * 1_000_000, ZoneOffset.UTC);
+    }
+
+    /**
+     * Retourne la date de publication en millisecondes depuis l'epoch (UTC), sans allocation
+     * @return La date, ou Long.MIN_VALUE si elle est absente
+     */
+    public long getPubDateMillis() {
         return pubDate;
     }
 
-    public void setTitle(String title) {
-        this.title = title;
+    public boolean hasPubDate() {
+        return pubDate != NO_DATE;
+    }
+
+    /**
+     * Retourne l'identifiant unique de l'item (élément guid), ou null
+     */
+    public String getGuid() {
+        return guid;
+    }
+
+    /**
+     * Retourne l'auteur (élément author, ou dc:creator à défaut), ou null
+     */
+    public String getAuthor() {
+        return author;
+    }
+
+    /**
+     * Retourne les catégories de l'item, dans l'ordre du flux
+     */
+    public List<String> getCategories() {
+        return categories;
+    }
+
+    /**
+     * Retourne les fichiers joints (éléments enclosure)
+     */
+    public List<RssEnclosure> getEnclosures() {
+        return enclosures;
+    }
+
+    /**
+     * Retourne les médias Media RSS (éléments media:content)
+     */
+    public List<MediaContent> getMediaContents() {
+        return mediaContents;
+    }
+
+    /**
+     * Retourne l'URL de la vignette (élément media:thumbnail), ou null
+     */
+    public String getThumbnailUrl() {
+        return thumbnailUrl;
+    }
+
+    /**
+     * Clé identifiant l'item d'une version du flux à l'autre: le guid, ou le lien à défaut
+     */
+    String key() {
+        return guid != null ? guid : link;
+    }
+
+    /**
+     * Retourne le lien de l'item vu en premier dans un autre flux dont celui-ci est un doublon
+     * @return Le lien de l'original, ou null si l'item n'est pas marqué comme doublon
+     */
+    public String getDuplicateOf() {
+        return duplicateOf;
+    }
+
+    public boolean isDuplicate() {
+        return duplicateOf != null;
     }
-    public void setLink(String link) {
-        this.link = link;
+
+    /**
+     * Compare le contenu de l'item; le marquage comme doublon n'en fait pas partie
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof RssItem)) {
+            return false;
+        }
+        RssItem other = (RssItem) o;
+        return pubDate == other.pubDate
+            && Objects.equals(title, other.title)
+            && Objects.equals(link, other.link)
+            && Objects.equals(description, other.description)
+            && Objects.equals(guid, other.guid)
+            && Objects.equals(author, other.author)
+            && categories.equals(other.categories)
+            && enclosures.equals(other.enclosures)
+            && mediaContents.equals(other.mediaContents)
+            && Objects.equals(thumbnailUrl, other.thumbnailUrl);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(title, link, description, pubDate, guid);
     }
-    public void setDescription(String description) {
-        this.description = description;
+
+    @Override
+    public String toString() {
+        return "RssItem[title=" + title + ", link=" + link + ", pubDate=" + getPubDate() + "]";
     }
-    public void setPubDate(LocalDateTime pubDate) {
-        this.pubDate = pubDate;
+
+    /**
+     * Builder pour RssItem
+     */
+    public static final class Builder {
+        private String title;
+        private String link;
+        private String description;
+        private long pubDate = NO_DATE;
+        private DescriptionMode descriptionMode = DescriptionMode.RAW;
+        private String guid;
+        private String author;
+        private List<String> categories = List.of();
+        private List<RssEnclosure> enclosures = List.of();
+        private List<MediaContent> mediaContents = List.of();
+        private String thumbnailUrl;
+        private String duplicateOf;
+
+        private Builder() {}
+
+        public Builder title(String title) {
+            this.title = title;
+            return this;
+        }
+
+        public Builder link(String link) {
+            this.link = link;
+            return this;
+        }
+
+        public Builder description(String description) {
+            this.description = description;
+            return this;
+        }
+
+        /**
+         * Date de publication, interprétée en UTC (null = absente)
+         */
+        public Builder pubDate(LocalDateTime pubDate) {
+            this.pubDate = pubDate != null ? pubDate.toInstant(ZoneOffset.UTC).toEpochMilli() : NO_DATE;
+            return this;
+        }
+
+        /**
+         * Date de publication en millisecondes depuis l'epoch (Long.MIN_VALUE = absente)
+         */
+        public Builder pubDateMillis(long pubDateMillis) {
+            this.pubDate = pubDateMillis;
+            return this;
+        }
+
+        public Builder guid(String guid) {
+            this.guid = guid;
+            return this;
+        }
+
+        public Builder author(String author) {
+            this.author = author;
+            return this;
+        }
+
+        public Builder categories(List<String> categories) {
+            this.categories = categories != null ? List.copyOf(categories) : List.of();
+            return this;
+        }
+
+        public Builder enclosures(List<RssEnclosure> enclosures) {
+            this.enclosures = enclosures != null ? List.copyOf(enclosures) : List.of();
+            return this;
+        }
+
+        public Builder mediaContents(List<MediaContent> mediaContents) {
+            this.mediaContents = mediaContents != null ? List.copyOf(mediaContents) : List.of();
+            return this;
+        }
+
+        public Builder thumbnailUrl(String thumbnailUrl) {
+            this.thumbnailUrl = thumbnailUrl;
+            return this;
+        }
+
+        /**
+         * Forme de la description: brute, déjà du texte brut ou du HTML assaini
+         */
+        Builder descriptionMode(DescriptionMode descriptionMode) {
+            this.descriptionMode = descriptionMode != null ? descriptionMode : DescriptionMode.RAW;
+            return this;
+        }
+
+        /**
+         * Marque l'item comme doublon de l'item portant ce lien (null = pas un doublon)
+         */
+        public Builder duplicateOf(String duplicateOf) {
+            this.duplicateOf = duplicateOf;
+            return this;
+        }
+
+        public RssItem build() {
+            return new RssItem(this);
+        }
     }
 }
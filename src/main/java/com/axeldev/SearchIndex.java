@@ -0,0 +1,423 @@
+package com.axeldev;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Index inversé en mémoire sur le titre et la description des items en cache.
+ * Chaque item reçoit un identifiant entier; un terme pointe vers la liste triée
+ * des identifiants (int[]) des items qui le contiennent. Les jetons du titre et de la
+ * description de chaque item sont conservés pour vérifier les phrases sans retokeniser.
+ * Les items retirés sont marqués supprimés puis purgés lorsque leur proportion devient importante.
+ */
+public class SearchIndex {
+    // Nombre de retraits récents dont la version est retenue
+    private static final int MAX_REMOVALS = 1024;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, PostingList> postings = new HashMap<>();
+    private final Map<String, FeedDocs> feeds = new HashMap<>();
+    // Dernière modification du cache appliquée par URL indexée
+    private final Map<String, Long> versions = new HashMap<>();
+    // Version des derniers retraits, pour ignorer une notification d'ajout arrivée en retard;
+    // bornée pour ne pas retenir chaque URL vue
+    private final Map<String, Long> removals = new LinkedHashMap<String, Long>() {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Long> eldest) {
+            return size() > MAX_REMOVALS;
+        }
+    };
+    private RssItem[] docs = new RssItem[1024];
+    // Jetons du titre et de la description de chaque item, partagés avec les clés de postings
+    private String[][] titleTokens = new String[1024][];
+    private String[][] descriptionTokens = new String[1024][];
+    private int docCount;
+    private final BitSet deleted = new BitSet();
+    private int deletedCount;
+
+    /**
+     * Retourne un listener gardant cet index synchronisé avec un FeedCache.
+     * Les notifications arrivées après une modification plus récente de la même URL sont ignorées.
+     */
+    FeedCacheListener asCacheListener() {
+        return new FeedCacheListener() {
+            @Override
+            public void onStore(String url, RssFeed feed, RssFeed previous, long version) {
+                indexFeed(url, feed, version);
+            }
+
+            @Override
+            public void onRemove(String url, RssFeed feed, long version) {
+                removeFeed(url, version);
+            }
+        };
+    }
+
+    /**
+     * Indexe la nouvelle version d'un flux, en retirant les items qui n'y figurent plus
+     */
+    void indexFeed(String url, RssFeed feed, long version) {
+        lock.writeLock().lock();
+        try {
+            if (isOutdated(url, version)) {
+                return;
+            }
+            FeedDocs old = feeds.get(url);
+            if (old != null && old.feed == feed) {
+                // Corps inchangé: rien à réindexer
+                return;
+            }
+            Map<RssItem, Integer> kept = new IdentityHashMap<>();
+            if (old != null) {
+                for (int i = 0; i < old.ids.length; i++) {
+                    kept.put(old.items.get(i), old.ids[i]);
+                }
+            }
+
+            List<RssItem> items = feed.getItems();
+            int[] ids = new int[items.size()];
+            for (int i = 0; i < items.size(); i++) {
+                RssItem item = items.get(i);
+                // Les items réutilisés de la version précédente gardent leur identifiant
+                Integer id = kept.remove(item);
+                ids[i] = id != null ? id : addDocument(item);
+            }
+            for (int id : kept.values()) {
+                markDeleted(id);
+            }
+            feeds.put(url, new FeedDocs(feed, items, ids));
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Retire de l'index tous les items d'un flux
+     */
+    void removeFeed(String url, long version) {
+        lock.writeLock().lock();
+        try {
+            if (isOutdated(url, version)) {
+                return;
+            }
+            // Le flux n'est plus en cache: sa version passe dans la table bornée des retraits
+            versions.remove(url);
+            removals.put(url, version);
+            FeedDocs old = feeds.remove(url);
+            if (old != null) {
+                for (int id : old.ids) {
+                    markDeleted(id);
+                }
+                compactIfNeeded();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Enregistre la version si elle est la plus récente reçue pour cette URL; appelé sous le verrou d'écriture
+     * @return true si une modification plus récente a déjà été appliquée
+     */
+    private boolean isOutdated(String url, long version) {
+        Long applied = versions.get(url);
+        if (applied == null) {
+            applied = removals.get(url);
+        }
+        if (applied != null && applied > version) {
+            return true;
+        }
+        versions.put(url, version);
+        removals.remove(url);
+        return false;
+    }
+
+    /**
+     * Retourne le nombre d'URL dont une version est retenue, retraits récents compris
+     */
+    int trackedUrls() {
+        lock.readLock().lock();
+        try {
+            return versions.size() + removals.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Recherche les items contenant un terme
+     */
+    public List<RssItem> searchTerm(String term) {
+        return searchAll(term);
+    }
+
+    /**
+     * Recherche les items contenant tous les termes donnés (ET)
+     */
+    public List<RssItem> searchAll(String... terms) {
+        List<String> tokens = new ArrayList<>();
+        for (String term : terms) {
+            tokens.addAll(TextTokenizer.tokenize(term));
+        }
+        return execute(new LinkedHashSet<>(tokens), List.of());
+    }
+
+    /**
+     * Recherche les items contenant la phrase exacte, dans le titre ou la description
+     */
+    public List<RssItem> searchPhrase(String phrase) {
+        List<String> tokens = TextTokenizer.tokenize(phrase);
+        return execute(new LinkedHashSet<>(tokens), tokens.size() > 1 ? List.of(tokens) : List.of());
+    }
+
+    /**
+     * Recherche avec une requête simple: les termes sont combinés en ET,
+     * les passages entre guillemets sont des phrases exactes.
+     * Exemple: {@code java "virtual threads"}
+     * @return Les items trouvés, les plus récemment indexés en premier
+     */
+    public List<RssItem> search(String query) {
+        Set<String> terms = new LinkedHashSet<>();
+        List<List<String>> phrases = new ArrayList<>();
+        String[] parts = query.split("\"", -1);
+        for (int i = 0; i < parts.length; i++) {
+            List<String> tokens = TextTokenizer.tokenize(parts[i]);
+            terms.addAll(tokens);
+            // Les parties d'index impair sont entre guillemets
+            if (i % 2 == 1 && tokens.size() > 1) {
+                phrases.add(tokens);
+            }
+        }
+        return execute(terms, phrases);
+    }
+
+    /**
+     * Retourne le nombre d'items indexés (hors items supprimés)
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return docCount - deletedCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Retourne le nombre de termes distincts de l'index
+     */
+    public int termCount() {
+        lock.readLock().lock();
+        try {
+            return postings.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private List<RssItem> execute(Set<String> terms, List<List<String>> phrases) {
+        if (terms.isEmpty()) {
+            return List.of();
+        }
+        lock.readLock().lock();
+        try {
+            // Intersecter en commençant par la liste la plus courte
+            List<PostingList> lists = new ArrayList<>(terms.size());
+            for (String term : terms) {
+                PostingList list = postings.get(term);
+                if (list == null) {
+                    return List.of();
+                }
+                lists.add(list);
+            }
+            lists.sort((a, b) -> Integer.compare(a.size, b.size));
+            int[] candidates = Arrays.copyOf(lists.get(0).ids, lists.get(0).size);
+            int count = candidates.length;
+            for (int i = 1; i < lists.size() && count > 0; i++) {
+                count = intersect(candidates, count, lists.get(i));
+            }
+
+            List<RssItem> result = new ArrayList<>();
+            for (int i = count - 1; i >= 0; i--) {
+                int id = candidates[i];
+                if (deleted.get(id)) {
+                    continue;
+                }
+                if (containsPhrases(id, phrases)) {
+                    result.add(docs[id]);
+                }
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Garde dans candidates les identifiants présents dans la liste (les deux sont triés).
+     * Recherche dichotomique quand la liste est beaucoup plus longue que les candidats.
+     */
+    private static int intersect(int[] candidates, int count, PostingList list) {
+        boolean gallop = (long) count * 8 < list.size;
+        int kept = 0;
+        int j = 0;
+        for (int i = 0; i < count && j < list.size; i++) {
+            int id = candidates[i];
+            if (gallop) {
+                int pos = Arrays.binarySearch(list.ids, j, list.size, id);
+                if (pos >= 0) {
+                    candidates[kept++] = id;
+                    j = pos + 1;
+                } else {
+                    j = -pos - 1;
+                }
+            } else {
+                while (j < list.size && list.ids[j] < id) {
+                    j++;
+                }
+                if (j < list.size && list.ids[j] == id) {
+                    candidates[kept++] = id;
+                }
+            }
+        }
+        return kept;
+    }
+
+    /**
+     * Vérifie les phrases sur les jetons conservés à l'indexation
+     */
+    private boolean containsPhrases(int id, List<List<String>> phrases) {
+        for (List<String> phrase : phrases) {
+            if (!containsPhrase(titleTokens[id], phrase) && !containsPhrase(descriptionTokens[id], phrase)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean containsPhrase(String[] tokens, List<String> phrase) {
+        int last = tokens.length - phrase.size();
+        for (int start = 0; start <= last; start++) {
+            int i = 0;
+            while (i < phrase.size() && tokens[start + i].equals(phrase.get(i))) {
+                i++;
+            }
+            if (i == phrase.size()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private int addDocument(RssItem item) {
+        if (docCount == docs.length) {
+            docs = Arrays.copyOf(docs, docs.length * 2);
+            titleTokens = Arrays.copyOf(titleTokens, docs.length);
+            descriptionTokens = Arrays.copyOf(descriptionTokens, docs.length);
+        }
+        int id = docCount++;
+        docs[id] = item;
+        titleTokens[id] = addTokens(id, TextTokenizer.tokenize(item.getTitle()));
+        descriptionTokens[id] = addTokens(id, TextTokenizer.tokenizeDescription(item));
+        return id;
+    }
+
+    /**
+     * Ajoute l'item aux listes de ses termes (une fois par terme)
+     * @return Les jetons, chaque terme étant l'instance déjà stockée comme clé de postings
+     */
+    private String[] addTokens(int id, List<String> tokens) {
+        String[] terms = new String[tokens.size()];
+        for (int i = 0; i < terms.length; i++) {
+            PostingList list = postings.computeIfAbsent(tokens.get(i), PostingList::new);
+            // L'identifiant est le plus grand attribué: déjà présent si c'est le dernier de la liste
+            if (list.size == 0 || list.ids[list.size - 1] != id) {
+                list.add(id);
+            }
+            terms[i] = list.term;
+        }
+        return terms;
+    }
+
+    private void markDeleted(int id) {
+        if (!deleted.get(id)) {
+            deleted.set(id);
+            docs[id] = null;
+            titleTokens[id] = null;
+            descriptionTokens[id] = null;
+            deletedCount++;
+        }
+    }
+
+    /**
+     * Reconstruit l'index quand plus de la moitié des identifiants sont supprimés
+     */
+    private void compactIfNeeded() {
+        if (deletedCount < 1024 || deletedCount * 2 < docCount) {
+            return;
+        }
+        Map<String, FeedDocs> live = new HashMap<>(feeds);
+        postings.clear();
+        feeds.clear();
+        docs = new RssItem[Math.max(1024, docCount - deletedCount)];
+        titleTokens = new String[docs.length][];
+        descriptionTokens = new String[docs.length][];
+        docCount = 0;
+        deleted.clear();
+        deletedCount = 0;
+        for (Map.Entry<String, FeedDocs> entry : live.entrySet()) {
+            FeedDocs old = entry.getValue();
+            int[] ids = new int[old.ids.length];
+            for (int i = 0; i < ids.length; i++) {
+                ids[i] = addDocument(old.items.get(i));
+            }
+            feeds.put(entry.getKey(), new FeedDocs(old.feed, old.items, ids));
+        }
+    }
+
+    /**
+     * Liste d'identifiants triés, stockée dans un tableau de primitifs
+     */
+    private static final class PostingList {
+        final String term;
+        int[] ids = new int[4];
+        int size;
+
+        PostingList(String term) {
+            this.term = term;
+        }
+
+        void add(int id) {
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+            }
+            ids[size++] = id;
+        }
+    }
+
+    /**
+     * Items indexés pour un flux et leurs identifiants
+     */
+    private static final class FeedDocs {
+        final RssFeed feed;
+        final List<RssItem> items;
+        final int[] ids;
+
+        FeedDocs(RssFeed feed, List<RssItem> items, int[] ids) {
+            this.feed = feed;
+            this.items = items;
+            this.ids = ids;
+        }
+    }
+}
@@ -0,0 +1,393 @@
+package com.axeldev;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.zip.CRC32C;
+
+/**
+ * Stockage des flux dans un fichier mappé en mémoire, partagé par tous les processus
+ * de la machine qui ouvrent le même fichier: un flux téléchargé par un processus
+ * sert aux autres jusqu'à son expiration.
+ *
+ * Le fichier est découpé en emplacements de taille fixe. Une URL peut occuper l'un
+ * des PROBES emplacements qui suivent son hash. Chaque emplacement est protégé par
+ * un seqlock: l'écrivain prend l'emplacement par CAS sur sa séquence (impaire pendant
+ * l'écriture), les lecteurs copient le contenu sans verrou puis vérifient que la séquence
+ * n'a pas changé. La date de prise du verrou fait partie du même mot que la séquence:
+ * un écrivain mort en cours d'écriture ne bloque l'emplacement que STALE_LOCK_MS
+ * millisecondes, et sa reprise est elle aussi un CAS. Un écrivain repris à tort qui
+ * écrirait encore est détecté par la somme de contrôle du contenu.
+ */
+final class SharedFeedStore {
+    private static final VarHandle LONGS = MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.BIG_ENDIAN);
+
+    private static final int MAGIC = 0x46344A43; // "F4JC"
+    private static final int FORMAT = 2;
+    private static final int HEADER_BYTES = 64;
+    private static final int PROBES = 4;
+    private static final long STALE_LOCK_MS = 2000;
+    private static final int READ_ATTEMPTS = 8;
+
+    // Mot de séquence: date de prise du verrou (ms) dans les bits de poids fort,
+    // compteur dans les SEQ_BITS bits de poids faible, impair pendant l'écriture
+    private static final int SEQ_BITS = 22;
+    private static final long SEQ_MASK = (1L << SEQ_BITS) - 1;
+
+    // Entête de chaque emplacement
+    private static final int SEQ = 0;
+    private static final int CHECKSUM = 8;
+    private static final int KEY_HASH = 16;
+    private static final int STORED_AT = 24;
+    private static final int EXPIRES_AT = 32;
+    private static final int CONTENT_HASH = 40;
+    private static final int KEY_LENGTH = 48;
+    private static final int PAYLOAD_LENGTH = 52;
+    private static final int SLOT_HEADER = 56;
+
+    private final MappedByteBuffer buffer;
+    private final int slotCount;
+    private final int slotBytes;
+
+    /**
+     * Ouvre ou crée le fichier partagé. Si le fichier existe déjà, sa géométrie est conservée.
+     * Un fichier d'un autre format n'est jamais réinitialisé: d'autres processus peuvent encore
+     * l'avoir mappé, et le tronquer les ferait échouer (SIGBUS) à leur prochain accès.
+     * @param file Fichier partagé
+     * @param slotCount Nombre d'emplacements à la création
+     * @param slotBytes Taille d'un emplacement à la création (arrondie au multiple de 8)
+     * @throws IncompatibleFormatException Si le fichier existe avec un autre format
+     */
+    SharedFeedStore(Path file, int slotCount, int slotBytes) throws IOException {
+        try (FileChannel channel = FileChannel.open(file,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            // Verrou de fichier: deux processus ne peuvent pas créer l'entête en même temps
+            FileLock lock = channel.lock();
+            try {
+                ByteBuffer header = ByteBuffer.allocate(16);
+                int read = channel.read(header, 0);
+                header.flip();
+                if (read == 16 && header.getInt() == MAGIC && header.getInt() == FORMAT) {
+                    this.slotCount = header.getInt();
+                    this.slotBytes = header.getInt();
+                } else if (channel.size() == 0) {
+                    // Nouveau fichier: initialiser l'entête sous verrou de fichier
+                    this.slotCount = Math.max(1, slotCount);
+                    this.slotBytes = Math.max(SLOT_HEADER + 256, (slotBytes + 7) & ~7);
+                    header = ByteBuffer.allocate(16).putInt(MAGIC).putInt(FORMAT)
+                        .putInt(this.slotCount).putInt(this.slotBytes);
+                    header.flip();
+                    channel.write(header, 0);
+                } else {
+                    throw new IncompatibleFormatException(file);
+                }
+                long size = HEADER_BYTES + (long) this.slotCount * this.slotBytes;
+                if (size > Integer.MAX_VALUE) {
+                    throw new IOException("Fichier partagé trop grand: " + size + " octets");
+                }
+                // Le mapping reste valide après la fermeture du canal
+                this.buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+            } finally {
+                lock.release();
+            }
+        }
+    }
+
+    /**
+     * Le fichier existe mais n'a pas été créé par cette version du format
+     */
+    static final class IncompatibleFormatException extends IOException {
+        private static final long serialVersionUID = 1L;
+
+        IncompatibleFormatException(Path file) {
+            super("Format de cache partagé incompatible (attendu " + FORMAT + "): " + file);
+        }
+    }
+
+    /**
+     * Entrée lue dans le fichier partagé
+     */
+    static final class Entry {
+        final byte[] payload;
+        final long storedAt;
+        final long expiresAt;
+        final long contentHash;
+
+        Entry(byte[] payload, long storedAt, long expiresAt, long contentHash) {
+            this.payload = payload;
+            this.storedAt = storedAt;
+            this.expiresAt = expiresAt;
+            this.contentHash = contentHash;
+        }
+    }
+
+    /**
+     * Lit l'entrée encore valide d'une URL
+     * @return L'entrée, ou null si elle est absente, expirée ou en cours d'écriture
+     */
+    Entry get(String url) {
+        byte[] key = url.getBytes(StandardCharsets.UTF_8);
+        long keyHash = hash(key);
+        long now = System.currentTimeMillis();
+        for (int probe = 0; probe < PROBES; probe++) {
+            int slot = slotOffset(keyHash, probe);
+            for (int attempt = 0; attempt < READ_ATTEMPTS; attempt++) {
+                long seq = (long) LONGS.getAcquire(buffer, slot + SEQ);
+                if (isLocked(seq)) {
+                    Thread.onSpinWait();
+                    continue;
+                }
+                Entry entry = readIfMatches(slot, key, keyHash, now);
+                // Les lectures précédentes ne doivent pas être réordonnées après la relecture de seq
+                VarHandle.acquireFence();
+                if ((long) LONGS.getVolatile(buffer, slot + SEQ) == seq) {
+                    if (entry != null) {
+                        return entry;
+                    }
+                    break;
+                }
+            }
+        }
+        return null;
+    }
+
+    private Entry readIfMatches(int slot, byte[] key, long keyHash, long now) {
+        if (buffer.getLong(slot + KEY_HASH) != keyHash) {
+            return null;
+        }
+        long expiresAt = buffer.getLong(slot + EXPIRES_AT);
+        int keyLength = buffer.getInt(slot + KEY_LENGTH);
+        int payloadLength = buffer.getInt(slot + PAYLOAD_LENGTH);
+        if (expiresAt < now || keyLength != key.length || payloadLength < 0
+                || SLOT_HEADER + keyLength + payloadLength > slotBytes) {
+            return null;
+        }
+        // Copier l'entête et le contenu en une fois, puis vérifier la somme de contrôle sur la copie
+        byte[] copy = new byte[SLOT_HEADER - KEY_HASH + keyLength + payloadLength];
+        buffer.get(slot + KEY_HASH, copy);
+        CRC32C crc = new CRC32C();
+        crc.update(copy);
+        if (crc.getValue() != buffer.getLong(slot + CHECKSUM)) {
+            return null;
+        }
+        ByteBuffer fields = ByteBuffer.wrap(copy);
+        int keyStart = SLOT_HEADER - KEY_HASH;
+        if (fields.getLong(0) != keyHash
+                || !Arrays.equals(copy, keyStart, keyStart + keyLength, key, 0, key.length)) {
+            return null;
+        }
+        byte[] payload = Arrays.copyOfRange(copy, keyStart + keyLength, copy.length);
+        return new Entry(payload, fields.getLong(STORED_AT - KEY_HASH), fields.getLong(EXPIRES_AT - KEY_HASH),
+            fields.getLong(CONTENT_HASH - KEY_HASH));
+    }
+
+    /**
+     * Écrit l'entrée d'une URL. L'écriture est abandonnée si l'entrée ne tient pas dans
+     * un emplacement ou si tous les emplacements possibles sont en cours d'écriture.
+     * @return true si l'entrée a été écrite
+     */
+    boolean put(String url, byte[] payload, long storedAt, long expiresAt, long contentHash) {
+        byte[] key = url.getBytes(StandardCharsets.UTF_8);
+        if (SLOT_HEADER + key.length + payload.length > slotBytes) {
+            return false;
+        }
+        long keyHash = hash(key);
+        int slot = chooseSlot(key, keyHash);
+        long claimed = lock(slot);
+        if (claimed == 0) {
+            return false;
+        }
+        try {
+            buffer.putLong(slot + KEY_HASH, keyHash);
+            buffer.putLong(slot + STORED_AT, storedAt);
+            buffer.putLong(slot + EXPIRES_AT, expiresAt);
+            buffer.putLong(slot + CONTENT_HASH, contentHash);
+            buffer.putInt(slot + KEY_LENGTH, key.length);
+            buffer.putInt(slot + PAYLOAD_LENGTH, payload.length);
+            buffer.put(slot + SLOT_HEADER, key);
+            buffer.put(slot + SLOT_HEADER + key.length, payload);
+            // Repris entre-temps: la somme de contrôle est celle du nouvel écrivain
+            if ((long) LONGS.getVolatile(buffer, slot + SEQ) == claimed) {
+                updateChecksum(slot, key.length + payload.length);
+            }
+        } finally {
+            unlock(slot, claimed);
+        }
+        return true;
+    }
+
+    /**
+     * Renouvelle les dates d'une entrée dont le contenu n'a pas changé, sans la réécrire
+     * @param contentHash Empreinte du contenu attendu (0 = inconnue, l'entrée n'est jamais renouvelée)
+     * @return false si l'entrée n'est plus dans le fichier, a un autre contenu ou est en cours d'écriture
+     */
+    boolean touch(String url, long contentHash, long storedAt, long expiresAt) {
+        if (contentHash == 0) {
+            return false;
+        }
+        byte[] key = url.getBytes(StandardCharsets.UTF_8);
+        long keyHash = hash(key);
+        for (int probe = 0; probe < PROBES; probe++) {
+            int slot = slotOffset(keyHash, probe);
+            if (buffer.getLong(slot + KEY_HASH) != keyHash || buffer.getInt(slot + KEY_LENGTH) != key.length) {
+                continue;
+            }
+            long claimed = lock(slot);
+            if (claimed == 0) {
+                return false;
+            }
+            try {
+                // Vérifié sous verrou: l'emplacement a pu être réécrit depuis le test
+                int payloadLength = buffer.getInt(slot + PAYLOAD_LENGTH);
+                if (buffer.getLong(slot + KEY_HASH) != keyHash || buffer.getLong(slot + CONTENT_HASH) != contentHash
+                        || buffer.getLong(slot + EXPIRES_AT) == 0 || payloadLength < 0
+                        || SLOT_HEADER + key.length + payloadLength > slotBytes
+                        || !buffer.slice(slot + SLOT_HEADER, key.length).equals(ByteBuffer.wrap(key))
+                        || checksum(slot, key.length + payloadLength) != buffer.getLong(slot + CHECKSUM)) {
+                    return false;
+                }
+                buffer.putLong(slot + STORED_AT, storedAt);
+                buffer.putLong(slot + EXPIRES_AT, expiresAt);
+                if ((long) LONGS.getVolatile(buffer, slot + SEQ) == claimed) {
+                    updateChecksum(slot, key.length + payloadLength);
+                }
+            } finally {
+                unlock(slot, claimed);
+            }
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Prend le verrou d'un emplacement: séquence paire, ou verrou tenu depuis plus de STALE_LOCK_MS.
+     * La date de prise est écrite par le même CAS que la séquence.
+     * @return La séquence verrouillée, ou 0 si l'emplacement est pris
+     */
+    private long lock(int slot) {
+        long seq = (long) LONGS.getVolatile(buffer, slot + SEQ);
+        long now = System.currentTimeMillis();
+        long counter;
+        if (!isLocked(seq)) {
+            counter = (seq & SEQ_MASK) + 1;
+        } else if (now - lockedAt(seq) > STALE_LOCK_MS) {
+            // Écrivain probablement mort: reprendre l'emplacement en restant impair
+            counter = (seq & SEQ_MASK) + 2;
+        } else {
+            return 0;
+        }
+        long claimed = (now << SEQ_BITS) | (counter & SEQ_MASK);
+        return LONGS.compareAndSet(buffer, slot + SEQ, seq, claimed) ? claimed : 0;
+    }
+
+    /**
+     * Publie le contenu: séquence paire, différente de celle lue par les lecteurs. Le CAS échoue
+     * si l'emplacement a été repris entre-temps; c'est alors le nouvel écrivain qui le publiera.
+     */
+    private void unlock(int slot, long claimed) {
+        long released = (claimed & ~SEQ_MASK) | ((claimed + 1) & SEQ_MASK);
+        LONGS.compareAndSet(buffer, slot + SEQ, claimed, released);
+    }
+
+    private static boolean isLocked(long seq) {
+        return (seq & 1) != 0;
+    }
+
+    private static long lockedAt(long seq) {
+        return seq >>> SEQ_BITS;
+    }
+
+    /**
+     * Somme de contrôle de l'entête (hors séquence) et du contenu, vérifiée par les lecteurs
+     */
+    private void updateChecksum(int slot, int contentLength) {
+        buffer.putLong(slot + CHECKSUM, checksum(slot, contentLength));
+    }
+
+    private long checksum(int slot, int contentLength) {
+        CRC32C crc = new CRC32C();
+        crc.update(buffer.slice(slot + KEY_HASH, SLOT_HEADER - KEY_HASH + contentLength));
+        return crc.getValue();
+    }
+
+    /**
+     * Retire l'entrée d'une URL
+     */
+    void remove(String url) {
+        byte[] key = url.getBytes(StandardCharsets.UTF_8);
+        long keyHash = hash(key);
+        for (int probe = 0; probe < PROBES; probe++) {
+            int slot = slotOffset(keyHash, probe);
+            if (buffer.getLong(slot + KEY_HASH) != keyHash) {
+                continue;
+            }
+            long claimed = lock(slot);
+            if (claimed != 0) {
+                // Une somme de contrôle invalide suffit à rendre l'entrée illisible
+                buffer.putLong(slot + EXPIRES_AT, 0);
+                buffer.putLong(slot + CHECKSUM, 0);
+                unlock(slot, claimed);
+            }
+        }
+    }
+
+    /**
+     * Choisit l'emplacement de l'URL: celui qu'elle occupe déjà, sinon un emplacement
+     * expiré, sinon le plus ancien
+     */
+    private int chooseSlot(byte[] key, long keyHash) {
+        long now = System.currentTimeMillis();
+        int oldest = slotOffset(keyHash, 0);
+        long oldestStoredAt = Long.MAX_VALUE;
+        int free = -1;
+        for (int probe = 0; probe < PROBES; probe++) {
+            int slot = slotOffset(keyHash, probe);
+            if (buffer.getLong(slot + KEY_HASH) == keyHash && buffer.getInt(slot + KEY_LENGTH) == key.length) {
+                return slot;
+            }
+            if (free < 0 && buffer.getLong(slot + EXPIRES_AT) < now) {
+                free = slot;
+            }
+            long storedAt = buffer.getLong(slot + STORED_AT);
+            if (storedAt < oldestStoredAt) {
+                oldestStoredAt = storedAt;
+                oldest = slot;
+            }
+        }
+        return free >= 0 ? free : oldest;
+    }
+
+    private int slotOffset(long keyHash, int probe) {
+        int index = (int) Math.floorMod(keyHash + probe, (long) slotCount);
+        return HEADER_BYTES + index * slotBytes;
+    }
+
+    int slotCount() {
+        return slotCount;
+    }
+
+    int slotBytes() {
+        return slotBytes;
+    }
+
+    /**
+     * Hash FNV-1a 64 bits de la clé, jamais nul (0 marque un emplacement vide)
+     */
+    private static long hash(byte[] key) {
+        long h = 0xcbf29ce484222325L;
+        for (byte b : key) {
+            h ^= b & 0xff;
+            h *= 0x100000001b3L;
+        }
+        return h != 0 ? h : 1;
+    }
+}
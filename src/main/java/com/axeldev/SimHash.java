@@ -0,0 +1,77 @@
+package com.axeldev;
+
+import java.util.List;
+
+/**
+ * Empreinte SimHash 64 bits d'un texte: deux textes proches ont des empreintes
+ * qui diffèrent de peu de bits (distance de Hamming faible)
+ */
+final class SimHash {
+    // En dessous de ce nombre de termes l'empreinte n'est pas assez discriminante
+    static final int MIN_TOKENS = 4;
+
+    private SimHash() {}
+
+    /**
+     * Calcule l'empreinte du titre et de la description, à partir des mots et des paires de mots
+     * @return L'empreinte, ou 0 si le texte est trop court
+     */
+    static long fingerprint(String title, String description) {
+        List<String> tokens = TextTokenizer.tokenize(title);
+        tokens.addAll(TextTokenizer.tokenize(description));
+        if (tokens.size() < MIN_TOKENS) {
+            return 0;
+        }
+        int[] weights = new int[64];
+        long previous = 0;
+        for (int i = 0; i < tokens.size(); i++) {
+            long hash = hash(tokens.get(i));
+            accumulate(weights, hash);
+            if (i > 0) {
+                accumulate(weights, mix(previous * 31 + hash));
+            }
+            previous = hash;
+        }
+        long fingerprint = 0;
+        for (int bit = 0; bit < 64; bit++) {
+            if (weights[bit] > 0) {
+                fingerprint |= 1L << bit;
+            }
+        }
+        return fingerprint;
+    }
+
+    /**
+     * Nombre de bits différents entre deux empreintes
+     */
+    static int distance(long a, long b) {
+        return Long.bitCount(a ^ b);
+    }
+
+    private static void accumulate(int[] weights, long hash) {
+        for (int bit = 0; bit < 64; bit++) {
+            weights[bit] += ((hash >>> bit) & 1) != 0 ? 1 : -1;
+        }
+    }
+
+    /**
+     * Hash FNV-1a 64 bits suivi d'un mélange final pour bien répartir les bits
+     */
+    private static long hash(String token) {
+        long h = 0xcbf29ce484222325L;
+        for (int i = 0; i < token.length(); i++) {
+            h ^= token.charAt(i);
+            h *= 0x100000001b3L;
+        }
+        return mix(h);
+    }
+
+    private static long mix(long h) {
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
@@ -0,0 +1,47 @@
+package com.axeldev;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Pool borné et concurrent de chaînes pour dédupliquer les valeurs répétées des flux
+ * (titres, liens, descriptions identiques d'un rafraîchissement à l'autre).
+ * Table à correspondance directe sans verrou: une entrée peut en remplacer une autre,
+ * le pool ne retient donc jamais plus de chaînes que sa capacité.
+ */
+class StringPool {
+    private final AtomicReferenceArray<String> table;
+    private final int mask;
+
+    /**
+     * @param capacity Nombre maximal de chaînes retenues, arrondi à la puissance de deux supérieure
+     */
+    StringPool(int capacity) {
+        int size = Integer.highestOneBit(Math.max(1, capacity - 1)) << 1;
+        this.table = new AtomicReferenceArray<>(size);
+        this.mask = size - 1;
+    }
+
+    /**
+     * Retourne l'instance déjà présente dans le pool si elle est égale, sinon la chaîne donnée
+     */
+    String intern(String value) {
+        if (value == null || value.isEmpty()) {
+            return value;
+        }
+        int h = value.hashCode();
+        int index = (h ^ (h >>> 16)) & mask;
+        String existing = table.get(index);
+        if (existing != null && existing.equals(value)) {
+            return existing;
+        }
+        table.set(index, value);
+        return value;
+    }
+
+    /**
+     * Retourne la capacité du pool
+     */
+    int capacity() {
+        return mask + 1;
+    }
+}
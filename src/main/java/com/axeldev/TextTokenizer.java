@@ -0,0 +1,80 @@
+package com.axeldev;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Découpe un texte en termes normalisés (minuscules, lettres et chiffres).
+ * Les balises HTML et les entités ne sont ignorées que pour les descriptions conservées en HTML.
+ */
+final class TextTokenizer {
+
+    private TextTokenizer() {}
+
+    /**
+     * Retourne les termes d'un texte brut dans leur ordre d'apparition
+     */
+    static List<String> tokenize(String text) {
+        return tokenize(text, false);
+    }
+
+    /**
+     * Retourne les termes d'un fragment HTML dans leur ordre d'apparition, balises et entités ignorées
+     */
+    static List<String> tokenizeMarkup(String html) {
+        return tokenize(html, true);
+    }
+
+    /**
+     * Retourne les termes de la description d'un item; une description déjà en texte brut
+     * garde ses '<' et '>', qui ne délimitent pas de balise
+     */
+    static List<String> tokenizeDescription(RssItem item) {
+        return tokenize(item.getDescription(), item.getDescriptionMode() != DescriptionMode.TEXT);
+    }
+
+    private static List<String> tokenize(String text, boolean markup) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null) {
+            return tokens;
+        }
+        StringBuilder current = new StringBuilder();
+        int length = text.length();
+        int i = 0;
+        while (i < length) {
+            char c = text.charAt(i);
+            if (markup && c == '<') {
+                // Ignorer la balise jusqu'au '>' fermant
+                int end = text.indexOf('>', i);
+                flush(current, tokens);
+                i = end < 0 ? length : end + 1;
+                continue;
+            }
+            if (markup && c == '&') {
+                // Ignorer une entité du type &amp; ou &#39;
+                int end = text.indexOf(';', i);
+                if (end > i && end - i <= 10) {
+                    flush(current, tokens);
+                    i = end + 1;
+                    continue;
+                }
+            }
+            if (Character.isLetterOrDigit(c)) {
+                current.append(c);
+            } else {
+                flush(current, tokens);
+            }
+            i++;
+        }
+        flush(current, tokens);
+        return tokens;
+    }
+
+    private static void flush(StringBuilder current, List<String> tokens) {
+        if (current.length() > 0) {
+            tokens.add(current.toString().toLowerCase(Locale.ROOT));
+            current.setLength(0);
+        }
+    }
+}
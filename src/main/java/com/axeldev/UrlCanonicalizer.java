@@ -0,0 +1,100 @@
+package com.axeldev;
+
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Normalise les liens d'items pour reconnaître un même article publié
+ * avec des paramètres de suivi différents
+ */
+final class UrlCanonicalizer {
+
+    private UrlCanonicalizer() {}
+
+    /**
+     * Retourne la forme canonique du lien: schéma et hôte en minuscules, sans "www.", sans port
+     * par défaut, sans fragment, sans paramètres de suivi connus et avec les paramètres restants triés
+     * @return La forme canonique, ou le lien d'origine sans espaces s'il n'est pas une URI valide
+     */
+    static String canonicalize(String link) {
+        if (link == null) {
+            return null;
+        }
+        String trimmed = link.trim();
+        URI uri;
+        try {
+            uri = new URI(trimmed);
+        } catch (URISyntaxException e) {
+            return trimmed;
+        }
+        if (uri.getScheme() == null || uri.getRawAuthority() == null || uri.getHost() == null) {
+            return trimmed;
+        }
+
+        StringBuilder sb = new StringBuilder();
+        String scheme = uri.getScheme().toLowerCase(Locale.ROOT);
+        sb.append(scheme).append("://");
+        String host = uri.getHost().toLowerCase(Locale.ROOT);
+        sb.append(host.startsWith("www.") ? host.substring(4) : host);
+        int port = uri.getPort();
+        if (port != -1 && port != defaultPort(scheme)) {
+            sb.append(':').append(port);
+        }
+
+        String path = uri.getRawPath();
+        if (path != null && path.length() > 1 && path.endsWith("/")) {
+            path = path.substring(0, path.length() - 1);
+        }
+        sb.append(path == null || path.isEmpty() ? "/" : path);
+
+        String query = uri.getRawQuery();
+        if (query != null && !query.isEmpty()) {
+            List<String> params = new ArrayList<>();
+            for (String param : query.split("&")) {
+                if (!param.isEmpty() && !isTrackingParameter(param)) {
+                    params.add(param);
+                }
+            }
+            if (!params.isEmpty()) {
+                Collections.sort(params);
+                sb.append('?').append(String.join("&", params));
+            }
+        }
+        return sb.toString();
+    }
+
+    private static int defaultPort(String scheme) {
+        switch (scheme) {
+            case "http":
+                return 80;
+            case "https":
+                return 443;
+            default:
+                return -1;
+        }
+    }
+
+    /**
+     * Paramètres ajoutés par les outils de suivi; "ref" seul est conservé car beaucoup de sites
+     * l'utilisent pour désigner le contenu (branche, révision...)
+     */
+    private static boolean isTrackingParameter(String param) {
+        int eq = param.indexOf('=');
+        String name = (eq < 0 ? param : param.substring(0, eq)).toLowerCase(Locale.ROOT);
+        return name.startsWith("utm_")
+            || name.equals("fbclid")
+            || name.equals("gclid")
+            || name.equals("dclid")
+            || name.equals("msclkid")
+            || name.equals("mc_cid")
+            || name.equals("mc_eid")
+            || name.equals("igshid")
+            || name.equals("ref_src")
+            || name.equals("cmpid")
+            || name.equals("ocid");
+    }
+}
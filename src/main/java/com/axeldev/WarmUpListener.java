@@ -0,0 +1,16 @@
+package com.axeldev;
+
+/**
+ * Suivi de la progression d'un préchargement du cache (Feed4j.warmUp)
+ */
+@FunctionalInterface
+public interface WarmUpListener {
+
+    /**
+     * Appelé depuis un thread de préchargement après chaque flux lu
+     * @param url URL du flux
+     * @param result Résultat de la lecture, mis en cache
+     * @param completed Nombre de flux lus jusqu'ici, celui-ci compris
+     */
+    void onFeedLoaded(String url, FeedResult result, int completed);
+}
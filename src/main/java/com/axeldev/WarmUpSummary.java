@@ -0,0 +1,81 @@
+package com.axeldev;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Bilan d'un préchargement du cache
+ */
+public final class WarmUpSummary {
+    private int total;
+    private int succeeded;
+    private int partial;
+    private long durationMs;
+    private final Map<String, FeedFailure> failures = new LinkedHashMap<>();
+
+    WarmUpSummary() {}
+
+    /**
+     * Enregistre le résultat d'un flux; appelé par les threads de préchargement
+     */
+    synchronized void record(String url, FeedResult result) {
+        total++;
+        if (!result.hasFeed() || result.isStale()) {
+            failures.put(url, result.getFailure());
+        } else if (result.isPartial()) {
+            partial++;
+        } else {
+            succeeded++;
+        }
+    }
+
+    synchronized void finish(long durationMs) {
+        this.durationMs = durationMs;
+    }
+
+    /**
+     * Retourne le nombre de flux distincts lus
+     */
+    public synchronized int getTotal() {
+        return total;
+    }
+
+    /**
+     * Retourne le nombre de flux lus sans erreur
+     */
+    public synchronized int getSucceeded() {
+        return succeeded;
+    }
+
+    /**
+     * Retourne le nombre de flux lus avec des items ignorés
+     */
+    public synchronized int getPartial() {
+        return partial;
+    }
+
+    /**
+     * Retourne le nombre de flux en échec (y compris ceux servis depuis une ancienne version)
+     */
+    public synchronized int getFailed() {
+        return failures.size();
+    }
+
+    public synchronized long getDurationMs() {
+        return durationMs;
+    }
+
+    /**
+     * Retourne l'échec de chaque flux en échec, dans l'ordre de lecture
+     */
+    public synchronized Map<String, FeedFailure> getFailures() {
+        return Collections.unmodifiableMap(new LinkedHashMap<>(failures));
+    }
+
+    @Override
+    public synchronized String toString() {
+        return "WarmUpSummary[total=" + total + ", succeeded=" + succeeded + ", partial=" + partial
+            + ", failed=" + failures.size() + ", durationMs=" + durationMs + "]";
+    }
+}
@@ -0,0 +1,168 @@
+package com.axeldev;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitaires pour BufferPool et la lecture des corps de réponse
+ */
+@DisplayName("BufferPool Tests")
+class BufferPoolTest {
+
+    @Test
+    @DisplayName("Should reuse released buffers")
+    void shouldReuseReleasedBuffers() {
+        // Given
+        BufferPool pool = new BufferPool(2, 1 << 20);
+        byte[] buffer = pool.acquire();
+
+        // When
+        pool.release(buffer);
+
+        // Then
+        assertSame(buffer, pool.acquire());
+        assertEquals(BufferPool.INITIAL_BUFFER_SIZE, pool.acquire().length);
+    }
+
+    @Test
+    @DisplayName("Should stay bounded and drop oversized buffers")
+    void shouldStayBoundedAndDropOversizedBuffers() {
+        // Given
+        BufferPool pool = new BufferPool(2, 16384);
+
+        // When
+        pool.release(new byte[8192]);
+        pool.release(new byte[8192]);
+        pool.release(new byte[8192]);
+        pool.release(new byte[32768]);
+
+        // Then
+        assertEquals(2, pool.available());
+    }
+
+    @Test
+    @DisplayName("Should read body into pooled buffer and return it on release")
+    void shouldReadBodyIntoPooledBufferAndReturnItOnRelease() throws Exception {
+        // Given - Corps plus grand que le tampon initial
+        BufferPool pool = new BufferPool(4, 1 << 20);
+        byte[] content = new byte[20000];
+        Arrays.fill(content, (byte) 'x');
+        ResponseBody unpooled = ResponseBody.read(new ByteArrayInputStream(content));
+
+        // When
+        ResponseBody body = ResponseBody.read(new ByteArrayInputStream(content), pool);
+        byte[] read = body.openStream().readAllBytes();
+        body.release();
+        ResponseBody again = ResponseBody.read(new ByteArrayInputStream(content), pool);
+
+        // Then - Même contenu et même hash, tampons agrandis rendus au pool puis réutilisés
+        assertArrayEquals(content, read);
+        assertEquals(unpooled.hash(), body.hash());
+        assertEquals(unpooled.hash(), again.hash());
+        assertThrows(IllegalStateException.class, body::openStream);
+        assertTrue(pool.available() >= 2);
+        assertEquals(content.length, body.hash() >>> 32);
+    }
+
+    @Test
+    @DisplayName("Should give the buffer back when the stream fails at runtime")
+    void shouldGiveTheBufferBackWhenTheStreamFailsAtRuntime() {
+        // Given - Flux qui échoue par une exception non vérifiée après quelques octets
+        BufferPool pool = new BufferPool(2, 1 << 20);
+        pool.release(new byte[BufferPool.INITIAL_BUFFER_SIZE]);
+        InputStream failing = new InputStream() {
+            private int remaining = 100;
+
+            @Override
+            public int read() {
+                if (remaining-- == 0) {
+                    throw new IllegalStateException("flux interrompu");
+                }
+                return 'x';
+            }
+        };
+
+        // When
+        assertThrows(IllegalStateException.class, () -> ResponseBody.read(failing, pool));
+
+        // Then
+        assertEquals(1, pool.available());
+    }
+
+    @Test
+    @DisplayName("Should stop reading bodies larger than the limit")
+    void shouldStopReadingBodiesLargerThanTheLimit() throws Exception {
+        // Given - Corps sans taille annoncée: la limite est vérifiée pendant la lecture
+        byte[] content = new byte[20000];
+
+        // When / Then
+        assertThrows(BodyTooLargeException.class,
+            () -> ResponseBody.read(new BoundedInputStream(new ByteArrayInputStream(content), 16384)));
+        assertEquals(20000, ResponseBody.read(new BoundedInputStream(new ByteArrayInputStream(content), 20000)).length());
+        assertEquals(FailureReason.BODY_TOO_LARGE, FeedFailure.from(new BodyTooLargeException(16384)).getReason());
+    }
+
+    @Test
+    @DisplayName("Should hand out the largest buffer and keep large buffers when full")
+    void shouldHandOutTheLargestBufferAndKeepLargeBuffersWhenFull() {
+        // Given
+        BufferPool pool = new BufferPool(3, 1 << 20);
+        byte[] small = new byte[8192];
+        byte[] medium = new byte[32768];
+        byte[] large = new byte[65536];
+        pool.release(small);
+        pool.release(large);
+        pool.release(medium);
+
+        // When
+        byte[] largest = pool.acquire();
+        byte[] atLeast = pool.acquire(8193);
+        byte[] remaining = pool.acquire();
+        byte[] allocated = pool.acquire(20000);
+        pool.release(small);
+        pool.release(small.clone());
+        pool.release(medium);
+        pool.release(large);
+
+        // Then - Pool plein: les tableaux plus grands remplacent ceux de 8 Ko
+        assertSame(large, largest);
+        assertSame(medium, atLeast);
+        assertSame(small, remaining);
+        assertEquals(32768, allocated.length);
+        assertEquals(3, pool.available());
+        assertSame(large, pool.acquire());
+        assertSame(medium, pool.acquire());
+        assertEquals(8192, pool.acquire().length);
+    }
+
+    @Test
+    @DisplayName("Should read large bodies without allocating in steady state")
+    void shouldReadLargeBodiesWithoutAllocatingInSteadyState() throws Exception {
+        // Given
+        com.sun.management.ThreadMXBean mx = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        BufferPool pool = new BufferPool(4, 1 << 20);
+        byte[] content = new byte[100_000];
+        Arrays.fill(content, (byte) 'x');
+        for (int i = 0; i < 5; i++) {
+            ResponseBody.read(new ByteArrayInputStream(content), pool).release();
+        }
+
+        // When
+        int rounds = 50;
+        long before = mx.getCurrentThreadAllocatedBytes();
+        for (int i = 0; i < rounds; i++) {
+            ResponseBody.read(new ByteArrayInputStream(content), pool).release();
+        }
+        long perRead = (mx.getCurrentThreadAllocatedBytes() - before) / rounds;
+
+        // Then - Sans pool par taille, chaque lecture réallouait 128 à 256 Ko
+        assertTrue(perRead < 4096, "alloc/op=" + perRead + "B");
+    }
+}
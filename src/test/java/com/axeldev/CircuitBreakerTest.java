@@ -0,0 +1,133 @@
+package com.axeldev;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitaires pour la classe CircuitBreaker
+ */
+@DisplayName("CircuitBreaker Tests")
+class CircuitBreakerTest {
+
+    private long now;
+    private CircuitBreaker breaker;
+
+    @BeforeEach
+    void setUp() {
+        // Fenêtre de 4 appels, ouverture à 50% après 4 appels, 1 s d'ouverture
+        now = 0;
+        breaker = new CircuitBreaker(4, 4, 0.5, 500, 1000, () -> now);
+    }
+
+    @Test
+    @DisplayName("Should stay closed below minimum calls")
+    void shouldStayClosedBelowMinimumCalls() {
+        // When
+        for (int i = 0; i < 3; i++) {
+            assertTrue(breaker.tryAcquire());
+            breaker.record(true, 10);
+        }
+
+        // Then
+        assertEquals(CircuitState.CLOSED, breaker.getState());
+    }
+
+    @Test
+    @DisplayName("Should open when failure rate reaches threshold")
+    void shouldOpenWhenFailureRateReachesThreshold() {
+        // When - 2 échecs sur 4 appels
+        breaker.record(false, 10);
+        breaker.record(true, 10);
+        breaker.record(false, 10);
+        breaker.record(true, 10);
+
+        // Then
+        assertEquals(CircuitState.OPEN, breaker.getState());
+        assertFalse(breaker.tryAcquire());
+    }
+
+    @Test
+    @DisplayName("Should count slow calls as failures")
+    void shouldCountSlowCallsAsFailures() {
+        // When - Appels réussis mais plus lents que le seuil
+        for (int i = 0; i < 4; i++) {
+            breaker.record(false, 800);
+        }
+
+        // Then
+        assertEquals(CircuitState.OPEN, breaker.getState());
+    }
+
+    @Test
+    @DisplayName("Should slide window over oldest outcomes")
+    void shouldSlideWindowOverOldestOutcomes() {
+        // Given - 1 échec sur 4
+        breaker.record(true, 10);
+        breaker.record(false, 10);
+        breaker.record(false, 10);
+        breaker.record(false, 10);
+
+        // When - L'échec sort de la fenêtre, un seul nouvel échec
+        breaker.record(true, 10);
+
+        // Then
+        assertEquals(CircuitState.CLOSED, breaker.getState());
+    }
+
+    @Test
+    @DisplayName("Should allow single trial call when half open")
+    void shouldAllowSingleTrialCallWhenHalfOpen() {
+        // Given
+        openBreaker();
+
+        // When
+        now += 1000;
+
+        // Then
+        assertEquals(CircuitState.HALF_OPEN, breaker.getState());
+        assertTrue(breaker.tryAcquire());
+        assertFalse(breaker.tryAcquire());
+    }
+
+    @Test
+    @DisplayName("Should close after successful trial call")
+    void shouldCloseAfterSuccessfulTrialCall() {
+        // Given
+        openBreaker();
+        now += 1000;
+        assertTrue(breaker.tryAcquire());
+
+        // When
+        breaker.record(false, 10);
+
+        // Then
+        assertEquals(CircuitState.CLOSED, breaker.getState());
+        assertTrue(breaker.tryAcquire());
+    }
+
+    @Test
+    @DisplayName("Should reopen after failed trial call")
+    void shouldReopenAfterFailedTrialCall() {
+        // Given
+        openBreaker();
+        now += 1000;
+        assertTrue(breaker.tryAcquire());
+
+        // When
+        breaker.record(true, 10);
+
+        // Then
+        assertEquals(CircuitState.OPEN, breaker.getState());
+        assertFalse(breaker.tryAcquire());
+    }
+
+    private void openBreaker() {
+        for (int i = 0; i < 4; i++) {
+            breaker.record(true, 10);
+        }
+        assertEquals(CircuitState.OPEN, breaker.getState());
+    }
+}
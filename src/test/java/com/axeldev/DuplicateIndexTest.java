@@ -0,0 +1,150 @@
+package com.axeldev;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitaires pour la détection des doublons entre flux
+ */
+@DisplayName("DuplicateIndex Tests")
+class DuplicateIndexTest {
+
+    private static final String FEED_A = "https://a.example.com/feed.xml";
+    private static final String FEED_B = "https://b.example.com/feed.xml";
+
+    @Test
+    @DisplayName("Should canonicalize links")
+    void shouldCanonicalizeLinks() {
+        assertEquals("https://example.com/news/42",
+            UrlCanonicalizer.canonicalize("HTTPS://www.Example.com:443/news/42/?utm_source=rss&utm_medium=feed#top"));
+        assertEquals("http://example.com/news?a=1&b=2",
+            UrlCanonicalizer.canonicalize("http://example.com/news?b=2&fbclid=x&a=1"));
+        assertEquals("http://example.com:8080/", UrlCanonicalizer.canonicalize("http://example.com:8080"));
+        assertEquals("https://example.com:80/", UrlCanonicalizer.canonicalize("https://example.com:80"));
+        assertEquals("https://example.com/compare?ref=main",
+            UrlCanonicalizer.canonicalize("https://example.com/compare?ref_src=twsrc&ref=main"));
+        assertNotEquals(UrlCanonicalizer.canonicalize("http://example.com/a"),
+            UrlCanonicalizer.canonicalize("ftp://example.com/a"));
+        assertEquals("not a url", UrlCanonicalizer.canonicalize(" not a url "));
+        assertNull(UrlCanonicalizer.canonicalize(null));
+    }
+
+    @Test
+    @DisplayName("Should give close fingerprints to near-identical texts")
+    void shouldGiveCloseFingerprintsToNearIdenticalTexts() {
+        // Given
+        long original = SimHash.fingerprint("Java 21 released with virtual threads",
+            "Oracle announced the general availability of Java 21, the next long term support release, "
+                + "featuring virtual threads, record patterns and sequenced collections.");
+        long retitled = SimHash.fingerprint("Java 21 released with virtual threads!",
+            "Oracle announced the general availability of Java 21, the next long-term support release, "
+                + "featuring virtual threads, record patterns and sequenced collections.");
+        long other = SimHash.fingerprint("Rust 1.80 ships lazy cell",
+            "The Rust team is happy to announce a new version of Rust with LazyCell and LazyLock.");
+
+        // Then
+        assertTrue(SimHash.distance(original, retitled) <= 3);
+        assertTrue(SimHash.distance(original, other) > 3);
+        assertEquals(0, SimHash.fingerprint("Short", null));
+    }
+
+    @Test
+    @DisplayName("Should detect the same link across feeds")
+    void shouldDetectSameLinkAcrossFeeds() {
+        // Given
+        DuplicateIndex index = new DuplicateIndex(100, 3);
+        RssItem original = item("Announcement", "https://www.example.com/post/1?utm_source=a");
+        RssItem copy = item("Other title", "https://example.com/post/1/?utm_source=b");
+
+        // When / Then
+        assertNull(index.findOrAdd(FEED_A, original));
+        assertEquals(original.getLink(), index.findOrAdd(FEED_B, copy));
+        assertEquals(1, index.size());
+    }
+
+    @Test
+    @DisplayName("Should detect near-duplicate text with different links")
+    void shouldDetectNearDuplicateText() {
+        // Given
+        DuplicateIndex index = new DuplicateIndex(100, 3);
+        RssItem original = item("Apache Kafka 4.0 removes ZooKeeper for good", "https://a.example.com/kafka");
+        RssItem copy = item("Apache Kafka 4.0 removes ZooKeeper for good", "https://b.example.com/kafka-4");
+        RssItem unrelated = item("PostgreSQL 17 improves vacuum memory usage", "https://b.example.com/pg");
+
+        // When / Then
+        assertNull(index.findOrAdd(FEED_A, original));
+        assertEquals(original.getLink(), index.findOrAdd(FEED_B, copy));
+        assertNull(index.findOrAdd(FEED_B, unrelated));
+    }
+
+    @Test
+    @DisplayName("Should not flag items of the same feed")
+    void shouldNotFlagItemsOfSameFeed() {
+        // Given
+        DuplicateIndex index = new DuplicateIndex(100, 3);
+        RssItem item = item("Apache Kafka 4.0 removes ZooKeeper for good", "https://a.example.com/kafka");
+
+        // When / Then
+        assertNull(index.findOrAdd(FEED_A, item));
+        assertNull(index.findOrAdd(FEED_A, item.toBuilder().description("Mise à jour").build()));
+    }
+
+    @Test
+    @DisplayName("Should forget oldest items when full")
+    void shouldForgetOldestItemsWhenFull() {
+        // Given
+        DuplicateIndex index = new DuplicateIndex(2, 3);
+        index.findOrAdd(FEED_A, item("one", "https://example.com/1"));
+        index.findOrAdd(FEED_A, item("two", "https://example.com/2"));
+        index.findOrAdd(FEED_A, item("three", "https://example.com/3"));
+
+        // Then - Le premier item a été oublié
+        assertEquals(2, index.size());
+        assertNull(index.findOrAdd(FEED_B, item("one", "https://example.com/1")));
+        assertNotNull(index.findOrAdd(FEED_B, item("three", "https://example.com/3")));
+    }
+
+    @Test
+    @DisplayName("Should stay consistent under concurrent feeds")
+    void shouldStayConsistentUnderConcurrentFeeds() throws Exception {
+        // Given - Quatre flux publient en parallèle les mêmes liens
+        DuplicateIndex index = new DuplicateIndex(500, 3);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        List<Future<Integer>> feeds = new ArrayList<>();
+
+        // When
+        for (int f = 0; f < 4; f++) {
+            String feedUrl = "https://feed" + f + ".example.com/feed.xml";
+            feeds.add(executor.submit(() -> {
+                int duplicates = 0;
+                for (int i = 0; i < 300; i++) {
+                    if (index.findOrAdd(feedUrl, item("Story " + i, "https://example.com/story/" + i)) != null) {
+                        duplicates++;
+                    }
+                }
+                return duplicates;
+            }));
+        }
+        int duplicates = 0;
+        for (Future<Integer> feed : feeds) {
+            duplicates += feed.get();
+        }
+        executor.shutdown();
+
+        // Then - Chaque lien n'est retenu qu'une fois, les trois autres publications sont des doublons
+        assertEquals(300 * 3, duplicates);
+        assertEquals(300, index.size());
+    }
+
+    private static RssItem item(String title, String link) {
+        return RssItem.builder().title(title).link(link).description("").build();
+    }
+}
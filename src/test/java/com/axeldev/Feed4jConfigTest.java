@@ -174,4 +174,26 @@ class Feed4jConfigTest {
         assertEquals(4, config2.getMaxThreads());
         assertEquals("Config2", config2.getUserAgent());
     }
+
+    @Test
+    @DisplayName("Should configure failure backoff with bounds")
+    void shouldConfigureFailureBackoffWithBounds() {
+        // Given
+        Feed4jConfig config = new Feed4jConfig();
+
+        // Then - Valeurs par défaut
+        assertEquals(5000, config.getFailureCacheDurationMs());
+        assertEquals(300000, config.getMaxFailureBackoffMs());
+        assertEquals(0.2, config.getFailureBackoffJitter());
+
+        // When - Valeurs hors bornes
+        config.setFailureCacheDurationMs(-1)
+              .setMaxFailureBackoffMs(-1)
+              .setFailureBackoffJitter(3.0);
+
+        // Then
+        assertEquals(0, config.getFailureCacheDurationMs());
+        assertEquals(0, config.getMaxFailureBackoffMs());
+        assertEquals(1.0, config.getFailureBackoffJitter());
+    }
 }
@@ -0,0 +1,172 @@
+package com.axeldev;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests de charge de Feed4j contre un serveur de flux local.
+ * Exclus de mvn test (tag load); ils se lancent avec le profil load, pour une vraie mesure:
+ * mvn test -Pload -Dfeed4j.load.operations=20000 -Dfeed4j.load.threads=32
+ * -Dfeed4j.load.minThroughput=N fait échouer un scénario plus lent que N opérations/s.
+ */
+@Tag("load")
+@DisplayName("Feed4j Load Tests")
+class Feed4jLoadTest {
+
+    private static final int OPERATIONS = Integer.getInteger("feed4j.load.operations", 200);
+    private static final int THREADS = Integer.getInteger("feed4j.load.threads", 8);
+    private static final double MIN_THROUGHPUT =
+        Double.parseDouble(System.getProperty("feed4j.load.minThroughput", "0"));
+    private static final int FEEDS = 50;
+
+    private StubFeedServer server;
+    private LoadDriver driver;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        server = new StubFeedServer(THREADS);
+        driver = new LoadDriver(THREADS, 20);
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.close();
+    }
+
+    @Test
+    @DisplayName("Should sustain uncached ReadFeed load")
+    void shouldSustainUncachedReadFeedLoad(TestReporter reporter) throws Exception {
+        // Given - Cache désactivé: chaque lecture télécharge le flux
+        server.size(20, 300).etag(StubFeedServer.EtagMode.STABLE);
+        Feed4j feed4j = new Feed4j(new Feed4jConfig().setCacheDurationMs(0));
+
+        // When
+        LoadDriver.Report report = driver.run("ReadFeed uncached", OPERATIONS,
+            i -> feed4j.ReadFeed(server.url(i % FEEDS)) != null);
+
+        // Then
+        publish(reporter, report, "304=" + server.notModified());
+        assertEquals(0, report.failures);
+        assertTrue(server.requests() > 0);
+        assertMinThroughput(report);
+    }
+
+    @Test
+    @DisplayName("Should serve repeated ReadFeed calls from cache")
+    void shouldServeRepeatedReadFeedCallsFromCache(TestReporter reporter) throws Exception {
+        // Given
+        server.size(20, 300);
+        Feed4j feed4j = new Feed4j(new Feed4jConfig());
+
+        // When
+        LoadDriver.Report report = driver.run("ReadFeed cached", OPERATIONS * 10,
+            i -> feed4j.ReadFeed(server.url(i % 10)) != null);
+
+        // Then - Quelques téléchargements concurrents au plus par flux
+        publish(reporter, report, "requests=" + server.requests());
+        assertEquals(0, report.failures);
+        assertTrue(server.requests() <= 10L * (THREADS + 1));
+        assertMinThroughput(report);
+    }
+
+    @Test
+    @DisplayName("Should report failures under latency and server errors")
+    void shouldReportFailuresUnderLatencyAndServerErrors(TestReporter reporter) throws Exception {
+        // Given - Échecs non mis en cache et disjoncteur désactivé pour que chaque appel touche le serveur
+        server.size(20, 300).latency(2, 10).errorRate(0.2);
+        Feed4j feed4j = new Feed4j(new Feed4jConfig()
+            .setCacheDurationMs(0)
+            .setFailureCacheDurationMs(0)
+            .setCircuitBreakerEnabled(false));
+
+        // When
+        LoadDriver.Report report = driver.run("ReadFeedResult 20% errors", OPERATIONS,
+            i -> feed4j.ReadFeedResult(server.url(i % FEEDS)).isSuccess());
+
+        // Then
+        publish(reporter, report, "serverErrors=" + server.errors());
+        assertTrue(report.failures > 0);
+        assertTrue(report.failures <= server.errors());
+        assertTrue(report.percentileMicros(50) >= 2000);
+    }
+
+    @Test
+    @DisplayName("Should read slow-drip bodies within the read timeout")
+    void shouldReadSlowDripBodiesWithinTheReadTimeout(TestReporter reporter) throws Exception {
+        // Given - Corps envoyé par morceaux de 1 Ko toutes les 2 ms
+        server.size(20, 300).drip(1024, 2);
+        Feed4j feed4j = new Feed4j(new Feed4jConfig().setCacheDurationMs(0).setReadTimeout(5000));
+
+        // When
+        LoadDriver.Report report = driver.run("ReadFeed slow drip", Math.max(THREADS, OPERATIONS / 5),
+            i -> feed4j.ReadFeed(server.url(i % FEEDS)) != null);
+
+        // Then
+        publish(reporter, report, "bytes=" + server.bytesSent());
+        assertEquals(0, report.failures);
+        assertTrue(report.percentileMicros(50) >= 2000);
+    }
+
+    @Test
+    @DisplayName("Should merge latest items from many changing feeds")
+    void shouldMergeLatestItemsFromManyChangingFeeds(TestReporter reporter) throws Exception {
+        // Given - Chaque requête renvoie une nouvelle version du flux
+        server.size(30, 100).etag(StubFeedServer.EtagMode.ROTATING);
+        Feed4j feed4j = new Feed4j(new Feed4jConfig().setCacheDurationMs(0));
+        List<String> urls = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            urls.add(server.url(i));
+        }
+
+        // When
+        LoadDriver.Report report = driver.run("getLatestItems 20 feeds", Math.max(THREADS, OPERATIONS / 10),
+            i -> feed4j.getLatestItems(urls, 50).size() == 50);
+
+        // Then
+        publish(reporter, report, "requests=" + server.requests());
+        assertEquals(0, report.failures);
+        assertMinThroughput(report);
+    }
+
+    @Test
+    @DisplayName("Should warm up a cold cache from many feeds")
+    void shouldWarmUpAColdCacheFromManyFeeds(TestReporter reporter) throws Exception {
+        // Given
+        server.size(20, 300).latency(1, 5);
+        List<String> urls = new ArrayList<>();
+        for (int i = 0; i < FEEDS * 2; i++) {
+            urls.add(server.url(i));
+        }
+
+        // When - Un cache froid par opération
+        LoadDriver.Report report = new LoadDriver(1, 1).run("warmUp 100 feeds", 5, i -> {
+            WarmUpSummary summary = new Feed4j().warmUp(urls, 16, null);
+            return summary.getSucceeded() == urls.size();
+        });
+
+        // Then
+        publish(reporter, report, "requests=" + server.requests());
+        assertEquals(0, report.failures);
+    }
+
+    /**
+     * Publie le rapport d'un scénario dans le rapport de test (console et XML de Surefire)
+     */
+    private static void publish(TestReporter reporter, LoadDriver.Report report, String server) {
+        reporter.publishEntry(report.name, report + " " + server);
+    }
+
+    private static void assertMinThroughput(LoadDriver.Report report) {
+        assertTrue(report.throughput() >= MIN_THROUGHPUT,
+            report.name + ": " + report.throughput() + " ops/s < " + MIN_THROUGHPUT);
+    }
+}
@@ -4,6 +4,24 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.DisplayName;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+
 import static org.junit.jupiter.api.Assertions.*;
 
 /**
@@ -100,4 +118,505 @@ class Feed4jTest {
         // Should not throw exception even if entry doesn't exist
         assertEquals(0, instance.getCacheSize());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Should report network failure reason")
+    void shouldReportNetworkFailureReason() {
+        // When
+        FeedResult result = feed4j.ReadFeedResult("https://non-existent-domain-12345.com/feed.xml");
+
+        // Then
+        assertFalse(result.hasFeed());
+        assertNull(result.getFeed());
+        assertEquals(FailureReason.NETWORK_ERROR, result.getFailure().getReason());
+    }
+
+    @Test
+    @DisplayName("Should report invalid URL failure reason")
+    void shouldReportInvalidUrlFailureReason() {
+        // When
+        FeedResult result = feed4j.ReadFeedResult("not a url");
+
+        // Then
+        assertEquals(FailureReason.INVALID_URL, result.getFailure().getReason());
+    }
+
+    @Test
+    @DisplayName("Should report HTTP error with status")
+    void shouldReportHttpErrorWithStatus() throws Exception {
+        try (LocalFeedServer server = new LocalFeedServer().serve("/missing.xml", 404, "")) {
+            // When
+            FeedResult result = feed4j.ReadFeedResult(server.url("/missing.xml"));
+
+            // Then
+            assertEquals(FailureReason.HTTP_ERROR, result.getFailure().getReason());
+            assertEquals(404, result.getFailure().getHttpStatus());
+        }
+    }
+
+    @Test
+    @DisplayName("Should reject bodies larger than maxBodyBytes")
+    void shouldRejectBodiesLargerThanMaxBodyBytes() throws Exception {
+        // Given
+        String xml = LocalFeedServer.rss("Large",
+            LocalFeedServer.item("Item", "http://localhost/1", "Mon, 02 Jan 2023 10:00:00 GMT"));
+        Feed4jConfig config = new Feed4jConfig().setMaxBodyBytes(100);
+
+        try (LocalFeedServer server = new LocalFeedServer().serve("/large.xml", 200, xml)) {
+            // When - Lecture complète et lecture en flux
+            FeedResult read = new Feed4j(config).ReadFeedResult(server.url("/large.xml"));
+            FeedResult streamed = new Feed4j(config.setMaxItems(1)).ReadFeedResult(server.url("/large.xml"));
+            FeedResult unlimited = new Feed4j(new Feed4jConfig().setMaxBodyBytes(0))
+                .ReadFeedResult(server.url("/large.xml"));
+
+            // Then
+            assertEquals(FailureReason.BODY_TOO_LARGE, read.getFailure().getReason());
+            assertEquals(FailureReason.BODY_TOO_LARGE, streamed.getFailure().getReason());
+            assertTrue(unlimited.isSuccess());
+        }
+    }
+
+    @Test
+    @DisplayName("Should distinguish malformed XML from invalid feed")
+    void shouldDistinguishMalformedXmlFromInvalidFeed() throws Exception {
+        PrintStream stderr = System.err;
+        ByteArrayOutputStream errors = new ByteArrayOutputStream();
+        try (LocalFeedServer server = new LocalFeedServer()
+                .serve("/broken.xml", 200, "<rss><channel><title>Oops</channel>")
+                .serve("/html.xml", 200, "<html><body>Not a feed</body></html>")) {
+            // When - Deux lectures sur le même thread: la seconde réutilise le DocumentBuilder
+            System.setErr(new PrintStream(errors, true, StandardCharsets.UTF_8));
+            FeedResult broken = feed4j.ReadFeedResult(server.url("/broken.xml"));
+            FeedResult html = feed4j.ReadFeedResult(server.url("/html.xml"));
+            FeedResult brokenAgain = new Feed4j(new Feed4jConfig().setCacheDurationMs(0))
+                .ReadFeedResult(server.url("/broken.xml"));
+
+            // Then - Aucune trace du parseur sur stderr
+            assertEquals(FailureReason.MALFORMED_XML, broken.getFailure().getReason());
+            assertEquals(FailureReason.INVALID_FEED, html.getFailure().getReason());
+            assertEquals(FailureReason.MALFORMED_XML, brokenAgain.getFailure().getReason());
+        } finally {
+            System.setErr(stderr);
+        }
+        assertEquals("", errors.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("Should report unsupported protocols as invalid URLs")
+    void shouldReportUnsupportedProtocolsAsInvalidUrls() throws Exception {
+        // Given
+        Path file = Files.createTempFile("feed4j", ".xml");
+        try {
+            Files.writeString(file, LocalFeedServer.rss("File"));
+
+            // When
+            FeedResult result = feed4j.ReadFeedResult(file.toUri().toString());
+
+            // Then
+            assertEquals(FailureReason.INVALID_URL, result.getFailure().getReason());
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    @DisplayName("Should keep the failure of a deserialized FeedException")
+    void shouldKeepTheFailureOfADeserializedFeedException() throws Exception {
+        // Given
+        FeedException exception = new FeedException(FeedFailure.http(503, "Service Unavailable"));
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(exception);
+        }
+
+        // When
+        FeedException copy;
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            copy = (FeedException) in.readObject();
+        }
+
+        // Then
+        assertEquals(FailureReason.HTTP_ERROR, copy.getReason());
+        assertEquals(503, copy.getFailure().getHttpStatus());
+    }
+
+    @Test
+    @DisplayName("Should return partial feed with item failures")
+    void shouldReturnPartialFeedWithItemFailures() throws Exception {
+        // Given - Le second item n'a pas de titre
+        String xml = LocalFeedServer.rss("Partial",
+            LocalFeedServer.item("First", "http://localhost/1", "Mon, 02 Jan 2023 10:00:00 GMT"),
+            "<item><link>http://localhost/2</link></item>",
+            LocalFeedServer.item("Third", "http://localhost/3", "Wed, 04 Jan 2023 10:00:00 GMT"));
+
+        try (LocalFeedServer server = new LocalFeedServer().serve("/partial.xml", 200, xml)) {
+            // When
+            FeedResult result = feed4j.ReadFeedResult(server.url("/partial.xml"));
+
+            // Then
+            assertTrue(result.isPartial());
+            assertEquals(2, result.getFeed().getItems().size());
+            assertEquals(1, result.getItemFailures().size());
+            assertEquals(FailureReason.INVALID_ITEM, result.getItemFailures().get(0).getReason());
+            assertEquals(1, result.getItemFailures().get(0).getItemIndex());
+            assertSame(result.getFeed(), feed4j.ReadFeed(server.url("/partial.xml")));
+        }
+    }
+
+    @Test
+    @DisplayName("Should open circuit and serve stale feed for failing host")
+    void shouldOpenCircuitAndServeStaleFeedForFailingHost() throws Exception {
+        // Given - Cache expirant immédiatement, pas de cache négatif
+        Feed4j instance = new Feed4j(new Feed4jConfig()
+            .setCacheDurationMs(0)
+            .setFailureCacheDurationMs(0)
+            .setCircuitBreakerEnabled(true)
+            .setCircuitMinimumCalls(3)
+            .setCircuitWindowSize(3));
+        String xml = LocalFeedServer.rss("Stable",
+            LocalFeedServer.item("First", "http://localhost/1", "Mon, 02 Jan 2023 10:00:00 GMT"));
+
+        try (LocalFeedServer server = new LocalFeedServer().serve("/feed.xml", 200, xml)) {
+            String url = server.url("/feed.xml");
+            RssFeed fresh = instance.ReadFeed(url);
+            assertNotNull(fresh);
+            Thread.sleep(5);
+
+            // When - L'hôte se met à répondre en erreur
+            server.replace("/feed.xml", 503, "");
+            assertEquals(FailureReason.HTTP_ERROR, instance.ReadFeedResult(url).getFailure().getReason());
+            assertEquals(FailureReason.HTTP_ERROR, instance.ReadFeedResult(url).getFailure().getReason());
+
+            // Then - Le disjoncteur est ouvert et l'ancienne version est servie
+            assertEquals(CircuitState.OPEN, instance.getCircuitState(url));
+            FeedResult result = instance.ReadFeedResult(url);
+            assertTrue(result.isStale());
+            assertEquals(FailureReason.CIRCUIT_OPEN, result.getFailure().getReason());
+            assertSame(fresh, result.getFeed());
+            assertEquals(CircuitState.OPEN, instance.getCircuitStates().values().iterator().next());
+        }
+    }
+
+    @Test
+    @DisplayName("Should not open circuit for invalid feeds")
+    void shouldNotOpenCircuitForInvalidFeeds() throws Exception {
+        // Given
+        Feed4j instance = new Feed4j(new Feed4jConfig()
+            .setFailureCacheDurationMs(0)
+            .setCircuitBreakerEnabled(true)
+            .setCircuitMinimumCalls(1));
+
+        try (LocalFeedServer server = new LocalFeedServer().serve("/html.xml", 200, "<html/>")) {
+            // When
+            instance.ReadFeedResult(server.url("/html.xml"));
+            instance.ReadFeedResult(server.url("/html.xml"));
+
+            // Then - L'hôte répond, seul le contenu est invalide
+            assertEquals(CircuitState.CLOSED, instance.getCircuitState(server.url("/html.xml")));
+        }
+    }
+
+    @Test
+    @DisplayName("Should reuse unchanged items and deduplicate strings across refreshes")
+    void shouldReuseUnchangedItemsAndDeduplicateStringsAcrossRefreshes() throws Exception {
+        // Given - Cache expirant immédiatement pour forcer un rafraîchissement
+        Feed4j instance = new Feed4j(new Feed4jConfig()
+            .setCacheDurationMs(0)
+            .setStringDeduplication(true));
+        String first = LocalFeedServer.item("Same", "http://localhost/same", "Mon, 02 Jan 2023 10:00:00 GMT");
+        String changed = LocalFeedServer.item("Before", "http://localhost/changed", "Mon, 02 Jan 2023 10:00:00 GMT");
+
+        try (LocalFeedServer server = new LocalFeedServer().serve("/feed.xml", 200,
+                LocalFeedServer.rss("Refresh", first, changed))) {
+            String url = server.url("/feed.xml");
+            RssFeed before = instance.ReadFeed(url);
+            Thread.sleep(5);
+
+            // When
+            server.replace("/feed.xml", 200, LocalFeedServer.rss("Refresh", first,
+                LocalFeedServer.item("After", "http://localhost/changed", "Mon, 02 Jan 2023 10:00:00 GMT")));
+            RssFeed after = instance.ReadFeed(url);
+
+            // Then
+            assertNotSame(before, after);
+            assertSame(before.getItems().get(0), after.getItems().get(0));
+            assertNotSame(before.getItems().get(1), after.getItems().get(1));
+            assertEquals("After", after.getItems().get(1).getTitle());
+            assertSame(before.getTitle(), after.getTitle());
+            assertSame(before.getItems().get(1).getLink(), after.getItems().get(1).getLink());
+        }
+    }
+
+    @Test
+    @DisplayName("Should skip parsing when body is byte-identical")
+    void shouldSkipParsingWhenBodyIsByteIdentical() throws Exception {
+        // Given - Cache expirant immédiatement pour forcer un nouveau téléchargement
+        Feed4j instance = new Feed4j(new Feed4jConfig().setCacheDurationMs(0));
+        String xml = LocalFeedServer.rss("Static",
+            LocalFeedServer.item("Only", "http://localhost/only", "Mon, 02 Jan 2023 10:00:00 GMT"));
+
+        try (LocalFeedServer server = new LocalFeedServer().serve("/feed.xml", 200, xml)) {
+            String url = server.url("/feed.xml");
+            RssFeed first = instance.ReadFeed(url);
+            Thread.sleep(5);
+
+            // When
+            RssFeed second = instance.ReadFeed(url);
+            Thread.sleep(5);
+            server.replace("/feed.xml", 200, xml.replace("Static", "Changed"));
+            RssFeed third = instance.ReadFeed(url);
+
+            // Then - Même instance tant que le corps est identique
+            assertSame(first, second);
+            assertNotSame(second, third);
+            assertEquals("Changed", third.getTitle());
+        }
+    }
+
+    @Test
+    @DisplayName("Should flag or collapse items already published by another feed")
+    void shouldFlagOrCollapseCrossFeedDuplicates() throws Exception {
+        // Given - Deux flux publiant le même article avec des paramètres de suivi différents
+        String first = LocalFeedServer.rss("First",
+            LocalFeedServer.item("Shared", "http://localhost/post?utm_source=first", "Mon, 02 Jan 2023 10:00:00 GMT"),
+            LocalFeedServer.item("Own", "http://localhost/own", "Mon, 02 Jan 2023 10:00:00 GMT"));
+        String second = LocalFeedServer.rss("Second",
+            LocalFeedServer.item("Shared", "http://localhost/post?utm_source=second", "Mon, 02 Jan 2023 11:00:00 GMT"));
+        Feed4j flagging = new Feed4j(new Feed4jConfig().setDuplicateMode(DuplicateMode.FLAG));
+        Feed4j collapsing = new Feed4j(new Feed4jConfig().setDuplicateMode(DuplicateMode.COLLAPSE));
+
+        try (LocalFeedServer server = new LocalFeedServer()
+                .serve("/first.xml", 200, first)
+                .serve("/second.xml", 200, second)) {
+            // When
+            RssFeed flaggedFirst = flagging.ReadFeed(server.url("/first.xml"));
+            RssFeed flaggedSecond = flagging.ReadFeed(server.url("/second.xml"));
+            collapsing.ReadFeed(server.url("/first.xml"));
+            RssFeed collapsedSecond = collapsing.ReadFeed(server.url("/second.xml"));
+
+            // Then
+            assertFalse(flaggedFirst.getItems().get(0).isDuplicate());
+            assertEquals(1, flaggedSecond.getItems().size());
+            assertEquals("http://localhost/post?utm_source=first", flaggedSecond.getItems().get(0).getDuplicateOf());
+            assertTrue(collapsedSecond.getItems().isEmpty());
+        }
+    }
+
+    @Test
+    @DisplayName("Should stop reading after maxItems items")
+    void shouldStopReadingAfterMaxItems() throws Exception {
+        // Given - Flux d'archive avec beaucoup d'items
+        String[] items = new String[5000];
+        for (int i = 0; i < items.length; i++) {
+            items[i] = LocalFeedServer.item("Item " + i, "http://localhost/" + i, "Mon, 02 Jan 2023 10:00:00 GMT");
+        }
+        Feed4j instance = new Feed4j(new Feed4jConfig().setMaxItems(3));
+
+        try (LocalFeedServer server = new LocalFeedServer().serve("/archive.xml", 200,
+                LocalFeedServer.rss("Archive", items))) {
+            // When
+            FeedResult result = instance.ReadFeedResult(server.url("/archive.xml"));
+
+            // Then
+            assertTrue(result.isSuccess());
+            assertEquals("Archive", result.getFeed().getTitle());
+            assertEquals(3, result.getFeed().getItems().size());
+            assertEquals("Item 2", result.getFeed().getItems().get(2).getTitle());
+        }
+    }
+
+    @Test
+    @DisplayName("Should stop at the first item older than maxItemAgeMs")
+    void shouldStopAtFirstItemOlderThanMaxItemAge() throws Exception {
+        // Given - Items du plus récent au plus ancien, titre du channel après les items
+        DateTimeFormatter rfc1123 = DateTimeFormatter.RFC_1123_DATE_TIME;
+        ZonedDateTime now = ZonedDateTime.now(ZoneOffset.UTC);
+        String xml = "<?xml version=\"1.0\"?><rss version=\"2.0\"><channel>"
+            + LocalFeedServer.item("Recent", "http://localhost/1", rfc1123.format(now.minusHours(1)))
+            + LocalFeedServer.item("Yesterday", "http://localhost/2", rfc1123.format(now.minusDays(1)))
+            + LocalFeedServer.item("Old", "http://localhost/3", rfc1123.format(now.minusDays(30)))
+            + "<title>Late header</title><link>http://localhost</link><description>Desc</description>"
+            + "</channel></rss>";
+        Feed4j instance = new Feed4j(new Feed4jConfig().setMaxItemAgeMs(TimeUnit.DAYS.toMillis(2)));
+
+        try (LocalFeedServer server = new LocalFeedServer().serve("/recent.xml", 200, xml)) {
+            // When
+            RssFeed feed = instance.ReadFeed(server.url("/recent.xml"));
+
+            // Then
+            assertNotNull(feed);
+            assertEquals("Late header", feed.getTitle());
+            assertEquals(2, feed.getItems().size());
+            assertEquals("Yesterday", feed.getItems().get(1).getTitle());
+        }
+    }
+
+    @Test
+    @DisplayName("Should warm up cache from OPML with bounded concurrency")
+    void shouldWarmUpCacheFromOpml() throws Exception {
+        // Given
+        String xml = LocalFeedServer.rss("Warm",
+            LocalFeedServer.item("Item", "http://localhost/item", "Mon, 02 Jan 2023 10:00:00 GMT"));
+
+        try (LocalFeedServer server = new LocalFeedServer()
+                .serve("/a.xml", 200, xml)
+                .serve("/b.xml", 200, xml)
+                .serve("/gone.xml", 404, "Not Found")) {
+            String opml = "<opml version=\"2.0\"><body><outline text=\"Folder\">"
+                + "<outline text=\"A\" xmlUrl=\"" + server.url("/a.xml") + "\"/>"
+                + "<outline text=\"B\" xmlUrl=\"" + server.url("/b.xml") + "\"/>"
+                + "<outline text=\"A again\" xmlUrl=\"" + server.url("/a.xml") + "\"/>"
+                + "<outline text=\"Gone\" xmlUrl=\"" + server.url("/gone.xml") + "\"/>"
+                + "</outline></body></opml>";
+            List<Integer> progress = Collections.synchronizedList(new ArrayList<>());
+
+            // When
+            WarmUpSummary summary = feed4j.warmUpOpml(
+                new ByteArrayInputStream(opml.getBytes(StandardCharsets.UTF_8)), 2,
+                (url, result, completed) -> progress.add(completed));
+
+            // Then
+            assertEquals(3, summary.getTotal());
+            assertEquals(2, summary.getSucceeded());
+            assertEquals(1, summary.getFailed());
+            assertEquals(FailureReason.HTTP_ERROR, summary.getFailures().get(server.url("/gone.xml")).getReason());
+            assertEquals(3, progress.size());
+            assertTrue(progress.contains(3));
+            assertEquals(2, feed4j.getCacheSize());
+        }
+    }
+
+    @Test
+    @DisplayName("Should share cached feeds through a memory-mapped file")
+    void shouldShareCachedFeedsThroughMappedFile() throws Exception {
+        // Given - Deux instances configurées avec le même fichier partagé
+        Path file = Files.createTempFile("feed4j-shared", ".bin");
+        Feed4jConfig config = new Feed4jConfig().setSharedCacheFile(file).setSharedCacheSlots(64);
+        Feed4j writer = new Feed4j(config);
+        Feed4j reader = new Feed4j(config);
+        String url;
+
+        try (LocalFeedServer server = new LocalFeedServer().serve("/shared.xml", 200, LocalFeedServer.rss("Shared",
+                LocalFeedServer.item("Item", "http://localhost/item", "Mon, 02 Jan 2023 10:00:00 GMT")))) {
+            url = server.url("/shared.xml");
+            assertTrue(writer.ReadFeedResult(url).isSuccess());
+        }
+
+        try {
+            // When - Le serveur est arrêté: seule la version partagée peut répondre
+            FeedResult result = reader.ReadFeedResult(url);
+
+            // Then
+            assertTrue(result.isSuccess());
+            assertEquals("Shared", result.getFeed().getTitle());
+            assertEquals("http://localhost/item", result.getFeed().getItems().get(0).getLink());
+            assertEquals(1, reader.getCacheSize());
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    @DisplayName("Should resolve Media RSS and Dublin Core by namespace whatever their prefix")
+    void shouldResolveNamespacesWhateverTheirPrefix() throws Exception {
+        // Given - Préfixes non standard, et un préfixe media: lié à un autre espace de noms
+        String xml = "<?xml version=\"1.0\"?>"
+            + "<rss version=\"2.0\" xmlns:m=\"http://search.yahoo.com/mrss/\""
+            + " xmlns:d=\"http://purl.org/dc/elements/1.1/\" xmlns:media=\"http://example.com/other\"><channel>"
+            + "<title>Prefixes</title><link>http://localhost</link><description>Episodes</description>"
+            + "<item><title>Episode 1</title><link>http://localhost/1</link><description>First</description>"
+            + "<pubDate>Mon, 02 Jan 2023 10:00:00 GMT</pubDate><d:creator>Jane</d:creator>"
+            + "<m:content url=\"http://localhost/1.mp4\" type=\"video/mp4\" medium=\"video\"/>"
+            + "<m:thumbnail url=\"http://localhost/1.jpg\"/><media:thumbnail url=\"http://localhost/other.jpg\"/>"
+            + "<m:title>Not the title</m:title></item></channel></rss>";
+
+        try (LocalFeedServer server = new LocalFeedServer().serve("/prefixes.xml", 200, xml)) {
+            // When
+            RssFeed dom = new Feed4j().ReadFeed(server.url("/prefixes.xml"));
+            RssFeed streamed = new Feed4j(new Feed4jConfig().setMaxItems(10)).ReadFeed(server.url("/prefixes.xml"));
+
+            // Then
+            for (RssFeed feed : List.of(dom, streamed)) {
+                RssItem item = feed.getItems().get(0);
+                assertEquals("Episode 1", item.getTitle());
+                assertEquals("Jane", item.getAuthor());
+                assertEquals("http://localhost/1.mp4", item.getMediaContents().get(0).getUrl());
+                assertEquals("http://localhost/1.jpg", item.getThumbnailUrl());
+            }
+            assertEquals(dom.getItems(), streamed.getItems());
+        }
+    }
+
+    @Test
+    @DisplayName("Should order items from mixed time zones by instant")
+    void shouldOrderItemsFromMixedTimeZonesByInstant() throws Exception {
+        // Given - Heures locales dans l'ordre inverse des instants
+        String xml = LocalFeedServer.rss("Zones",
+            LocalFeedServer.item("Paris", "http://localhost/paris", "Mon, 02 Jan 2023 04:00:00 +0200"),
+            LocalFeedServer.item("London", "http://localhost/london", "Mon, 02 Jan 2023 03:00:00 GMT"),
+            LocalFeedServer.item("Utc", "http://localhost/utc", "2023-01-02T01:30:00Z"),
+            LocalFeedServer.item("Moscow", "http://localhost/moscow", "2023-01-02T06:30:00+03:00"));
+
+        try (LocalFeedServer server = new LocalFeedServer().serve("/zones.xml", 200, xml)) {
+            // When
+            List<RssItem> latest = new Feed4j().getLatestItems(List.of(server.url("/zones.xml")), 10);
+
+            // Then
+            assertEquals(List.of("Moscow", "London", "Paris", "Utc"), latest.stream().map(RssItem::getTitle).toList());
+            RssItem paris = latest.get(2);
+            assertEquals(ZonedDateTime.of(2023, 1, 2, 2, 0, 0, 0, ZoneOffset.UTC).toInstant().toEpochMilli(),
+                paris.getPubDateMillis());
+            assertEquals(LocalDateTime.of(2023, 1, 2, 2, 0), paris.getPubDate());
+            assertEquals(LocalDateTime.of(2023, 1, 2, 1, 30), latest.get(3).getPubDate());
+        }
+    }
+
+    @Test
+    @DisplayName("Should parse podcast fields identically with DOM and streaming")
+    void shouldParsePodcastFieldsWithDomAndStreaming() throws Exception {
+        // Given
+        String xml = "<?xml version=\"1.0\"?>"
+            + "<rss version=\"2.0\" xmlns:media=\"http://search.yahoo.com/mrss/\""
+            + " xmlns:dc=\"http://purl.org/dc/elements/1.1/\"><channel>"
+            + "<title>Podcast</title><link>http://localhost</link><description>Episodes</description>"
+            + "<ttl>60</ttl><lastBuildDate>Tue, 03 Jan 2023 12:00:00 GMT</lastBuildDate>"
+            + "<image><url>http://localhost/logo.png</url><title>Logo</title><link>http://localhost</link>"
+            + "<width>144</width><height>100</height></image>"
+            + "<item><title>Episode 1</title><link>http://localhost/1</link><description>First</description>"
+            + "<pubDate>Mon, 02 Jan 2023 10:00:00 GMT</pubDate><guid isPermaLink=\"false\"> ep-1 </guid>"
+            + "<dc:creator>Jane</dc:creator><category>Tech</category><category>Java</category>"
+            + "<enclosure url=\"http://localhost/1.mp3\" length=\"123456\" type=\"audio/mpeg\"/>"
+            + "<media:group><media:content url=\"http://localhost/1.mp4\" type=\"video/mp4\" medium=\"video\""
+            + " duration=\"1800\" width=\"1280\" height=\"720\"/></media:group>"
+            + "<media:thumbnail url=\"http://localhost/1.jpg\"/><media:title>Not the title</media:title>"
+            + "</item></channel></rss>";
+
+        try (LocalFeedServer server = new LocalFeedServer().serve("/podcast.xml", 200, xml)) {
+            // When
+            RssFeed dom = new Feed4j().ReadFeed(server.url("/podcast.xml"));
+            RssFeed streamed = new Feed4j(new Feed4jConfig().setMaxItems(10)).ReadFeed(server.url("/podcast.xml"));
+
+            // Then
+            for (RssFeed feed : List.of(dom, streamed)) {
+                assertEquals(60, feed.getTtl());
+                assertEquals(LocalDateTime.of(2023, 1, 3, 12, 0), feed.getLastBuildDate());
+                assertEquals("http://localhost/logo.png", feed.getImage().getUrl());
+                assertEquals(144, feed.getImage().getWidth());
+
+                RssItem item = feed.getItems().get(0);
+                assertEquals("Episode 1", item.getTitle());
+                assertEquals("ep-1", item.getGuid());
+                assertEquals("Jane", item.getAuthor());
+                assertEquals(List.of("Tech", "Java"), item.getCategories());
+                assertEquals(new RssEnclosure("http://localhost/1.mp3", 123456, "audio/mpeg"), item.getEnclosures().get(0));
+                MediaContent media = item.getMediaContents().get(0);
+                assertEquals("video", media.getMedium());
+                assertEquals(1800, media.getDuration());
+                assertEquals(720, media.getHeight());
+                assertEquals(-1, media.getFileSize());
+                assertEquals("http://localhost/1.jpg", item.getThumbnailUrl());
+            }
+            assertEquals(dom.getItems(), streamed.getItems());
+        }
+    }
+}
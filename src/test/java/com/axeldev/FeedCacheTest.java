@@ -4,6 +4,9 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.DisplayName;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 /**
@@ -223,4 +226,301 @@ class FeedCacheTest {
         assertEquals("Test Feed", result1.getTitle());
         assertEquals("Test Feed", result2.getTitle());
     }
+
+    @Test
+    @DisplayName("Should cache failures until backoff expires")
+    void shouldCacheFailuresUntilBackoffExpires() {
+        // Given
+        String url = "https://example.com/down.xml";
+        FeedResult failure = FeedResult.failure(FeedFailure.of(FailureReason.TIMEOUT, "timeout"));
+        int[] calls = {0};
+
+        // When - Deux lectures successives d'un flux en échec
+        FeedResult first = cache.getResult(url, () -> {
+            calls[0]++;
+            return failure;
+        });
+        FeedResult second = cache.getResult(url, () -> {
+            calls[0]++;
+            return failure;
+        });
+
+        // Then - Le second appel est servi par le cache négatif
+        assertEquals(1, calls[0]);
+        assertSame(first, second);
+        assertEquals(FailureReason.TIMEOUT, second.getFailure().getReason());
+        assertEquals(0, cache.size());
+        assertEquals(1, cache.failureCount());
+    }
+
+    @Test
+    @DisplayName("Should not cache circuit breaker refusals as failures")
+    void shouldNotCacheCircuitBreakerRefusalsAsFailures() {
+        // Given - Le disjoncteur refuse sans contacter le flux, avec ou sans version périmée
+        String url = "https://example.com/open.xml";
+        FeedFailure open = FeedFailure.of(FailureReason.CIRCUIT_OPEN, "circuit ouvert");
+        int[] calls = {0};
+
+        // When
+        cache.getResult(url, () -> {
+            calls[0]++;
+            return FeedResult.failure(open);
+        });
+        cache.getResult(url, () -> {
+            calls[0]++;
+            return FeedResult.stale(testFeed, open);
+        });
+
+        // Then - Aucun backoff n'est armé ni prolongé
+        assertEquals(2, calls[0]);
+        assertEquals(0, cache.failureCount());
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    @DisplayName("Should double failure backoff up to cache duration")
+    void shouldDoubleFailureBackoffUpToCacheDuration() {
+        // Given
+        FeedCache longCache = new FeedCache(60000);
+
+        // Then
+        assertEquals(5000, longCache.failureBackoffMs(1));
+        assertEquals(10000, longCache.failureBackoffMs(2));
+        assertEquals(20000, longCache.failureBackoffMs(3));
+        assertEquals(60000, longCache.failureBackoffMs(10));
+    }
+
+    @Test
+    @DisplayName("Should forget cached failure on removal")
+    void shouldForgetCachedFailureOnRemoval() {
+        // Given
+        String url = "https://example.com/flaky.xml";
+        cache.getResult(url, () -> FeedResult.failure(FeedFailure.of(FailureReason.NETWORK_ERROR, "down")));
+        cache.remove(url);
+
+        // When
+        FeedResult result = cache.getResult(url, () -> FeedResult.success(testFeed));
+
+        // Then
+        assertTrue(result.isSuccess());
+        assertEquals(1, cache.size());
+        assertEquals(0, cache.failureCount());
+    }
+
+    @Test
+    @DisplayName("Should cap exponential failure backoff at configured maximum")
+    void shouldCapExponentialFailureBackoffAtConfiguredMaximum() {
+        // Given
+        FeedCache configured = new FeedCache(60000, 1000, 8000, 0);
+
+        // Then
+        assertEquals(1000, configured.failureBackoffMs(1));
+        assertEquals(2000, configured.failureBackoffMs(2));
+        assertEquals(4000, configured.failureBackoffMs(3));
+        assertEquals(8000, configured.failureBackoffMs(4));
+        assertEquals(8000, configured.failureBackoffMs(100));
+    }
+
+    @Test
+    @DisplayName("Should not cache failures when failure backoff is disabled")
+    void shouldNotCacheFailuresWhenFailureBackoffIsDisabled() {
+        // Given
+        FeedCache noNegative = new FeedCache(60000, 0, 0, 0);
+        FeedResult failure = FeedResult.failure(FeedFailure.of(FailureReason.TIMEOUT, "timeout"));
+        int[] calls = {0};
+
+        // When
+        for (int i = 0; i < 3; i++) {
+            noNegative.getResult("https://example.com/down.xml", () -> {
+                calls[0]++;
+                return failure;
+            });
+        }
+
+        // Then
+        assertEquals(3, calls[0]);
+        assertEquals(0, noNegative.failureCount());
+    }
+
+    @Test
+    @DisplayName("Should retry failed feed after jittered backoff expires")
+    void shouldRetryFailedFeedAfterJitteredBackoffExpires() throws Exception {
+        // Given - 50 ms +/- 50%
+        FeedCache shortBackoff = new FeedCache(60000, 50, 50, 0.5);
+        String url = "https://example.com/down.xml";
+        shortBackoff.getResult(url, () -> FeedResult.failure(FeedFailure.of(FailureReason.TIMEOUT, "timeout")));
+
+        // When
+        Thread.sleep(100);
+        FeedResult result = shortBackoff.getResult(url, () -> FeedResult.success(testFeed));
+
+        // Then
+        assertTrue(result.isSuccess());
+        assertEquals(0, shortBackoff.failureCount());
+    }
+
+    @Test
+    @DisplayName("Should count hits, misses and load time")
+    void shouldCountHitsMissesAndLoadTime() {
+        // Given
+        String url = "https://example.com/feed.xml";
+
+        // When
+        cache.get(url, () -> {
+            try {
+                Thread.sleep(5);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return testFeed;
+        });
+        cache.get(url, () -> testFeed);
+        cache.get(url, () -> testFeed);
+        CacheStats stats = cache.stats();
+
+        // Then
+        assertEquals(2, stats.getHitCount());
+        assertEquals(1, stats.getMissCount());
+        assertEquals(1, stats.getLoadCount());
+        assertEquals(2.0 / 3, stats.getHitRate(), 1e-9);
+        assertTrue(stats.getAverageLoadTimeMs() >= 4);
+        assertEquals(1, stats.getEntryCount());
+        assertEquals(1, stats.getAgeHistogram()[0]);
+        assertEquals(CacheStats.getAgeBucketBoundsMs().length + 1, stats.getAgeHistogram().length);
+        assertEquals(FeedCache.estimateBytes(testFeed), stats.getEstimatedBytes());
+    }
+
+    @Test
+    @DisplayName("Should notify removals with their cause and track evictions")
+    void shouldNotifyRemovalsWithTheirCauseAndTrackEvictions() throws Exception {
+        // Given
+        FeedCache shortLived = new FeedCache(30);
+        List<String> removals = new ArrayList<>();
+        shortLived.addRemovalListener((url, feed, cause) -> removals.add(url + ":" + cause));
+
+        // When
+        shortLived.get("https://a.com/feed", () -> testFeed);
+        shortLived.get("https://b.com/feed", () -> testFeed);
+        shortLived.get("https://c.com/feed", () -> testFeed);
+        shortLived.remove("https://a.com/feed");
+        Thread.sleep(50);
+        shortLived.get("https://b.com/feed", () -> testFeed);
+        CacheStats beforeCleanUp = shortLived.stats();
+        int cleaned = shortLived.cleanUp();
+
+        // Then
+        assertEquals(List.of("https://a.com/feed:EXPLICIT", "https://b.com/feed:EXPIRED",
+            "https://c.com/feed:EXPIRED"), removals);
+        assertEquals(1, beforeCleanUp.getExpiredEntryCount());
+        assertTrue(beforeCleanUp.getOldestEntryAgeMs() >= 50);
+        assertEquals(1, cleaned);
+        CacheStats stats = shortLived.stats();
+        assertEquals(2, stats.getEvictionCount());
+        assertEquals(1, stats.getRemovalCount());
+        assertEquals(1, stats.getEntryCount());
+        assertEquals(FeedCache.estimateBytes(testFeed), stats.getEstimatedBytes());
+    }
+
+    @Test
+    @DisplayName("Should let removal listeners modify the cache")
+    void shouldLetRemovalListenersModifyTheCache() throws Exception {
+        // Given - Un listener qui retire le flux dès qu'une version expirée est remplacée
+        FeedCache shortLived = new FeedCache(30);
+        List<RemovalCause> causes = new ArrayList<>();
+        shortLived.addRemovalListener((url, feed, cause) -> {
+            causes.add(cause);
+            shortLived.remove(url);
+        });
+        String url = "https://example.com/feed.xml";
+
+        // When
+        shortLived.get(url, () -> testFeed);
+        Thread.sleep(50);
+        RssFeed reloaded = shortLived.get(url, () -> testFeed);
+
+        // Then
+        assertSame(testFeed, reloaded);
+        assertEquals(List.of(RemovalCause.EXPIRED, RemovalCause.EXPLICIT), causes);
+        assertEquals(0, shortLived.size());
+        assertEquals(0, shortLived.stats().getEstimatedBytes());
+    }
+
+    @Test
+    @DisplayName("Should renew an unchanged result without notifying a removal")
+    void shouldRenewAnUnchangedResultWithoutNotifyingARemoval() throws Exception {
+        // Given - Le chargeur rend la même instance, comme le raccourci d'empreinte du contenu
+        FeedCache shortLived = new FeedCache(30);
+        FeedResult unchanged = FeedResult.success(testFeed);
+        List<String> events = new ArrayList<>();
+        shortLived.addRemovalListener((url, feed, cause) -> events.add("removal:" + cause));
+        shortLived.addListener(new FeedCacheListener() {
+            @Override
+            public void onStore(String url, RssFeed feed, RssFeed previous, long version) {
+                events.add("store");
+            }
+
+            @Override
+            public void onRemove(String url, RssFeed feed, long version) {
+                events.add("remove");
+            }
+        });
+        String url = "https://example.com/feed.xml";
+
+        // When
+        shortLived.getResult(url, () -> unchanged);
+        Thread.sleep(50);
+        FeedResult renewed = shortLived.getResult(url, () -> unchanged);
+
+        // Then
+        assertSame(unchanged, renewed);
+        assertEquals(List.of("store"), events);
+        CacheStats stats = shortLived.stats();
+        assertEquals(0, stats.getEvictionCount());
+        assertEquals(0, stats.getExpiredEntryCount());
+        assertEquals(FeedCache.estimateBytes(testFeed), stats.getEstimatedBytes());
+    }
+
+    @Test
+    @DisplayName("Should count negative hits apart from hits")
+    void shouldCountNegativeHitsApartFromHits() {
+        // Given
+        FeedResult failure = FeedResult.failure(FeedFailure.of(FailureReason.TIMEOUT, "timeout"));
+        FeedCache negative = new FeedCache(60000);
+
+        // When
+        negative.getResult("https://down.com/feed", () -> failure);
+        negative.getResult("https://down.com/feed", () -> failure);
+        negative.getIfPresent("https://down.com/feed");
+        negative.get("https://up.com/feed", () -> testFeed);
+        negative.getIfPresent("https://up.com/feed");
+        negative.getIfPresent("https://unknown.com/feed");
+        CacheStats stats = negative.stats();
+
+        // Then
+        assertEquals(1, stats.getHitCount());
+        assertEquals(2, stats.getNegativeHitCount());
+        assertEquals(3, stats.getMissCount());
+        assertEquals(1.0 / 6, stats.getHitRate(), 1e-9);
+    }
+
+    @Test
+    @DisplayName("Should list entries with their metadata")
+    void shouldListEntriesWithTheirMetadata() {
+        // Given
+        testFeed.setItems(List.of(RssItem.builder().title("Item").link("https://example.com/1").build()));
+        cache.get("https://example.com/feed.xml", () -> testFeed);
+
+        // When
+        List<CacheEntry> entries = cache.entries();
+
+        // Then
+        assertEquals(1, entries.size());
+        CacheEntry entry = entries.get(0);
+        assertEquals("https://example.com/feed.xml", entry.getUrl());
+        assertSame(testFeed, entry.getFeed());
+        assertEquals(1, entry.getItemCount());
+        assertEquals(1000, entry.getExpiresAt() - entry.getStoredAt());
+        assertFalse(entry.isExpired());
+        assertTrue(entry.getEstimatedBytes() > 0);
+    }
 }
@@ -0,0 +1,287 @@
+package com.axeldev;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests des publishers Flow de Feed4j
+ */
+@DisplayName("Flow Publisher Tests")
+class FeedPublisherTest {
+
+    private static final String FEED_XML = LocalFeedServer.rss("Local Feed",
+        LocalFeedServer.item("A", "http://localhost/a", "Mon, 02 Jan 2023 10:00:00 GMT"),
+        LocalFeedServer.item("B", "http://localhost/b", "Tue, 03 Jan 2023 10:00:00 GMT"),
+        LocalFeedServer.item("C", "http://localhost/c", "Wed, 04 Jan 2023 10:00:00 GMT"));
+
+    @Test
+    @DisplayName("Should deliver items only on demand")
+    void shouldDeliverItemsOnlyOnDemand() throws Exception {
+        // Given
+        Feed4j instance = new Feed4j();
+
+        try (LocalFeedServer server = new LocalFeedServer().serve("/feed.xml", 200, FEED_XML)) {
+            RecordingSubscriber<RssItem> subscriber = new RecordingSubscriber<>();
+            instance.publishItems(server.url("/feed.xml")).subscribe(subscriber);
+
+            // When
+            subscriber.request(1);
+            Object first = subscriber.next();
+
+            // Then - Aucun item supplémentaire sans nouvelle demande
+            assertEquals("A", ((RssItem) first).getTitle());
+            assertNull(subscriber.signals.poll(200, TimeUnit.MILLISECONDS));
+
+            subscriber.request(10);
+            assertEquals("B", ((RssItem) subscriber.next()).getTitle());
+            assertEquals("C", ((RssItem) subscriber.next()).getTitle());
+            assertEquals(RecordingSubscriber.COMPLETE, subscriber.next());
+            // Lecture en flux: rien n'est mis en cache
+            assertEquals(0, instance.getCacheSize());
+        }
+    }
+
+    @Test
+    @DisplayName("Should publish cached items without network access")
+    void shouldPublishCachedItemsWithoutNetworkAccess() throws Exception {
+        // Given
+        Feed4j instance = new Feed4j();
+        String url;
+        try (LocalFeedServer server = new LocalFeedServer().serve("/feed.xml", 200, FEED_XML)) {
+            url = server.url("/feed.xml");
+            instance.ReadFeed(url);
+        }
+
+        // When - Serveur arrêté
+        RecordingSubscriber<RssItem> subscriber = new RecordingSubscriber<>();
+        instance.publishItems(url).subscribe(subscriber);
+        subscriber.request(Long.MAX_VALUE);
+
+        // Then
+        List<String> titles = new ArrayList<>();
+        Object signal;
+        while ((signal = subscriber.next()) instanceof RssItem) {
+            titles.add(((RssItem) signal).getTitle());
+        }
+        assertEquals(List.of("A", "B", "C"), titles);
+        assertEquals(RecordingSubscriber.COMPLETE, signal);
+    }
+
+    @Test
+    @DisplayName("Should signal typed failures through onError")
+    void shouldSignalTypedFailuresThroughOnError() throws Exception {
+        // Given
+        Feed4j instance = new Feed4j();
+
+        try (LocalFeedServer server = new LocalFeedServer().serve("/missing.xml", 404, "Not Found")) {
+            RecordingSubscriber<RssItem> subscriber = new RecordingSubscriber<>();
+            instance.publishItems(server.url("/missing.xml")).subscribe(subscriber);
+
+            // When
+            subscriber.request(1);
+
+            // Then
+            FeedException error = assertInstanceOf(FeedException.class, subscriber.next());
+            assertEquals(FailureReason.HTTP_ERROR, error.getReason());
+            assertEquals(404, error.getFailure().getHttpStatus());
+        }
+    }
+
+    @Test
+    @DisplayName("Should reject non-positive demand")
+    void shouldRejectNonPositiveDemand() throws Exception {
+        // Given
+        RecordingSubscriber<RssItem> subscriber = new RecordingSubscriber<>();
+        new Feed4j().publishItems("http://127.0.0.1:1/feed.xml").subscribe(subscriber);
+
+        // When
+        subscriber.request(0);
+
+        // Then
+        assertInstanceOf(IllegalArgumentException.class, subscriber.next());
+    }
+
+    @Test
+    @DisplayName("Should signal executor rejection through onError")
+    void shouldSignalExecutorRejectionThroughOnError() throws Exception {
+        // Given - Executor saturé
+        AtomicBoolean opened = new AtomicBoolean();
+        ItemPublisher publisher = new ItemPublisher(() -> {
+            opened.set(true);
+            return ItemPublisher.of(List.of());
+        }, task -> {
+            throw new RejectedExecutionException("saturé");
+        });
+        RecordingSubscriber<RssItem> subscriber = new RecordingSubscriber<>();
+        publisher.subscribe(subscriber);
+
+        // When
+        subscriber.request(1);
+        subscriber.request(1);
+
+        // Then - Une seule erreur, la source n'est jamais ouverte
+        assertInstanceOf(RejectedExecutionException.class, subscriber.next());
+        assertNull(subscriber.signals.poll(100, TimeUnit.MILLISECONDS));
+        assertFalse(opened.get());
+    }
+
+    @Test
+    @DisplayName("Should deliver terminal poll signals once")
+    void shouldDeliverTerminalPollSignalsOnce() throws Exception {
+        // Given
+        RecordingSubscriber<FeedUpdate> empty = new RecordingSubscriber<>();
+        RecordingSubscriber<FeedUpdate> invalid = new RecordingSubscriber<>();
+        FeedPollPublisher watched = new FeedPollPublisher(
+            url -> FeedResult.failure(FeedFailure.from(new IOException("hors ligne"))), List.of("http://localhost/a"), 10,
+            Runnable::run);
+
+        // When
+        new FeedPollPublisher(url -> fail("Aucun flux à lire"), List.of(), 10, Runnable::run).subscribe(empty);
+        watched.subscribe(invalid);
+        invalid.request(-1);
+        invalid.request(5);
+
+        // Then
+        assertEquals(RecordingSubscriber.COMPLETE, empty.next());
+        assertInstanceOf(IllegalArgumentException.class, invalid.next());
+        assertNull(invalid.signals.poll(100, TimeUnit.MILLISECONDS));
+        assertNull(empty.signals.poll(10, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    @DisplayName("Should keep polling other feeds while one host blocks")
+    void shouldKeepPollingOtherFeedsWhileOneHostBlocks() throws Exception {
+        // Given - La lecture du flux lent ne rend la main qu'à la fin du test
+        CountDownLatch release = new CountDownLatch(1);
+        Function<String, FeedResult> reader = url -> {
+            if (url.contains("slow")) {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return FeedResult.failure(FeedFailure.of(FailureReason.NETWORK_ERROR, url));
+        };
+        ExecutorService io = Executors.newCachedThreadPool();
+        RecordingSubscriber<FeedUpdate> slow = new RecordingSubscriber<>();
+        RecordingSubscriber<FeedUpdate> fast = new RecordingSubscriber<>();
+        try {
+            new FeedPollPublisher(reader, List.of("http://slow/feed"), 1000, io).subscribe(slow);
+            new FeedPollPublisher(reader, List.of("http://fast/feed"), 1000, io).subscribe(fast);
+
+            // When
+            slow.request(1);
+            Thread.sleep(100);
+            fast.request(1);
+
+            // Then
+            assertEquals("http://fast/feed", ((FeedUpdate) fast.next()).getUrl());
+            release.countDown();
+            assertEquals("http://slow/feed", ((FeedUpdate) slow.next()).getUrl());
+        } finally {
+            release.countDown();
+            slow.cancel();
+            fast.cancel();
+            io.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("Should reject non-positive poll intervals")
+    void shouldRejectNonPositivePollIntervals() {
+        Feed4j feed4j = new Feed4j();
+        assertThrows(IllegalArgumentException.class, () -> feed4j.pollFeeds(List.of("http://localhost/feed"), 0));
+        assertThrows(IllegalArgumentException.class, () -> feed4j.pollFeeds(List.of("http://localhost/feed"), -5));
+    }
+
+    @Test
+    @DisplayName("Should publish feed updates with new items")
+    void shouldPublishFeedUpdatesWithNewItems() throws Exception {
+        // Given - Cache expirant immédiatement pour que chaque lecture atteigne le serveur
+        Feed4j instance = new Feed4j(new Feed4jConfig().setCacheDurationMs(0));
+        String first = LocalFeedServer.item("A", "http://localhost/a", "Mon, 02 Jan 2023 10:00:00 GMT");
+
+        try (LocalFeedServer server = new LocalFeedServer().serve("/feed.xml", 200,
+                LocalFeedServer.rss("Polled", first))) {
+            RecordingSubscriber<FeedUpdate> subscriber = new RecordingSubscriber<>();
+            instance.pollFeeds(List.of(server.url("/feed.xml")), 20).subscribe(subscriber);
+
+            // When
+            subscriber.request(1);
+            FeedUpdate initial = (FeedUpdate) subscriber.next();
+            server.replace("/feed.xml", 200, LocalFeedServer.rss("Polled", first,
+                LocalFeedServer.item("B", "http://localhost/b", "Tue, 03 Jan 2023 10:00:00 GMT")));
+            subscriber.request(1);
+            FeedUpdate changed = (FeedUpdate) subscriber.next();
+            subscriber.cancel();
+
+            // Then
+            assertEquals(server.url("/feed.xml"), initial.getUrl());
+            assertEquals(1, initial.getNewItems().size());
+            assertEquals(2, changed.getFeed().getItems().size());
+            assertEquals(1, changed.getNewItems().size());
+            assertEquals("B", changed.getNewItems().get(0).getTitle());
+        }
+    }
+
+    /**
+     * Abonné enregistrant les signaux reçus dans une file
+     */
+    private static class RecordingSubscriber<T> implements Flow.Subscriber<T> {
+        static final Object COMPLETE = "complete";
+
+        final BlockingQueue<Object> signals = new LinkedBlockingQueue<>();
+        private volatile Flow.Subscription subscription;
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+        }
+
+        @Override
+        public void onNext(T item) {
+            signals.add(item);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            signals.add(throwable);
+        }
+
+        @Override
+        public void onComplete() {
+            signals.add(COMPLETE);
+        }
+
+        void request(long n) {
+            subscription.request(n);
+        }
+
+        void cancel() {
+            subscription.cancel();
+        }
+
+        Object next() throws InterruptedException {
+            Object signal = signals.poll(5, TimeUnit.SECONDS);
+            assertNotNull(signal, "Aucun signal reçu");
+            return signal;
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package com.axeldev;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitaires pour la classe FeedTimeline
+ */
+@DisplayName("FeedTimeline Tests")
+class FeedTimelineTest {
+
+    @Test
+    @DisplayName("Should match full stable sort of all items")
+    void shouldMatchFullStableSortOfAllItems() {
+        // Given - Flux aléatoires avec des dates en double et des items sans date
+        Random random = new Random(42);
+        List<RssFeed> feeds = new ArrayList<>();
+        List<RssItem> all = new ArrayList<>();
+        for (int f = 0; f < 20; f++) {
+            List<RssItem> items = new ArrayList<>();
+            int count = random.nextInt(30);
+            for (int i = 0; i < count; i++) {
+                long date = random.nextInt(10) == 0 ? RssItem.NO_DATE : random.nextInt(50) * 1000L;
+                items.add(RssItem.builder().title("f" + f + "-" + i).pubDateMillis(date).build());
+            }
+            feeds.add(feed(items));
+            List<RssItem> sorted = new ArrayList<>(items);
+            sorted.sort(FeedTimeline.NEWEST_FIRST);
+            all.addAll(sorted);
+        }
+        all.sort(FeedTimeline.NEWEST_FIRST);
+
+        // When
+        List<RssItem> merged = FeedTimeline.merge(feeds).collect(Collectors.toList());
+
+        // Then
+        assertEquals(all.size(), merged.size());
+        for (int i = 0; i < all.size(); i++) {
+            assertSame(all.get(i), merged.get(i), "Position " + i);
+        }
+    }
+
+    @Test
+    @DisplayName("Should return latest N items across feeds")
+    void shouldReturnLatestNItemsAcrossFeeds() {
+        // Given
+        RssFeed a = feed(List.of(item("a1", 1000), item("a3", 3000), item("a5", 5000)));
+        RssFeed b = feed(List.of(item("b4", 4000), item("b2", 2000)));
+
+        // When
+        List<RssItem> latest = FeedTimeline.latest(List.of(a, b), 3);
+
+        // Then
+        assertEquals(List.of("a5", "b4", "a3"),
+            latest.stream().map(RssItem::getTitle).collect(Collectors.toList()));
+    }
+
+    @Test
+    @DisplayName("Should page through merged timeline lazily")
+    void shouldPageThroughMergedTimelineLazily() {
+        // Given
+        RssFeed a = feed(List.of(item("a1", 1000), item("a3", 3000)));
+        RssFeed b = feed(List.of(item("b2", 2000), item("b4", 4000)));
+
+        // When
+        List<String> page = FeedTimeline.merge(List.of(a, b)).skip(1).limit(2)
+            .map(RssItem::getTitle).collect(Collectors.toList());
+
+        // Then
+        assertEquals(List.of("a3", "b2"), page);
+        assertTrue(FeedTimeline.latest(List.of(), 10).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should cache sorted items per feed version")
+    void shouldCacheSortedItemsPerFeedVersion() {
+        // Given
+        RssFeed feed = feed(List.of(item("old", 1000), item("new", 2000)));
+
+        // When
+        List<RssItem> first = feed.getItemsByDate();
+        List<RssItem> second = feed.getItemsByDate();
+        feed.setItems(List.of(item("only", 500)));
+
+        // Then
+        assertSame(first, second);
+        assertEquals("new", first.get(0).getTitle());
+        assertEquals("only", feed.getItemsByDate().get(0).getTitle());
+    }
+
+    @Test
+    @DisplayName("Should merge feeds read through Feed4j")
+    void shouldMergeFeedsReadThroughFeed4j() throws Exception {
+        // Given
+        Feed4j feed4j = new Feed4j();
+        try (LocalFeedServer server = new LocalFeedServer()
+                .serve("/a.xml", 200, LocalFeedServer.rss("A",
+                    LocalFeedServer.item("a-old", "http://localhost/a1", "Mon, 02 Jan 2023 10:00:00 GMT"),
+                    LocalFeedServer.item("a-new", "http://localhost/a2", "Thu, 05 Jan 2023 10:00:00 GMT")))
+                .serve("/b.xml", 200, LocalFeedServer.rss("B",
+                    LocalFeedServer.item("b-mid", "http://localhost/b1", "Wed, 04 Jan 2023 10:00:00 GMT")))) {
+
+            // When
+            List<RssItem> latest = feed4j.getLatestItems(
+                List.of(server.url("/a.xml"), server.url("/b.xml"), server.url("/missing.xml")), 2);
+
+            // Then
+            assertEquals(List.of("a-new", "b-mid"),
+                latest.stream().map(RssItem::getTitle).collect(Collectors.toList()));
+            assertEquals(3, feed4j.getTimeline(List.of(server.url("/a.xml"), server.url("/b.xml"))).count());
+        }
+    }
+
+    @Test
+    @DisplayName("Should download missing feeds in parallel before merging")
+    void shouldDownloadMissingFeedsInParallelBeforeMerging() throws Exception {
+        // Given - 8 flux servis chacun en 200 ms: 1,6 s s'ils étaient lus l'un après l'autre
+        Feed4j feed4j = new Feed4j(new Feed4jConfig().setMaxThreads(8));
+        try (StubFeedServer server = new StubFeedServer(8).size(5, 100).latency(200, 200)) {
+            List<String> urls = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                urls.add(server.url(i));
+            }
+
+            // When
+            long start = System.nanoTime();
+            List<RssItem> latest = feed4j.getLatestItems(urls, 10);
+            long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+
+            // Then
+            assertEquals(10, latest.size());
+            assertEquals(8, server.requests());
+            assertTrue(elapsedMs < 1000, "elapsedMs=" + elapsedMs);
+        }
+    }
+
+    private static RssItem item(String title, long date) {
+        return RssItem.builder().title(title).pubDateMillis(date).build();
+    }
+
+    private static RssFeed feed(List<RssItem> items) {
+        RssFeed feed = new RssFeed();
+        feed.setItems(items);
+        return feed;
+    }
+}
@@ -0,0 +1,107 @@
+package com.axeldev;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitaires pour HtmlFilter (texte brut et assainissement des descriptions)
+ */
+@DisplayName("HtmlFilter Tests")
+class HtmlFilterTest {
+
+    @Test
+    @DisplayName("Should extract visible text with decoded entities")
+    void shouldExtractVisibleTextWithDecodedEntities() {
+        // Given
+        String html = "<p>Caf&eacute; &amp; cr&#232;me</p><!-- note --><p>Deuxi&#xE8;me   paragraphe<br/>ligne</p>"
+            + "<script>alert('<p>x</p>')</script><style>p { color: red }</style> 3 &lt; 4 &unknown;";
+
+        // When
+        String text = HtmlFilter.toText(html, 0);
+
+        // Then
+        assertEquals("Café & crème\nDeuxième paragraphe\nligne\n3 < 4 &unknown;", text);
+    }
+
+    @Test
+    @DisplayName("Should skip raw text elements whatever the case of their tags")
+    void shouldSkipRawTextElementsWhateverTheCaseOfTheirTags() {
+        assertEquals("Hello world\ntail", HtmlFilter.toText("<p>Hello <SCRIPT>x</SCRIPT> world</p><p>tail</p>", 0));
+        assertEquals("a b", HtmlFilter.toText("a <Style>p {}</sTyLe > b", 0));
+        assertEquals("<p>Hello  world</p>", HtmlFilter.sanitize("<p>Hello <SCRIPT>x</script> world</p>", 0));
+        assertEquals("", HtmlFilter.toText("<script>x</scripts>y", 0));
+    }
+
+    @Test
+    @DisplayName("Should tolerate malformed markup")
+    void shouldTolerateMalformedMarkup() {
+        assertEquals("a < b et c", HtmlFilter.toText("a < b <b>et</i> c", 0));
+        assertEquals("ouvert", HtmlFilter.toText("ouvert<a href=\"x", 0));
+        assertEquals("texte brut", HtmlFilter.toText("<![CDATA[texte brut]]>", 0));
+        assertEquals("", HtmlFilter.toText("<p> </p>", 0));
+    }
+
+    @Test
+    @DisplayName("Should truncate text with an ellipsis")
+    void shouldTruncateTextWithAnEllipsis() {
+        assertEquals("Un texte…", HtmlFilter.toText("<p>Un texte assez long</p>", 10));
+        assertEquals("Exactement", HtmlFilter.toText("<b>Exactement</b>", 10));
+        assertEquals("Un…", HtmlFilter.toText("Un  <i>deux</i>", 4));
+    }
+
+    @Test
+    @DisplayName("Should keep formatting and drop dangerous markup")
+    void shouldKeepFormattingAndDropDangerousMarkup() {
+        // Given
+        String html = "<p class=\"x\" onclick=\"steal()\">Voir <a href=\"https://example.com/?a=1&amp;b=2\" target=_blank>"
+            + "le lien</a> <a href=\" JaVa&#x09;Script:alert(1)\">piège</a></p>"
+            + "<img src=\"javascript:alert(1)\"><img src=\"/logo.png\" alt='Logo \"x\"' onerror=\"x()\">"
+            + "<iframe src=\"https://evil\">fallback</iframe><div><b>gras<i>ouvert</div>";
+
+        // When
+        String sanitized = HtmlFilter.sanitize(html, 0);
+
+        // Then
+        assertEquals("<p>Voir <a href=\"https://example.com/?a=1&amp;b=2\">le lien</a> <a>piège</a></p>"
+            + "<img src=\"/logo.png\" alt=\"Logo &quot;x&quot;\"><b>gras<i>ouvert</i></b>", sanitized);
+    }
+
+    @Test
+    @DisplayName("Should close open tags when truncating sanitized HTML")
+    void shouldCloseOpenTagsWhenTruncatingSanitizedHtml() {
+        assertEquals("<p><b>Début d…</b></p>", HtmlFilter.sanitize("<p><b>Début de texte</b> suite</p>", 8));
+    }
+
+    @Test
+    @DisplayName("Should convert descriptions once during parse")
+    void shouldConvertDescriptionsOnceDuringParse() throws Exception {
+        // Given
+        String xml = LocalFeedServer.rss("Html", "<item><title>T</title><link>http://localhost/1</link>"
+            + "<description><![CDATA[<p>Bonjour <b>le</b> monde</p><script>x()</script>]]></description>"
+            + "<pubDate>Mon, 02 Jan 2023 10:00:00 GMT</pubDate></item>");
+
+        try (LocalFeedServer server = new LocalFeedServer().serve("/html.xml", 200, xml)) {
+            // When
+            RssItem raw = new Feed4j().ReadFeed(server.url("/html.xml")).getItems().get(0);
+            RssItem text = new Feed4j(new Feed4jConfig().setDescriptionMode(DescriptionMode.TEXT)
+                .setDescriptionMaxLength(10)).ReadFeed(server.url("/html.xml")).getItems().get(0);
+            RssItem sanitized = new Feed4j(new Feed4jConfig().setDescriptionMode(DescriptionMode.SANITIZED))
+                .ReadFeed(server.url("/html.xml")).getItems().get(0);
+
+            // Then - Forme brute: formes dérivées calculées à la demande puis conservées
+            assertEquals("<p>Bonjour <b>le</b> monde</p><script>x()</script>", raw.getDescription());
+            assertEquals("Bonjour le monde", raw.getDescriptionText());
+            assertSame(raw.getDescriptionText(), raw.getDescriptionText());
+            assertEquals("<p>Bonjour <b>le</b> monde</p>", raw.getSanitizedDescription());
+
+            assertEquals("Bonjour l…", text.getDescription());
+            assertSame(text.getDescription(), text.getDescriptionText());
+
+            assertEquals("<p>Bonjour <b>le</b> monde</p>", sanitized.getDescription());
+            assertSame(sanitized.getDescription(), sanitized.getSanitizedDescription());
+            assertEquals("Bonjour le monde", sanitized.getDescriptionText());
+        }
+    }
+}
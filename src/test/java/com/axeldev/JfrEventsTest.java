@@ -0,0 +1,131 @@
+package com.axeldev;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests des événements JFR émis par Feed4j
+ */
+@DisplayName("JFR Events Tests")
+class JfrEventsTest {
+
+    private static final String FEED_XML = LocalFeedServer.rss("Local Feed",
+        LocalFeedServer.item("A", "http://localhost/a", "Mon, 02 Jan 2023 10:00:00 GMT"),
+        LocalFeedServer.item("B", "http://localhost/b", "Tue, 03 Jan 2023 10:00:00 GMT"));
+
+    @Test
+    @DisplayName("Should record cache hit and miss events")
+    void shouldRecordCacheHitAndMissEvents() throws Exception {
+        // Given
+        FeedCache cache = new FeedCache(60000);
+        RssFeed feed = new RssFeed();
+
+        // When
+        List<RecordedEvent> events = record(() -> {
+            cache.get("https://example.com/feed.xml", () -> feed);
+            cache.get("https://example.com/feed.xml", () -> feed);
+        }, "com.axeldev.CacheLookup");
+
+        // Then
+        assertEquals(2, events.size());
+        assertFalse(events.get(0).getBoolean("hit"));
+        assertTrue(events.get(1).getBoolean("hit"));
+        assertEquals("https://example.com/feed.xml", events.get(0).getString("url"));
+    }
+
+    @Test
+    @DisplayName("Should record fetch, parse and items events")
+    void shouldRecordFetchParseAndItemsEvents() throws Exception {
+        // Given - Serveur HTTP local servant un flux minimal
+        byte[] body = FEED_XML.getBytes(StandardCharsets.UTF_8);
+        Feed4j feed4j = new Feed4j(new Feed4jConfig().setMaxThreads(1));
+
+        try (LocalFeedServer server = new LocalFeedServer().serve("/feed.xml", 200, FEED_XML)) {
+            String url = server.url("/feed.xml");
+
+            // When
+            List<RecordedEvent> events = record(() -> feed4j.ReadFeed(url),
+                "com.axeldev.Fetch", "com.axeldev.Parse", "com.axeldev.ItemsParse");
+
+            // Then
+            RecordedEvent fetch = find(events, "com.axeldev.Fetch");
+            assertEquals(url, fetch.getString("url"));
+            assertEquals(body.length, fetch.getLong("bytes"));
+            assertEquals(200, fetch.getInt("status"));
+
+            RecordedEvent parse = find(events, "com.axeldev.Parse");
+            assertTrue(parse.getBoolean("success"));
+            assertEquals(2, parse.getInt("itemCount"));
+
+            RecordedEvent items = find(events, "com.axeldev.ItemsParse");
+            assertEquals(2, items.getInt("itemCount"));
+            assertEquals(0, items.getInt("failedCount"));
+            assertFalse(items.getBoolean("parallel"));
+        }
+    }
+
+    @Test
+    @DisplayName("Should record fetch and items events on the streaming path")
+    void shouldRecordFetchAndItemsEventsOnTheStreamingPath() throws Exception {
+        // Given - maxItems impose la lecture en flux
+        byte[] body = FEED_XML.getBytes(StandardCharsets.UTF_8);
+        Feed4j feed4j = new Feed4j(new Feed4jConfig().setMaxItems(1));
+
+        try (LocalFeedServer server = new LocalFeedServer().serve("/feed.xml", 200, FEED_XML)) {
+            String url = server.url("/feed.xml");
+
+            // When
+            List<RecordedEvent> events = record(() -> feed4j.ReadFeed(url), "com.axeldev.Fetch", "com.axeldev.ItemsParse");
+
+            // Then
+            RecordedEvent fetch = find(events, "com.axeldev.Fetch");
+            assertEquals(url, fetch.getString("url"));
+            assertTrue(fetch.getLong("bytes") > 0 && fetch.getLong("bytes") <= body.length);
+            assertEquals(200, fetch.getInt("status"));
+
+            RecordedEvent items = find(events, "com.axeldev.ItemsParse");
+            assertEquals(1, items.getInt("itemCount"));
+            assertFalse(items.getBoolean("parallel"));
+        }
+    }
+
+    private interface Action {
+        void run() throws Exception;
+    }
+
+    private static List<RecordedEvent> record(Action action, String... eventNames) throws Exception {
+        Path file = Files.createTempFile("feed4j", ".jfr");
+        try (Recording recording = new Recording()) {
+            for (String name : eventNames) {
+                recording.enable(name).withoutThreshold();
+            }
+            recording.start();
+            action.run();
+            recording.stop();
+            recording.dump(file);
+            return RecordingFile.readAllEvents(file).stream()
+                .sorted((a, b) -> a.getStartTime().compareTo(b.getStartTime()))
+                .collect(Collectors.toList());
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    private static RecordedEvent find(List<RecordedEvent> events, String name) {
+        return events.stream()
+            .filter(e -> e.getEventType().getName().equals(name))
+            .findFirst()
+            .orElseThrow(() -> new AssertionError("Événement absent: " + name));
+    }
+}
@@ -0,0 +1,184 @@
+package com.axeldev;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Pilote de charge: exécute une opération depuis plusieurs threads et mesure débit,
+ * percentiles de latence, octets alloués et nombre de threads de la JVM.
+ * Les allocations sont mesurées sur tous les threads vivants (pools internes compris),
+ * sauf ceux qui se terminent pendant la mesure.
+ */
+class LoadDriver {
+
+    /**
+     * Opération mesurée: retourne false (ou lève une exception) en cas d'échec
+     */
+    @FunctionalInterface
+    interface Operation {
+        boolean run(int index) throws Exception;
+    }
+
+    private final int threads;
+    private final int warmUpOperations;
+
+    /**
+     * @param threads Nombre de threads appelants
+     * @param warmUpOperations Opérations exécutées avant la mesure (chauffe du JIT)
+     */
+    LoadDriver(int threads, int warmUpOperations) {
+        this.threads = Math.max(1, threads);
+        this.warmUpOperations = Math.max(0, warmUpOperations);
+    }
+
+    /**
+     * Exécute l'opération le nombre de fois demandé, réparti entre les threads
+     */
+    Report run(String name, int operations, Operation operation) throws Exception {
+        for (int i = 0; i < warmUpOperations; i++) {
+            try {
+                operation.run(i);
+            } catch (Exception e) {
+                // La chauffe ne compte pas
+            }
+        }
+
+        ThreadMXBean mx = ManagementFactory.getThreadMXBean();
+        mx.resetPeakThreadCount();
+        long allocatedBefore = allocatedBytes(mx);
+        long[] latencies = new long[operations];
+        AtomicInteger next = new AtomicInteger();
+        LongAdder failures = new LongAdder();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "load-driver");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        List<Future<?>> workers = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            workers.add(executor.submit(() -> {
+                start.await();
+                for (int i = next.getAndIncrement(); i < operations; i = next.getAndIncrement()) {
+                    long begin = System.nanoTime();
+                    boolean ok;
+                    try {
+                        ok = operation.run(i);
+                    } catch (Exception e) {
+                        ok = false;
+                    }
+                    latencies[i] = System.nanoTime() - begin;
+                    if (!ok) {
+                        failures.increment();
+                    }
+                }
+                return null;
+            }));
+        }
+        long begin = System.nanoTime();
+        start.countDown();
+        for (Future<?> worker : workers) {
+            worker.get();
+        }
+        long elapsed = System.nanoTime() - begin;
+        int peakThreads = mx.getPeakThreadCount();
+        long allocated = allocatedBytes(mx) - allocatedBefore;
+        executor.shutdown();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+
+        Arrays.sort(latencies);
+        return new Report(name, operations, failures.sum(), elapsed, latencies, allocated, peakThreads, mx.getThreadCount());
+    }
+
+    /**
+     * Somme des octets alloués par les threads vivants, -1 si la JVM ne le mesure pas
+     */
+    private static long allocatedBytes(ThreadMXBean mx) {
+        if (!(mx instanceof com.sun.management.ThreadMXBean)) {
+            return -1;
+        }
+        com.sun.management.ThreadMXBean sun = (com.sun.management.ThreadMXBean) mx;
+        if (!sun.isThreadAllocatedMemorySupported() || !sun.isThreadAllocatedMemoryEnabled()) {
+            return -1;
+        }
+        long total = 0;
+        for (long allocated : sun.getThreadAllocatedBytes(mx.getAllThreadIds())) {
+            if (allocated > 0) {
+                total += allocated;
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Résultat d'une mesure
+     */
+    static final class Report {
+        final String name;
+        final int operations;
+        final long failures;
+        final long elapsedNanos;
+        final long[] sortedLatencies;
+        final long allocatedBytes;
+        final int peakThreads;
+        final int liveThreads;
+
+        Report(String name, int operations, long failures, long elapsedNanos, long[] sortedLatencies,
+               long allocatedBytes, int peakThreads, int liveThreads) {
+            this.name = name;
+            this.operations = operations;
+            this.failures = failures;
+            this.elapsedNanos = elapsedNanos;
+            this.sortedLatencies = sortedLatencies;
+            this.allocatedBytes = allocatedBytes;
+            this.peakThreads = peakThreads;
+            this.liveThreads = liveThreads;
+        }
+
+        /**
+         * Opérations par seconde
+         */
+        double throughput() {
+            return elapsedNanos > 0 ? operations * 1e9 / elapsedNanos : 0;
+        }
+
+        /**
+         * Latence au percentile donné (0 à 100), en microsecondes
+         */
+        long percentileMicros(double percentile) {
+            if (sortedLatencies.length == 0) {
+                return 0;
+            }
+            int index = (int) Math.ceil(percentile / 100 * sortedLatencies.length) - 1;
+            return sortedLatencies[Math.min(sortedLatencies.length - 1, Math.max(0, index))] / 1000;
+        }
+
+        /**
+         * Octets alloués par opération, -1 si non mesuré
+         */
+        long allocatedBytesPerOperation() {
+            return allocatedBytes < 0 || operations == 0 ? -1 : allocatedBytes / operations;
+        }
+
+        @Override
+        public String toString() {
+            return String.format(Locale.ROOT,
+                "%-28s ops=%d failures=%d throughput=%.1f/s p50=%dus p90=%dus p99=%dus max=%dus"
+                    + " alloc/op=%dB peakThreads=%d liveThreads=%d",
+                name, operations, failures, throughput(), percentileMicros(50), percentileMicros(90),
+                percentileMicros(99), percentileMicros(100), allocatedBytesPerOperation(), peakThreads, liveThreads);
+        }
+    }
+}
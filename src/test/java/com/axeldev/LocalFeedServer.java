@@ -0,0 +1,78 @@
+package com.axeldev;
+
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Petit serveur HTTP local pour servir des flux de test sans accès réseau
+ */
+class LocalFeedServer implements AutoCloseable {
+
+    private final HttpServer server;
+
+    LocalFeedServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.start();
+    }
+
+    /**
+     * Sert un contenu fixe sur le chemin donné
+     */
+    LocalFeedServer serve(String path, int status, String body) {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        server.createContext(path, exchange -> {
+            exchange.getResponseHeaders().set("Content-Type", "application/rss+xml");
+            exchange.sendResponseHeaders(status, bytes.length == 0 ? -1 : bytes.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(bytes);
+            }
+        });
+        return this;
+    }
+
+    /**
+     * Remplace le contenu servi sur un chemin déjà déclaré
+     */
+    LocalFeedServer replace(String path, int status, String body) {
+        server.removeContext(path);
+        return serve(path, status, body);
+    }
+
+    /**
+     * Retourne l'URL absolue d'un chemin servi
+     */
+    String url(String path) {
+        return "http://127.0.0.1:" + server.getAddress().getPort() + path;
+    }
+
+    /**
+     * Construit un flux RSS 2.0 minimal contenant les items donnés
+     */
+    static String rss(String title, String... items) {
+        StringBuilder sb = new StringBuilder("<?xml version=\"1.0\"?><rss version=\"2.0\"><channel>")
+            .append("<title>").append(title).append("</title>")
+            .append("<link>http://localhost/</link><description>Desc</description>");
+        for (String item : items) {
+            sb.append(item);
+        }
+        return sb.append("</channel></rss>").toString();
+    }
+
+    /**
+     * Construit un élément item complet
+     */
+    static String item(String title, String link, String pubDate) {
+        return "<item><title>" + title + "</title><link>" + link + "</link>"
+            + "<description>" + title + " description</description>"
+            + "<pubDate>" + pubDate + "</pubDate></item>";
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+}
@@ -0,0 +1,80 @@
+package com.axeldev;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitaires pour la classe OpmlReader
+ */
+@DisplayName("OpmlReader Tests")
+class OpmlReaderTest {
+
+    @Test
+    @DisplayName("Should read subscriptions with their folder path")
+    void shouldReadSubscriptionsWithTheirFolderPath() throws Exception {
+        // Given
+        String opml = "<?xml version=\"1.0\"?><opml version=\"2.0\"><head><title>Subs</title></head><body>"
+            + "<outline text=\"Root feed\" type=\"rss\" xmlUrl=\"https://example.com/root.xml\"/>"
+            + "<outline text=\"Tech\">"
+            + "  <outline text=\"Java\">"
+            + "    <outline text=\"Inside Java\" title=\"Inside\" xmlUrl=\" https://inside.java/feed.xml \""
+            + "             htmlUrl=\"https://inside.java\"/>"
+            + "  </outline>"
+            + "  <outline text=\"Go\" xmlUrl=\"https://go.dev/blog/feed.atom\"/>"
+            + "</outline>"
+            + "<outline text=\"Empty folder\"/>"
+            + "</body></opml>";
+
+        // When
+        List<OpmlOutline> outlines = readAll(opml);
+
+        // Then
+        assertEquals(3, outlines.size());
+        assertNull(outlines.get(0).getCategory());
+        assertEquals("Inside", outlines.get(1).getTitle());
+        assertEquals("https://inside.java/feed.xml", outlines.get(1).getXmlUrl());
+        assertEquals("https://inside.java", outlines.get(1).getHtmlUrl());
+        assertEquals("Tech/Java", outlines.get(1).getCategory());
+        assertEquals("Tech", outlines.get(2).getCategory());
+    }
+
+    @Test
+    @DisplayName("Should reject malformed OPML")
+    void shouldRejectMalformedOpml() {
+        // Given
+        String opml = "<opml><body><outline xmlUrl=\"https://example.com/a.xml\"></body>";
+
+        // When / Then
+        FeedException e = assertThrows(FeedException.class, () -> readAll(opml));
+        assertEquals(FailureReason.MALFORMED_XML, e.getReason());
+    }
+
+    @Test
+    @DisplayName("Should not resolve external entities")
+    void shouldNotResolveExternalEntities() {
+        // Given
+        String opml = "<?xml version=\"1.0\"?><!DOCTYPE opml [<!ENTITY xxe SYSTEM \"file:///etc/passwd\">]>"
+            + "<opml><body><outline text=\"&xxe;\" xmlUrl=\"https://example.com/a.xml\"/></body></opml>";
+
+        // When / Then
+        assertThrows(FeedException.class, () -> readAll(opml));
+    }
+
+    private static List<OpmlOutline> readAll(String opml) throws Exception {
+        List<OpmlOutline> outlines = new ArrayList<>();
+        try (OpmlReader reader = new OpmlReader(new ByteArrayInputStream(opml.getBytes(StandardCharsets.UTF_8)))) {
+            OpmlOutline outline;
+            while ((outline = reader.next()) != null) {
+                outlines.add(outline);
+            }
+        }
+        return outlines;
+    }
+}
@@ -0,0 +1,101 @@
+package com.axeldev;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitaires pour les classes RssItem et RssFeed
+ */
+@DisplayName("RssItem Tests")
+class RssItemTest {
+
+    @Test
+    @DisplayName("Should build immutable item with all fields")
+    void shouldBuildImmutableItemWithAllFields() {
+        // Given
+        LocalDateTime date = LocalDateTime.of(2023, 1, 2, 10, 30, 15, 250_000_000);
+
+        // When
+        RssItem item = RssItem.builder()
+            .title("Title")
+            .link("https://example.com/1")
+            .description("Description")
+            .pubDate(date)
+            .build();
+
+        // Then
+        assertEquals("Title", item.getTitle());
+        assertEquals("https://example.com/1", item.getLink());
+        assertEquals("Description", item.getDescription());
+        assertEquals(date, item.getPubDate());
+        assertEquals(1672655415250L, item.getPubDateMillis());
+        assertTrue(item.hasPubDate());
+    }
+
+    @Test
+    @DisplayName("Should handle missing publication date")
+    void shouldHandleMissingPublicationDate() {
+        // When
+        RssItem item = RssItem.builder().title("No date").pubDate(null).build();
+
+        // Then
+        assertNull(item.getPubDate());
+        assertFalse(item.hasPubDate());
+        assertEquals(Long.MIN_VALUE, item.getPubDateMillis());
+    }
+
+    @Test
+    @DisplayName("Should handle dates before epoch")
+    void shouldHandleDatesBeforeEpoch() {
+        // Given
+        LocalDateTime date = LocalDateTime.of(1969, 12, 31, 23, 59, 59, 500_000_000);
+
+        // When
+        RssItem item = RssItem.builder().pubDate(date).build();
+
+        // Then
+        assertEquals(-500, item.getPubDateMillis());
+        assertEquals(date, item.getPubDate());
+    }
+
+    @Test
+    @DisplayName("Should compare items by content")
+    void shouldCompareItemsByContent() {
+        // Given
+        RssItem item = RssItem.builder().title("A").link("https://example.com/a").pubDateMillis(1000).build();
+
+        // When
+        RssItem copy = item.toBuilder().build();
+        RssItem changed = item.toBuilder().title("B").build();
+
+        // Then
+        assertEquals(item, copy);
+        assertEquals(item.hashCode(), copy.hashCode());
+        assertNotEquals(item, changed);
+    }
+
+    @Test
+    @DisplayName("Should expose feed items as unmodifiable copy")
+    void shouldExposeFeedItemsAsUnmodifiableCopy() {
+        // Given
+        List<RssItem> items = new ArrayList<>();
+        items.add(RssItem.builder().title("A").build());
+        RssFeed feed = new RssFeed();
+
+        // When
+        feed.setItems(items);
+        items.add(RssItem.builder().title("B").build());
+
+        // Then
+        assertEquals(1, feed.getItems().size());
+        assertThrows(UnsupportedOperationException.class,
+            () -> feed.getItems().add(RssItem.builder().build()));
+        assertTrue(new RssFeed().getItems().isEmpty());
+    }
+}
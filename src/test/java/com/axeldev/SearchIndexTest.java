@@ -0,0 +1,211 @@
+package com.axeldev;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitaires pour la classe SearchIndex
+ */
+@DisplayName("SearchIndex Tests")
+class SearchIndexTest {
+
+    private SearchIndex index;
+    private FeedCache cache;
+
+    @BeforeEach
+    void setUp() {
+        index = new SearchIndex();
+        cache = new FeedCache(60000);
+        cache.addListener(index.asCacheListener());
+    }
+
+    @Test
+    @DisplayName("Should find items by term in title or description")
+    void shouldFindItemsByTermInTitleOrDescription() {
+        // Given
+        store("https://example.com/a.xml",
+            item("Java virtual threads", "Loom is <b>here</b>"),
+            item("Rust async", "Tokio &amp; threads"));
+
+        // Then
+        assertEquals(List.of("Rust async", "Java virtual threads"), titles(index.searchTerm("threads")));
+        assertEquals(List.of("Java virtual threads"), titles(index.searchTerm("LOOM")));
+        assertTrue(index.searchTerm("amp").isEmpty());
+        assertTrue(index.searchTerm("b").isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should combine terms with AND")
+    void shouldCombineTermsWithAnd() {
+        // Given
+        store("https://example.com/a.xml",
+            item("Java virtual threads", "Loom"),
+            item("Java records", "Valhalla"),
+            item("Go routines", "threads"));
+
+        // Then
+        assertEquals(List.of("Java virtual threads"), titles(index.searchAll("java", "threads")));
+        assertTrue(index.searchAll("java", "unknown").isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should match exact phrases")
+    void shouldMatchExactPhrases() {
+        // Given
+        store("https://example.com/a.xml",
+            item("Virtual threads in Java", ""),
+            item("Threads are not virtual", ""));
+
+        // Then
+        assertEquals(List.of("Virtual threads in Java"), titles(index.searchPhrase("virtual threads")));
+        assertEquals(List.of("Virtual threads in Java"), titles(index.search("java \"virtual threads\"")));
+        assertEquals(2, index.search("virtual threads").size());
+        assertTrue(index.searchPhrase("java threads").isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should follow cache refreshes and removals")
+    void shouldFollowCacheRefreshesAndRemovals() throws Exception {
+        // Given
+        FeedCache expiring = new FeedCache(0);
+        expiring.addListener(index.asCacheListener());
+        String url = "https://example.com/a.xml";
+        RssItem kept = item("Kept story", "");
+        expiring.get(url, () -> feed(kept, item("Old story", "")));
+        Thread.sleep(5);
+
+        // When - Rafraîchissement: un item conservé, un remplacé
+        expiring.get(url, () -> feed(kept, item("New story", "")));
+
+        // Then
+        assertEquals(2, index.size());
+        assertTrue(index.searchTerm("old").isEmpty());
+        assertEquals(List.of("New story", "Kept story"), titles(index.searchTerm("story")));
+
+        // When - Suppression du flux
+        expiring.remove(url);
+
+        // Then
+        assertEquals(0, index.size());
+        assertTrue(index.searchTerm("story").isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should ignore cache notifications older than the last one applied")
+    void shouldIgnoreCacheNotificationsOlderThanTheLastOneApplied() {
+        // Given - Notifications faites hors du verrou du cache: deux threads peuvent les livrer dans le désordre
+        FeedCacheListener listener = index.asCacheListener();
+        String url = "https://example.com/a.xml";
+
+        // When
+        listener.onStore(url, feed(item("Second version", "")), null, 2);
+        listener.onStore(url, feed(item("First version", "")), null, 1);
+        listener.onRemove(url, null, 3);
+        listener.onStore(url, feed(item("Late version", "")), null, 2);
+
+        // Then
+        assertEquals(0, index.size());
+        assertTrue(index.searchTerm("version").isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should forget the versions of removed feeds")
+    void shouldForgetTheVersionsOfRemovedFeeds() {
+        // Given
+        FeedCacheListener listener = index.asCacheListener();
+        long version = 0;
+
+        // When - Beaucoup plus d'URL vues que de retraits récents retenus
+        for (int f = 0; f < 3000; f++) {
+            String url = "https://example.com/" + f + ".xml";
+            listener.onStore(url, feed(item("Story " + f, "")), null, ++version);
+            listener.onRemove(url, null, ++version);
+        }
+        listener.onStore("https://example.com/kept.xml", feed(item("Kept", "")), null, ++version);
+
+        // Then
+        assertEquals(1, index.size());
+        assertTrue(index.trackedUrls() <= 1025);
+    }
+
+    @Test
+    @DisplayName("Should keep the angle brackets of plain text descriptions")
+    void shouldKeepTheAngleBracketsOfPlainTextDescriptions() {
+        // Given - Description déjà en texte brut, et description HTML
+        RssItem text = RssItem.builder().title("Maths").description("a < b and c > d")
+            .descriptionMode(DescriptionMode.TEXT).build();
+        RssItem html = item("Markup", "<p class=\"hidden\">visible</p>");
+
+        // When
+        store("https://example.com/a.xml", text, html);
+
+        // Then
+        assertEquals(List.of("Maths"), titles(index.search("and")));
+        assertEquals(List.of("Maths"), titles(index.search("\"a b and c d\"")));
+        assertEquals(List.of("Markup"), titles(index.search("visible")));
+        assertTrue(index.search("hidden").isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should stay consistent after compaction")
+    void shouldStayConsistentAfterCompaction() {
+        // Given - Beaucoup de flux ajoutés puis retirés pour déclencher la compaction
+        for (int f = 0; f < 30; f++) {
+            List<RssItem> items = new ArrayList<>();
+            for (int i = 0; i < 100; i++) {
+                items.add(item("Story " + f + " number " + i, "common words"));
+            }
+            store("https://example.com/" + f + ".xml", items.toArray(new RssItem[0]));
+        }
+        for (int f = 0; f < 29; f++) {
+            cache.remove("https://example.com/" + f + ".xml");
+        }
+
+        // Then
+        assertEquals(100, index.size());
+        assertEquals(100, index.search("common").size());
+        assertEquals(1, index.search("\"number 7\" 29").size());
+    }
+
+    @Test
+    @DisplayName("Should index feeds read through Feed4j")
+    void shouldIndexFeedsReadThroughFeed4j() throws Exception {
+        // Given
+        Feed4j feed4j = new Feed4j(new Feed4jConfig().setSearchIndexEnabled(true));
+        try (LocalFeedServer server = new LocalFeedServer().serve("/feed.xml", 200, LocalFeedServer.rss("A",
+                LocalFeedServer.item("Kotlin coroutines", "http://localhost/1", "Mon, 02 Jan 2023 10:00:00 GMT")))) {
+
+            // When
+            feed4j.ReadFeed(server.url("/feed.xml"));
+
+            // Then
+            assertEquals(1, feed4j.search("coroutines").size());
+            assertThrows(IllegalStateException.class, () -> new Feed4j().search("coroutines"));
+        }
+    }
+
+    private void store(String url, RssItem... items) {
+        cache.get(url, () -> feed(items));
+    }
+
+    private static RssFeed feed(RssItem... items) {
+        RssFeed feed = new RssFeed();
+        feed.setItems(List.of(items));
+        return feed;
+    }
+
+    private static RssItem item(String title, String description) {
+        return RssItem.builder().title(title).description(description).build();
+    }
+
+    private static List<String> titles(List<RssItem> items) {
+        return items.stream().map(RssItem::getTitle).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,29 @@
+package com.axeldev;
+
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Processus auxiliaire des tests du cache partagé: met en cache un flux
+ * dans le fichier partagé donné, puis se termine.
+ * Arguments: fichier partagé, URL du flux, titre du flux
+ */
+public class SharedCacheProcess {
+
+    public static void main(String[] args) throws Exception {
+        FeedCache cache = new FeedCache(60000);
+        cache.attachSharedStore(new SharedFeedStore(Path.of(args[0]), 64, 16384));
+
+        RssFeed feed = new RssFeed();
+        feed.setTitle(args[2]);
+        feed.setLink("http://localhost/");
+        feed.setDescription("Écrit par un autre processus");
+        feed.setItems(List.of(RssItem.builder()
+            .title(args[2] + " item")
+            .link(args[1] + "#1")
+            .description("Description")
+            .guid(args[1] + "#1")
+            .build()));
+        cache.getResult(args[1], () -> FeedResult.success(feed));
+    }
+}
@@ -0,0 +1,343 @@
+package com.axeldev;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitaires pour le cache partagé entre processus (SharedFeedStore et FeedCodec)
+ */
+@DisplayName("SharedFeedStore Tests")
+class SharedFeedStoreTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    @DisplayName("Should encode and decode every feed and item field")
+    void shouldEncodeAndDecodeEveryFeedAndItemField() {
+        // Given
+        RssFeed feed = new RssFeed();
+        feed.setTitle("Podcast");
+        feed.setLink("https://example.com/");
+        feed.setDescription("Épisodes");
+        feed.setTtl(60);
+        feed.setLastBuildDate(LocalDateTime.of(2024, 3, 1, 10, 30, 15));
+        feed.setImage(new RssImage("https://example.com/logo.png", "Logo", "https://example.com/", 144, 144));
+        RssItem item = RssItem.builder()
+            .title("Épisode 1")
+            .link("https://example.com/1")
+            .description("Premier épisode")
+            .pubDate(LocalDateTime.of(2024, 2, 28, 8, 0))
+            .guid("ep-1")
+            .author("Alice")
+            .categories(List.of("Tech", "Java"))
+            .enclosures(List.of(new RssEnclosure("https://example.com/1.mp3", 1234, "audio/mpeg")))
+            .mediaContents(List.of(new MediaContent("https://example.com/1.mp4", "video/mp4", "video", 99, 640, 360, 120)))
+            .thumbnailUrl("https://example.com/1.jpg")
+            .duplicateOf("https://other.com/1")
+            .build();
+        feed.setItems(List.of(item, RssItem.builder().title("Sans date").link("https://example.com/2").build()));
+
+        // When
+        RssFeed decoded = FeedCodec.decode(ByteBuffer.wrap(FeedCodec.encode(feed)));
+
+        // Then
+        assertEquals("Podcast", decoded.getTitle());
+        assertEquals("Épisodes", decoded.getDescription());
+        assertEquals(60, decoded.getTtl());
+        assertEquals(feed.getLastBuildDate(), decoded.getLastBuildDate());
+        assertEquals("https://example.com/logo.png", decoded.getImage().getUrl());
+        assertEquals(144, decoded.getImage().getHeight());
+        assertEquals(feed.getItems(), decoded.getItems());
+        assertEquals("https://other.com/1", decoded.getItems().get(0).getDuplicateOf());
+        assertNull(decoded.getItems().get(1).getPubDate());
+    }
+
+    @Test
+    @DisplayName("Should reject truncated payloads")
+    void shouldRejectTruncatedPayloads() {
+        // Given
+        RssFeed feed = new RssFeed();
+        feed.setTitle("Flux");
+        feed.setItems(List.of(RssItem.builder().title("Item").link("https://example.com/1").build()));
+        byte[] encoded = FeedCodec.encode(feed);
+
+        // When / Then
+        assertThrows(IllegalArgumentException.class,
+            () -> FeedCodec.decode(ByteBuffer.wrap(Arrays.copyOf(encoded, encoded.length - 3))));
+    }
+
+    @Test
+    @DisplayName("Should reject garbage with IllegalArgumentException only")
+    void shouldRejectGarbageWithIllegalArgumentExceptionOnly() {
+        // Given - Flux valide dont quelques octets après la version sont remplacés au hasard
+        RssFeed feed = new RssFeed();
+        feed.setTitle("Flux");
+        feed.setLastBuildDate(LocalDateTime.of(2024, 3, 1, 10, 0));
+        feed.setItems(List.of(RssItem.builder().title("Item").link("https://example.com/1")
+            .pubDate(LocalDateTime.of(2024, 2, 28, 8, 0)).build()));
+        byte[] encoded = FeedCodec.encode(feed);
+        Random random = new Random(42);
+
+        for (int round = 0; round < 2000; round++) {
+            byte[] garbage = encoded.clone();
+            for (int i = 0; i < 3; i++) {
+                garbage[1 + random.nextInt(garbage.length - 1)] = (byte) random.nextInt(256);
+            }
+
+            // When / Then - Décodé, ou rejeté comme invalide: jamais d'autre exception
+            try {
+                FeedCodec.decode(ByteBuffer.wrap(garbage));
+            } catch (IllegalArgumentException e) {
+                // Attendu
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Should take over slots only when their writer is stale")
+    void shouldTakeOverSlotsOnlyWhenTheirWriterIsStale() throws Exception {
+        // Given - Tous les emplacements verrouillés par un écrivain (séquence impaire)
+        Path file = dir.resolve("cache.bin");
+        SharedFeedStore store = new SharedFeedStore(file, 4, 4096);
+        long now = System.currentTimeMillis();
+
+        // When / Then - Verrou récent: emplacement laissé à son écrivain
+        lockAllSlots(file, store, now);
+        assertFalse(store.put("https://a.com/feed", bytes("v1"), now, now + 60000, 0));
+
+        // When / Then - Verrou de plus de deux secondes: emplacement repris
+        lockAllSlots(file, store, now - 5000);
+        assertTrue(store.put("https://a.com/feed", bytes("v2"), now, now + 60000, 0));
+        assertEquals("v2", new String(store.get("https://a.com/feed").payload, StandardCharsets.UTF_8));
+    }
+
+        @Test
+    @DisplayName("Should store, replace and expire entries")
+    void shouldStoreReplaceAndExpireEntries() throws Exception {
+        // Given
+        SharedFeedStore store = new SharedFeedStore(dir.resolve("cache.bin"), 16, 4096);
+        long now = System.currentTimeMillis();
+
+        // When
+        assertTrue(store.put("https://a.com/feed", bytes("v1"), now, now + 60000, 42));
+        assertTrue(store.put("https://a.com/feed", bytes("v2"), now + 1, now + 60000, 43));
+        store.put("https://b.com/feed", bytes("expired"), now - 2000, now - 1000, 0);
+
+        // Then
+        SharedFeedStore.Entry entry = store.get("https://a.com/feed");
+        assertEquals("v2", new String(entry.payload, StandardCharsets.UTF_8));
+        assertEquals(43, entry.contentHash);
+        assertEquals(now + 1, entry.storedAt);
+        assertNull(store.get("https://b.com/feed"));
+        assertNull(store.get("https://c.com/feed"));
+        assertFalse(store.put("https://a.com/feed", new byte[4096], now, now + 60000, 0));
+
+        store.remove("https://a.com/feed");
+        assertNull(store.get("https://a.com/feed"));
+    }
+
+    @Test
+    @DisplayName("Should renew unchanged entries without rewriting them")
+    void shouldRenewUnchangedEntriesWithoutRewritingThem() throws Exception {
+        // Given
+        SharedFeedStore store = new SharedFeedStore(dir.resolve("cache.bin"), 16, 2048);
+        long now = System.currentTimeMillis();
+        store.put("https://a.com/feed", bytes("shared"), now - 5000, now - 1000, 42);
+
+        // When / Then - Seule la même empreinte renouvelle une entrée, même expirée
+        assertFalse(store.touch("https://a.com/feed", 7, now, now + 60000));
+        assertFalse(store.touch("https://b.com/feed", 42, now, now + 60000));
+        assertFalse(store.touch("https://a.com/feed", 0, now, now + 60000));
+        assertNull(store.get("https://a.com/feed"));
+        assertTrue(store.touch("https://a.com/feed", 42, now, now + 60000));
+        SharedFeedStore.Entry entry = store.get("https://a.com/feed");
+        assertEquals("shared", new String(entry.payload, StandardCharsets.UTF_8));
+        assertEquals(now, entry.storedAt);
+        assertEquals(now + 60000, entry.expiresAt);
+
+        // Une entrée retirée n'est pas ressuscitée
+        store.remove("https://a.com/feed");
+        assertFalse(store.touch("https://a.com/feed", 42, now, now + 60000));
+        assertNull(store.get("https://a.com/feed"));
+    }
+
+    @Test
+    @DisplayName("Should not load shared entries from contains")
+    void shouldNotLoadSharedEntriesFromContains() throws Exception {
+        // Given - Flux écrit par un autre processus
+        SharedFeedStore store = new SharedFeedStore(dir.resolve("cache.bin"), 16, 16384);
+        RssFeed feed = new RssFeed();
+        feed.setTitle("shared");
+        long now = System.currentTimeMillis();
+        store.put("https://a.com/feed", FeedCodec.encode(feed), now, now + 60000, 0);
+        FeedCache cache = new FeedCache(60000);
+        cache.attachSharedStore(store);
+
+        // When / Then
+        assertFalse(cache.contains("https://a.com/feed"));
+        assertEquals(0, cache.size());
+        assertEquals("shared", cache.getIfPresent("https://a.com/feed").getFeed().getTitle());
+        assertTrue(cache.contains("https://a.com/feed"));
+    }
+
+    @Test
+    @DisplayName("Should keep the geometry of an existing file")
+    void shouldKeepTheGeometryOfAnExistingFile() throws Exception {
+        // Given
+        Path file = dir.resolve("cache.bin");
+        SharedFeedStore first = new SharedFeedStore(file, 32, 2048);
+        long now = System.currentTimeMillis();
+        first.put("https://a.com/feed", bytes("shared"), now, now + 60000, 0);
+
+        // When
+        SharedFeedStore second = new SharedFeedStore(file, 8, 8192);
+
+        // Then
+        assertEquals(32, second.slotCount());
+        assertEquals(2048, second.slotBytes());
+        assertEquals("shared", new String(second.get("https://a.com/feed").payload, StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("Should leave files of another format untouched")
+    void shouldLeaveFilesOfAnotherFormatUntouched() throws Exception {
+        // Given - Fichier créé par une version précédente, peut-être encore mappé ailleurs
+        Path file = dir.resolve("cache.bin");
+        byte[] previous = new byte[64 + 32 * 2048];
+        ByteBuffer.wrap(previous).putInt(0x46344A43).putInt(1).putInt(32).putInt(2048);
+        Files.write(file, previous);
+
+        // When / Then
+        assertThrows(SharedFeedStore.IncompatibleFormatException.class, () -> new SharedFeedStore(file, 32, 2048));
+        assertArrayEquals(previous, Files.readAllBytes(file));
+        Feed4j feed4j = new Feed4j(new Feed4jConfig().setSharedCacheFile(file));
+        assertEquals(0, feed4j.getCacheSize());
+        assertArrayEquals(previous, Files.readAllBytes(file));
+    }
+
+    @Test
+    @DisplayName("Should never expose a torn entry to concurrent readers")
+    void shouldNeverExposeATornEntryToConcurrentReaders() throws Exception {
+        // Given - Deux mappings du même fichier, comme deux processus
+        Path file = dir.resolve("cache.bin");
+        SharedFeedStore writerStore = new SharedFeedStore(file, 4, 4096);
+        SharedFeedStore readerStore = new SharedFeedStore(file, 4, 4096);
+        String url = "https://a.com/feed";
+        AtomicBoolean running = new AtomicBoolean(true);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+
+        // When - Des écrivains écrivent des contenus uniformes de longueurs différentes
+        List<Future<?>> writers = new ArrayList<>();
+        for (int w = 0; w < 2; w++) {
+            int writer = w;
+            writers.add(executor.submit(() -> {
+                for (int i = 0; running.get(); i++) {
+                    byte[] payload = new byte[100 + (i % 50) * 20];
+                    Arrays.fill(payload, (byte) ('a' + (i + writer) % 26));
+                    long now = System.currentTimeMillis();
+                    writerStore.put(url, payload, now, now + 60000, payload[0]);
+                }
+            }));
+        }
+        List<Future<Integer>> readers = new ArrayList<>();
+        for (int r = 0; r < 2; r++) {
+            readers.add(executor.submit(() -> {
+                int reads = 0;
+                long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(300);
+                while (System.nanoTime() < deadline) {
+                    SharedFeedStore.Entry entry = readerStore.get(url);
+                    if (entry != null) {
+                        // Then - Contenu jamais mélangé entre deux écritures
+                        for (byte b : entry.payload) {
+                            assertEquals(entry.payload[0], b);
+                        }
+                        assertEquals(entry.payload[0], entry.contentHash);
+                        reads++;
+                    }
+                }
+                return reads;
+            }));
+        }
+        int reads = 0;
+        for (Future<Integer> reader : readers) {
+            reads += reader.get();
+        }
+        running.set(false);
+        for (Future<?> writer : writers) {
+            writer.get();
+        }
+        executor.shutdown();
+
+        assertTrue(reads > 0);
+    }
+
+    @Test
+    @DisplayName("Should serve feeds cached by another JVM")
+    void shouldServeFeedsCachedByAnotherJvm() throws Exception {
+        // Given - Deux processus mettent chacun un flux dans le fichier partagé
+        Path file = dir.resolve("cache.bin");
+        for (String name : List.of("alpha", "beta")) {
+            Process process = new ProcessBuilder(
+                    System.getProperty("java.home") + File.separator + "bin" + File.separator + "java",
+                    "-cp", System.getProperty("java.class.path"),
+                    SharedCacheProcess.class.getName(),
+                    file.toString(), "https://" + name + ".com/feed", name)
+                .inheritIO()
+                .start();
+            assertTrue(process.waitFor(60, TimeUnit.SECONDS));
+            assertEquals(0, process.exitValue());
+        }
+
+        // When - Ce processus lit les deux flux sans jamais les charger
+        FeedCache cache = new FeedCache(60000);
+        cache.attachSharedStore(new SharedFeedStore(file, 64, 16384));
+        FeedResult alpha = cache.getResult("https://alpha.com/feed", () -> fail("Flux non partagé"));
+        FeedResult beta = cache.getResult("https://beta.com/feed", () -> fail("Flux non partagé"));
+
+        // Then
+        assertTrue(alpha.isSuccess());
+        assertEquals("alpha", alpha.getFeed().getTitle());
+        assertEquals("https://alpha.com/feed#1", alpha.getFeed().getItems().get(0).getGuid());
+        assertEquals("beta", beta.getFeed().getTitle());
+        assertEquals(2, cache.size());
+    }
+
+    /**
+     * Écrit dans chaque emplacement une séquence verrouillée à la date donnée, comme un écrivain en cours
+     */
+    private static void lockAllSlots(Path file, SharedFeedStore store, long lockedAt) throws Exception {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_WRITE, 0, channel.size());
+            for (int slot = 0; slot < store.slotCount(); slot++) {
+                mapped.putLong(64 + slot * store.slotBytes(), (lockedAt << 22) | 1);
+            }
+        }
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,56 @@
+package com.axeldev;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitaires pour la classe StringPool
+ */
+@DisplayName("StringPool Tests")
+class StringPoolTest {
+
+    @Test
+    @DisplayName("Should return pooled instance for equal strings")
+    void shouldReturnPooledInstanceForEqualStrings() {
+        // Given
+        StringPool pool = new StringPool(64);
+        String first = new String("Breaking news");
+        String second = new String("Breaking news");
+
+        // When
+        String pooledFirst = pool.intern(first);
+        String pooledSecond = pool.intern(second);
+
+        // Then
+        assertSame(first, pooledFirst);
+        assertSame(first, pooledSecond);
+    }
+
+    @Test
+    @DisplayName("Should round capacity to power of two")
+    void shouldRoundCapacityToPowerOfTwo() {
+        assertEquals(64, new StringPool(64).capacity());
+        assertEquals(128, new StringPool(100).capacity());
+        assertEquals(2, new StringPool(0).capacity());
+    }
+
+    @Test
+    @DisplayName("Should stay bounded and return equal values")
+    void shouldStayBoundedAndReturnEqualValues() {
+        // Given
+        StringPool pool = new StringPool(16);
+
+        // When - Beaucoup plus de valeurs que la capacité
+        for (int i = 0; i < 10000; i++) {
+            String value = "value-" + i;
+            assertEquals(value, pool.intern(value));
+        }
+
+        // Then
+        assertEquals(16, pool.capacity());
+        assertNull(pool.intern(null));
+        assertEquals("", pool.intern(""));
+    }
+}
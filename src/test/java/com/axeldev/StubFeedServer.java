@@ -0,0 +1,223 @@
+package com.axeldev;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Serveur HTTP local qui sert des flux synthétiques pour les tests de charge:
+ * taille, latence, taux d'erreur, comportement ETag et corps envoyés au goutte-à-goutte
+ * sont configurables. Les flux sont servis sur /feed/{n}.xml.
+ * Les mesures supposent sun.net.httpserver.nodelay=true (positionné par surefire): sans lui,
+ * l'algorithme de Nagle ajoute environ 40 ms à chaque réponse.
+ */
+class StubFeedServer implements AutoCloseable {
+
+    /**
+     * Comportement ETag du serveur
+     */
+    enum EtagMode {
+        /** Pas d'ETag */
+        NONE,
+        /** ETag stable par flux: If-None-Match correspondant renvoie 304 */
+        STABLE,
+        /** Nouvelle version (et nouvel ETag) à chaque requête */
+        ROTATING
+    }
+
+    private static final DateTimeFormatter RFC_1123 = DateTimeFormatter.RFC_1123_DATE_TIME;
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final AtomicLong version = new AtomicLong();
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+    private final LongAdder notModified = new LongAdder();
+    private final LongAdder bytesSent = new LongAdder();
+
+    private volatile int itemCount = 20;
+    private volatile int descriptionBytes = 200;
+    private volatile long minLatencyMs = 0;
+    private volatile long maxLatencyMs = 0;
+    private volatile double errorRate = 0;
+    private volatile EtagMode etagMode = EtagMode.NONE;
+    private volatile int dripChunkBytes = 0;
+    private volatile long dripDelayMs = 0;
+
+    /**
+     * @param threads Threads de traitement des requêtes
+     */
+    StubFeedServer(int threads) throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 256);
+        executor = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "stub-feed-server");
+            thread.setDaemon(true);
+            return thread;
+        });
+        server.setExecutor(executor);
+        server.createContext("/feed/", this::handle);
+        server.start();
+    }
+
+    /**
+     * Nombre d'items et taille de la description de chaque item
+     */
+    StubFeedServer size(int itemCount, int descriptionBytes) {
+        this.itemCount = Math.max(0, itemCount);
+        this.descriptionBytes = Math.max(0, descriptionBytes);
+        return this;
+    }
+
+    /**
+     * Latence ajoutée avant la réponse, tirée uniformément entre les deux bornes
+     */
+    StubFeedServer latency(long minMs, long maxMs) {
+        this.minLatencyMs = Math.max(0, minMs);
+        this.maxLatencyMs = Math.max(this.minLatencyMs, maxMs);
+        return this;
+    }
+
+    /**
+     * Proportion de requêtes qui reçoivent une erreur 503 (0 à 1)
+     */
+    StubFeedServer errorRate(double errorRate) {
+        this.errorRate = Math.min(1.0, Math.max(0.0, errorRate));
+        return this;
+    }
+
+    StubFeedServer etag(EtagMode etagMode) {
+        this.etagMode = etagMode;
+        return this;
+    }
+
+    /**
+     * Envoie le corps par morceaux séparés d'une pause (0 = corps envoyé d'un bloc)
+     */
+    StubFeedServer drip(int chunkBytes, long delayMs) {
+        this.dripChunkBytes = Math.max(0, chunkBytes);
+        this.dripDelayMs = Math.max(0, delayMs);
+        return this;
+    }
+
+    /**
+     * Retourne l'URL du flux numéro n
+     */
+    String url(int n) {
+        return "http://127.0.0.1:" + server.getAddress().getPort() + "/feed/" + n + ".xml";
+    }
+
+    long requests() {
+        return requests.sum();
+    }
+
+    long errors() {
+        return errors.sum();
+    }
+
+    long notModified() {
+        return notModified.sum();
+    }
+
+    long bytesSent() {
+        return bytesSent.sum();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        requests.increment();
+        try (exchange) {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            if (maxLatencyMs > 0) {
+                sleep(minLatencyMs == maxLatencyMs ? minLatencyMs : random.nextLong(minLatencyMs, maxLatencyMs + 1));
+            }
+            if (errorRate > 0 && random.nextDouble() < errorRate) {
+                errors.increment();
+                exchange.sendResponseHeaders(503, -1);
+                return;
+            }
+
+            String path = exchange.getRequestURI().getPath();
+            EtagMode mode = etagMode;
+            long feedVersion = mode == EtagMode.ROTATING ? version.incrementAndGet() : 0;
+            String etag = "\"" + path.hashCode() + "-" + feedVersion + "\"";
+            if (mode == EtagMode.STABLE && etag.equals(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+                notModified.increment();
+                exchange.getResponseHeaders().set("ETag", etag);
+                exchange.sendResponseHeaders(304, -1);
+                return;
+            }
+
+            byte[] body = feed(path, feedVersion).getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", "application/rss+xml");
+            if (mode != EtagMode.NONE) {
+                exchange.getResponseHeaders().set("ETag", etag);
+            }
+            int chunk = dripChunkBytes;
+            exchange.sendResponseHeaders(200, chunk > 0 ? 0 : body.length);
+            OutputStream out = exchange.getResponseBody();
+            if (chunk > 0) {
+                for (int offset = 0; offset < body.length; offset += chunk) {
+                    out.write(body, offset, Math.min(chunk, body.length - offset));
+                    out.flush();
+                    sleep(dripDelayMs);
+                }
+            } else {
+                out.write(body);
+            }
+            bytesSent.add(body.length);
+        }
+    }
+
+    /**
+     * Construit un flux synthétique: items du plus récent au plus ancien, une version
+     * plus récente ajoute un item en tête
+     */
+    private String feed(String path, long feedVersion) {
+        int items = itemCount;
+        StringBuilder sb = new StringBuilder(256 + items * (descriptionBytes + 256))
+            .append("<?xml version=\"1.0\"?><rss version=\"2.0\"><channel>")
+            .append("<title>Stub ").append(path).append("</title>")
+            .append("<link>http://localhost").append(path).append("</link>")
+            .append("<description>Flux synthétique</description>");
+        ZonedDateTime newest = ZonedDateTime.of(2024, 1, 1, 0, 0, 0, 0, ZoneOffset.UTC).plusMinutes(feedVersion);
+        for (int i = 0; i < items; i++) {
+            long id = feedVersion - i;
+            sb.append("<item><title>Item ").append(id).append("</title>")
+                .append("<link>http://localhost").append(path).append('/').append(id).append("</link>")
+                .append("<guid>").append(path).append('/').append(id).append("</guid>")
+                .append("<pubDate>").append(RFC_1123.format(newest.minusMinutes(i))).append("</pubDate>")
+                .append("<description>");
+            for (int b = 0; b < descriptionBytes; b++) {
+                sb.append((char) ('a' + (b + i) % 26));
+            }
+            sb.append("</description></item>");
+        }
+        return sb.append("</channel></rss>").toString();
+    }
+
+    private static void sleep(long ms) {
+        try {
+            TimeUnit.MILLISECONDS.sleep(ms);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+}